@@ -0,0 +1,69 @@
+package com.chess.benchmarks;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtils;
+import com.chess.engine.pieces.Piece;
+
+/**
+ * This class holds the fixed set of boards every benchmark runs on, so results stay comparable between runs.
+ * Each benchmark takes the board's name as a JMH parameter.
+ */
+public final class BenchmarkCorpus {
+    // Opening, middlegames with castles/En Passant/promotions, and endgames
+    public static final String INITIAL = "initial";
+    public static final String KIWIPETE = "kiwipete";
+    public static final String PROMOTIONS = "promotions";
+    public static final String MIDDLEGAME = "middlegame";
+    public static final String ROOK_ENDGAME = "rookEndgame";
+    public static final String CHECKMATE = "checkmate";
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    private BenchmarkCorpus() {}
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * @param name one of the corpus names
+     * @return the board's FEN
+     */
+    public static String GetFen(final String name) {
+        return switch (name) {
+            case INITIAL -> "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+            case KIWIPETE -> "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1";
+            case PROMOTIONS -> "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1";
+            case MIDDLEGAME -> "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10";
+            case ROOK_ENDGAME -> "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1";
+            case CHECKMATE -> "rnb1kbnr/pppp1ppp/8/4p3/6Pq/5P2/PPPPP2P/RNBQKBNR w KQkq - 1 3";
+            default -> throw new IllegalArgumentException("No corpus board named " + name);
+        };
+    }
+
+    /**
+     * @param name one of the corpus names
+     * @return a newly built board (with nothing calculated yet)
+     */
+    public static Board CreateBoard(final String name) {
+        return FenUtils.CreateBoardFromFen(GetFen(name));
+    }
+
+    /**
+     * @param board the board to copy
+     * @return a Builder holding the board's pieces, move maker, and En Passant Pawn
+     */
+    public static Board.Builder CreateBuilder(final Board board) {
+        final Board.Builder builder = new Board.Builder();
+        for (final Alliance alliance : Alliance.values()) {
+            for (final Piece piece : board.getPieces(alliance)) {
+                builder.setPiece(piece);
+            }
+        }
+        builder.setMoveMaker(board.getCurrentPlayer().getPlayerAlliance());
+        if (board.getEnPassantPawn() != null) {
+            builder.setEnPassantPawn(board.getEnPassantPawn());
+        }
+
+        return builder;
+    }
+}
@@ -0,0 +1,32 @@
+package com.chess.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * This class runs the benchmarks with the GC profiler, so every result has ops/sec and bytes allocated per
+ * operation.
+ */
+public final class BenchmarkRunner {
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    private BenchmarkRunner() {}
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * @param args optionally a regular expression picking the benchmarks to run (all of them otherwise)
+     * @throws RunnerException if a benchmark fails
+     */
+    public static void main(final String[] args) throws RunnerException {
+        final Options options = new OptionsBuilder()
+                .include(args.length > 0 ? args[0] : "com\\.chess\\.benchmarks\\..*")
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
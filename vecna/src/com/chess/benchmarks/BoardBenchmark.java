@@ -0,0 +1,61 @@
+package com.chess.benchmarks;
+
+import com.chess.engine.board.Board;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.chess.benchmarks.BenchmarkCorpus.*;
+
+/**
+ * This class measures building boards and asking a new board whether the side to move is checkmated.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BoardBenchmark {
+    @Param({ INITIAL, KIWIPETE, PROMOTIONS, MIDDLEGAME, ROOK_ENDGAME, CHECKMATE })
+    public String boardName;
+
+    private Board.Builder builder;
+    private Board board;
+    //********************************************************
+    //*************************Setup**************************
+    //********************************************************
+    /**
+     * Fills a Builder with the corpus board's pieces.
+     */
+    @Setup
+    public void setup() {
+        this.builder = CreateBuilder(CreateBoard(this.boardName));
+    }
+
+    /**
+     * Builds a new board before each checkmate call, since a board only calculates its moves once.
+     */
+    @Setup(Level.Invocation)
+    public void buildBoard() {
+        this.board = this.builder.build();
+    }
+    //********************************************************
+    //**********************Benchmarks************************
+    //********************************************************
+    /**
+     * @return a board built from the corpus board's pieces
+     */
+    @Benchmark
+    public Board build() {
+        return this.builder.build();
+    }
+
+    /**
+     * @return whether the side to move is checkmated on a board that has not calculated its moves yet
+     */
+    @Benchmark
+    public boolean isInCheckmate() {
+        return this.board.getCurrentPlayer().isInCheckmate();
+    }
+}
@@ -0,0 +1,64 @@
+package com.chess.benchmarks;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.move.Move;
+import com.chess.engine.players.Player;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import static com.chess.benchmarks.BenchmarkCorpus.*;
+
+/**
+ * This class measures making moves. One operation makes every move the side to move has, one after another
+ * from the same board.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoveExecutionBenchmark {
+    @Param({ INITIAL, KIWIPETE, PROMOTIONS, MIDDLEGAME, ROOK_ENDGAME, CHECKMATE })
+    public String boardName;
+
+    private Player currentPlayer;
+    private Collection<Move> legalMoves;
+    //********************************************************
+    //*************************Setup**************************
+    //********************************************************
+    /**
+     * Builds the corpus board and calculates the side to move's moves once.
+     */
+    @Setup
+    public void setup() {
+        final Board board = CreateBoard(this.boardName);
+        this.currentPlayer = board.getCurrentPlayer();
+        this.legalMoves = this.currentPlayer.getLegalMoves();
+    }
+    //********************************************************
+    //**********************Benchmarks************************
+    //********************************************************
+    /**
+     * @param blackhole keeps the new boards from being optimized away
+     */
+    @Benchmark
+    public void execute(final Blackhole blackhole) {
+        for (final Move move : this.legalMoves) {
+            blackhole.consume(move.execute());
+        }
+    }
+
+    /**
+     * @param blackhole keeps the move transitions from being optimized away
+     */
+    @Benchmark
+    public void makeMove(final Blackhole blackhole) {
+        for (final Move move : this.legalMoves) {
+            blackhole.consume(this.currentPlayer.makeMove(move));
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.chess.benchmarks;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.move.Move;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.chess.benchmarks.BenchmarkCorpus.*;
+
+/**
+ * This class measures move generation: every piece of the side to move at once, and each piece type alone.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MoveGenerationBenchmark {
+    @Param({ INITIAL, KIWIPETE, PROMOTIONS, MIDDLEGAME, ROOK_ENDGAME, CHECKMATE })
+    public String boardName;
+
+    private Board board;
+    private Collection<Piece> activePieces;
+    private List<List<Piece>> piecesByType;
+    //********************************************************
+    //*************************Setup**************************
+    //********************************************************
+    /**
+     * Builds the corpus board and sorts the side to move's pieces by type.
+     */
+    @Setup
+    public void setup() {
+        this.board = CreateBoard(this.boardName);
+        this.activePieces = this.board.getCurrentPlayer().getActivePieces();
+        this.piecesByType = new ArrayList<>();
+        for (final PieceType pieceType : PieceType.values()) {
+            final List<Piece> pieces = new ArrayList<>();
+            for (final Piece piece : this.activePieces) {
+                if (piece.getPieceType() == pieceType) {
+                    pieces.add(piece);
+                }
+            }
+            this.piecesByType.add(pieces);
+        }
+    }
+    //********************************************************
+    //**********************Benchmarks************************
+    //********************************************************
+    /**
+     * @return the side to move's moves
+     */
+    @Benchmark
+    public Collection<Move> calculateLegalMoves() {
+        return BoardUtils.CalculateLegalMoves(this.activePieces, this.board);
+    }
+
+    /**
+     * @param blackhole keeps the moves from being optimized away
+     */
+    @Benchmark
+    public void pawnLegalMoves(final Blackhole blackhole) {
+        calculatePieceMoves(PieceType.PAWN, blackhole);
+    }
+
+    /**
+     * @param blackhole keeps the moves from being optimized away
+     */
+    @Benchmark
+    public void knightLegalMoves(final Blackhole blackhole) {
+        calculatePieceMoves(PieceType.KNIGHT, blackhole);
+    }
+
+    /**
+     * @param blackhole keeps the moves from being optimized away
+     */
+    @Benchmark
+    public void bishopLegalMoves(final Blackhole blackhole) {
+        calculatePieceMoves(PieceType.BISHOP, blackhole);
+    }
+
+    /**
+     * @param blackhole keeps the moves from being optimized away
+     */
+    @Benchmark
+    public void rookLegalMoves(final Blackhole blackhole) {
+        calculatePieceMoves(PieceType.ROOK, blackhole);
+    }
+
+    /**
+     * @param blackhole keeps the moves from being optimized away
+     */
+    @Benchmark
+    public void queenLegalMoves(final Blackhole blackhole) {
+        calculatePieceMoves(PieceType.QUEEN, blackhole);
+    }
+
+    /**
+     * @param blackhole keeps the moves from being optimized away
+     */
+    @Benchmark
+    public void kingLegalMoves(final Blackhole blackhole) {
+        calculatePieceMoves(PieceType.KING, blackhole);
+    }
+    //********************************************************
+    //********************Helper Methods**********************
+    //********************************************************
+    /**
+     * @param pieceType which of the side to move's pieces calculate their moves
+     * @param blackhole keeps the moves from being optimized away
+     */
+    private void calculatePieceMoves(final PieceType pieceType, final Blackhole blackhole) {
+        for (final Piece piece : this.piecesByType.get(pieceType.ordinal())) {
+            blackhole.consume(piece.calculateLegalMoves(this.board));
+        }
+    }
+}
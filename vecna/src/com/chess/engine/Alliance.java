@@ -36,6 +36,14 @@ public enum Alliance {
             return false;
         }
 
+        /**
+         * @return the Black alliance
+         */
+        @Override
+        public Alliance getOpposingAlliance() {
+            return BLACK;
+        }
+
         /**
          * @param whitePlayer in contention for move maker
          * @param blackPlayer in contention for move maker
@@ -82,6 +90,14 @@ public enum Alliance {
             return true;
         }
 
+        /**
+         * @return the White alliance
+         */
+        @Override
+        public Alliance getOpposingAlliance() {
+            return WHITE;
+        }
+
         /**
          * @param whitePlayer in contention for move maker
          * @param blackPlayer in contention for move maker
@@ -118,6 +134,11 @@ public enum Alliance {
      */
     public abstract boolean isBlack();
 
+    /**
+     * @return the alliance on the other side of the chess board
+     */
+    public abstract Alliance getOpposingAlliance();
+
     /**
      * @param whitePlayer in contention for move maker
      * @param blackPlayer in contention for move maker
@@ -1,9 +1,14 @@
 package com.chess.engine.board;
 
 import com.chess.engine.Alliance;
+import com.chess.engine.board.bitboard.BitBoard;
+import com.chess.engine.board.bitboard.BitBoardUtils;
+import com.chess.engine.board.evaluation.MaterialTable;
+import com.chess.engine.board.evaluation.PieceSquareTables;
 import com.chess.engine.board.move.Move;
 import com.chess.engine.pieces.*;
 import com.chess.engine.board.tile.Tile;
+import com.chess.engine.board.zobrist.Zobrist;
 import com.chess.engine.players.BlackPlayer;
 import com.chess.engine.players.Player;
 import com.chess.engine.players.WhitePlayer;
@@ -16,16 +21,29 @@ import static com.chess.engine.Alliance.*;
 
 /**
  * This class represents the chess board in its entirety.
- * The board is made up of tiles, both occupied and empty.
+ * The board is made up of tiles, both occupied and empty, and is mirrored by a BitBoard for fast queries.
  * The board will be "updated" by creating another board based on a move performed by a player.
  */
 public class Board {
-    private final List<Tile> gameBoard;
+    private final Tile[] gameBoard;
+    private final BitBoard bitBoard;
+    private final long[] attackedTiles;
     private final Collection<Piece> whitePieces;
     private final Collection<Piece> blackPieces;
+    private final King whiteKing;
+    private final King blackKing;
     private final WhitePlayer whitePlayer;
     private final BlackPlayer blackPlayer;
     private final Player currentPlayer;
+    private final Pawn enPassantPawn;
+    private final int castlingRights;
+    private final long zobristKey;
+    private final long pawnKey;
+    private final long materialKey;
+    private final int pieceSquareScore;
+    private final int phase;
+    private final int halfmoveClock;
+    private final int fullmoveNumber;
     //********************************************************
     //**********************Constructor***********************
     //********************************************************
@@ -35,16 +53,36 @@ public class Board {
      */
     private Board(final Builder builder) {
         // Populate the chess board with all necessary occupied and empty tiles
-        this.gameBoard = CreateGameBoard(builder);
-        // Determine White and Black's active pieces
-        this.whitePieces = BoardUtils.CalculateActivePieces(this.gameBoard, WHITE);
-        this.blackPieces = BoardUtils.CalculateActivePieces(this.gameBoard, BLACK);
-        // Calculate White and Black's current legal moves
-        final Collection<Move> whiteStandardLegalMoves = BoardUtils.CalculateLegalMoves(this.whitePieces, this);
-        final Collection<Move> blackStandardLegalMoves = BoardUtils.CalculateLegalMoves(this.blackPieces, this);
-        // Set up the players
-        this.whitePlayer = new WhitePlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
-        this.blackPlayer = new BlackPlayer(this, whiteStandardLegalMoves, blackStandardLegalMoves);
+        this.bitBoard = new BitBoard();
+        this.gameBoard = CreateGameBoard(builder, this.bitBoard);
+        this.enPassantPawn = builder.enPassantPawn;
+        // Every tile each alliance attacks, so check and castle queries are single mask tests
+        this.attackedTiles = new long[] { this.bitBoard.calculateAttacks(WHITE, this.bitBoard.getOccupancy()),
+                                          this.bitBoard.calculateAttacks(BLACK, this.bitBoard.getOccupancy()) };
+        this.castlingRights = BoardUtils.CalculateCastlingRights(this);
+        // Boards made by a move get their key updated from the previous board's key
+        this.zobristKey = builder.zobristKey != null ? builder.zobristKey :
+                          Zobrist.CalculateKey(this.bitBoard,
+                                               builder.nextMoveMaker,
+                                               this.castlingRights,
+                                               getEnPassantTile());
+        // As are the pawn key, piece-square score, and game phase
+        this.pawnKey = builder.pawnKey != null ? builder.pawnKey : Zobrist.CalculatePawnKey(this.bitBoard);
+        this.pieceSquareScore = builder.pieceSquareScore != null ? builder.pieceSquareScore :
+                                PieceSquareTables.CalculateScore(this.bitBoard);
+        this.phase = builder.phase != null ? builder.phase : PieceSquareTables.CalculatePhase(this.bitBoard);
+        this.halfmoveClock = builder.halfmoveClock;
+        this.fullmoveNumber = builder.fullmoveNumber;
+        // White and Black's active pieces and Kings were collected as the builder placed them
+        this.whitePieces = ImmutableList.copyOf(builder.whitePieces);
+        this.blackPieces = ImmutableList.copyOf(builder.blackPieces);
+        this.materialKey = MaterialTable.CalculateMaterialKey(this.whitePieces) +
+                           MaterialTable.CalculateMaterialKey(this.blackPieces);
+        this.whiteKing = builder.whiteKing;
+        this.blackKing = builder.blackKing;
+        // Set up the players (their legal moves are calculated the first time they are asked for)
+        this.whitePlayer = new WhitePlayer(this);
+        this.blackPlayer = new BlackPlayer(this);
         // Designate the current player
         this.currentPlayer = builder.nextMoveMaker.choosePlayer(this.whitePlayer, this.blackPlayer);
     }
@@ -52,16 +90,21 @@ public class Board {
     //*********************Board Creation*********************
     //********************************************************
     /**
-     * @param builder what will be referenced for details about the chess board
-     * @return a list of all the tiles (both occupied and empty) on the chess board
+     * @param builder  what will be referenced for details about the chess board
+     * @param bitBoard the piece sets to be filled in alongside the tiles
+     * @return all the tiles (both occupied and empty) on the chess board, indexed by tile position
      */
-    private static List<Tile> CreateGameBoard(final Builder builder) {
+    private static Tile[] CreateGameBoard(final Builder builder, final BitBoard bitBoard) {
         final Tile[] tiles = new Tile[BoardUtils.NUM_TILES];
         for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
-            tiles[i] = Tile.CreateTile(i, builder.boardConfig.get(i));
+            final Piece piece = builder.boardConfig[i];
+            tiles[i] = Tile.CreateTile(i, piece);
+            if (piece != null) {
+                bitBoard.setPiece(piece);
+            }
         }
 
-        return ImmutableList.copyOf(tiles);
+        return tiles;
     }
 
     /**
@@ -76,6 +119,14 @@ public class Board {
 
         return builder.build();
     }
+
+    /**
+     * @param fen the board in Forsyth-Edwards Notation (the move clocks may be left out)
+     * @return the board the FEN describes
+     */
+    public static Board CreateBoardFromFen(final CharSequence fen) {
+        return FenUtils.CreateBoardFromFen(fen);
+    }
     //********************************************************
     //************************Getters*************************
     //********************************************************
@@ -84,7 +135,39 @@ public class Board {
      * @return the tile with a given position
      */
     public Tile getTile(final int tilePosition) {
-        return this.gameBoard.get(tilePosition);
+        return this.gameBoard[tilePosition];
+    }
+
+    /**
+     * @param tilePosition where the tile is on the chess board
+     * @return whether a piece is on the tile
+     */
+    public boolean isTileOccupied(final int tilePosition) {
+        return this.bitBoard.isTileOccupied(tilePosition);
+    }
+
+    /**
+     * @return the piece sets and occupancy masks of the chess board (must not be modified)
+     */
+    public BitBoard getBitBoard() {
+        return this.bitBoard;
+    }
+
+    /**
+     * @param alliance White/Black
+     * @return every tile attacked by at least one of the alliance's pieces
+     */
+    public long getAttackedTiles(final Alliance alliance) {
+        return this.attackedTiles[BitBoardUtils.AllianceIndex(alliance)];
+    }
+
+    /**
+     * @param tilePosition where the tile is on the chess board
+     * @param alliance     the alliance whose attacks are being looked for
+     * @return whether any of the alliance's pieces attacks the tile
+     */
+    public boolean isTileAttacked(final int tilePosition, final Alliance alliance) {
+        return (getAttackedTiles(alliance) & BitBoardUtils.TileMask(tilePosition)) != BitBoardUtils.EMPTY_BOARD;
     }
 
     /**
@@ -95,6 +178,14 @@ public class Board {
         return alliance.isWhite() ? this.whitePieces : this.blackPieces;
     }
 
+    /**
+     * @param alliance White/Black
+     * @return the alliance's King, or null if it has none
+     */
+    public King getKing(final Alliance alliance) {
+        return alliance.isWhite() ? this.whiteKing : this.blackKing;
+    }
+
     /**
      * @return the white player
      */
@@ -116,6 +207,85 @@ public class Board {
         return this.currentPlayer;
     }
 
+    /**
+     * @return the Pawn that just made a two-tile jump (null if the last move was not a jump)
+     */
+    public Pawn getEnPassantPawn() {
+        return this.enPassantPawn;
+    }
+
+    /**
+     * @return the tile the En Passant Pawn just jumped over (-1 if there is none)
+     */
+    public int getEnPassantTile() {
+        return this.enPassantPawn == null ? -1 :
+               this.enPassantPawn.getPiecePosition() - this.enPassantPawn.getPieceAlliance().getDirection() * 8;
+    }
+
+    /**
+     * @return which castles are still allowed, as a combination of the BoardUtils castle flags
+     */
+    public int getCastlingRights() {
+        return this.castlingRights;
+    }
+
+    /**
+     * @return the 64-bit Zobrist key of the board (pieces, move maker, castles, and En Passant file)
+     */
+    public long getZobristKey() {
+        return this.zobristKey;
+    }
+
+    /**
+     * @return the Zobrist key of the board's Pawns alone
+     */
+    public long getPawnKey() {
+        return this.pawnKey;
+    }
+
+    /**
+     * @return how many of each piece both players have, packed into one key (see MaterialTable)
+     */
+    public long getMaterialKey() {
+        return this.materialKey;
+    }
+
+    /**
+     * @return the packed middlegame and endgame score of every piece on its tile, from White's side
+     *         (see PieceSquareTables)
+     */
+    public int getPieceSquareScore() {
+        return this.pieceSquareScore;
+    }
+
+    /**
+     * @return the game phase, MAX_PHASE with every piece on the board and 0 with only Kings and Pawns
+     */
+    public int getPhase() {
+        return this.phase;
+    }
+
+    /**
+     * @return how many moves have been made since the last capture or Pawn move
+     */
+    public int getHalfmoveClock() {
+        return this.halfmoveClock;
+    }
+
+    /**
+     * @return the number of the current full move, starting at 1 and increasing after each of Black's moves
+     */
+    public int getFullmoveNumber() {
+        return this.fullmoveNumber;
+    }
+
+    /**
+     * @return the board in Forsyth-Edwards Notation
+     */
+    public String getFen() {
+        return FenUtils.CreateFen(this);
+    }
+
     /**
      * @return all the legal moves (including both players)
      */
@@ -130,7 +300,7 @@ public class Board {
     public String toString() {
         final StringBuilder stringBuilder = new StringBuilder();
         for (int i = 0; i < BoardUtils.NUM_TILES; i++) {
-            final String tileText = this.gameBoard.get(i).toString();
+            final String tileText = this.gameBoard[i].toString();
             stringBuilder.append(String.format("%3s", tileText));
             if ((i + 1) % BoardUtils.NUM_TILES_PER_ROW == 0) {
                 stringBuilder.append("\n");
@@ -143,11 +313,23 @@ public class Board {
     //********************************************************
     /**
      * This inner class will help build an instance of a chess board.
+     * Each alliance's piece list and King are kept up to date as pieces are placed, so a board made by a move
+     * gets them from the pieces the move carries over instead of searching its tiles.
      */
     public static class Builder {
-        Map<Integer, Piece> boardConfig;
+        Piece[] boardConfig;
+        List<Piece> whitePieces;
+        List<Piece> blackPieces;
+        King whiteKing;
+        King blackKing;
         Alliance nextMoveMaker;
         Pawn enPassantPawn;
+        Long zobristKey;
+        Long pawnKey;
+        Integer pieceSquareScore;
+        Integer phase;
+        int halfmoveClock;
+        int fullmoveNumber;
         //********************************************************
         //**********************Constructor***********************
         //********************************************************
@@ -155,7 +337,10 @@ public class Board {
          * Constructor for a Builder object.
          */
         public Builder() {
-            this.boardConfig = new HashMap<>();
+            this.boardConfig = new Piece[BoardUtils.NUM_TILES];
+            this.whitePieces = new ArrayList<>();
+            this.blackPieces = new ArrayList<>();
+            this.fullmoveNumber = 1;
         }
         //********************************************************
         //**********************Main Methods**********************
@@ -165,7 +350,19 @@ public class Board {
          * @return an updated Builder
          */
         public Builder setPiece(final Piece piece) {
-            this.boardConfig.put(piece.getPiecePosition(), piece);
+            final Piece replacedPiece = this.boardConfig[piece.getPiecePosition()];
+            this.boardConfig[piece.getPiecePosition()] = piece;
+            if (replacedPiece != null) {
+                getPieceList(replacedPiece.getPieceAlliance()).remove(replacedPiece);
+            }
+            getPieceList(piece.getPieceAlliance()).add(piece);
+            if (piece instanceof King king) {
+                if (king.getPieceAlliance().isWhite()) {
+                    this.whiteKing = king;
+                } else {
+                    this.blackKing = king;
+                }
+            }
             return this;
         }
 
@@ -179,6 +376,61 @@ public class Board {
             return this;
         }
 
+        /**
+         * @param zobristKey the key of the board being built, updated from the previous board by a move
+         * @return an updated Builder
+         */
+        public Builder setZobristKey(final long zobristKey) {
+            this.zobristKey = zobristKey;
+            return this;
+        }
+
+        /**
+         * @param pawnKey the pawn key of the board being built, updated from the previous board by a move
+         * @return an updated Builder
+         */
+        public Builder setPawnKey(final long pawnKey) {
+            this.pawnKey = pawnKey;
+            return this;
+        }
+
+        /**
+         * @param pieceSquareScore the piece-square score of the board being built, updated from the previous
+         *                         board by a move
+         * @return an updated Builder
+         */
+        public Builder setPieceSquareScore(final int pieceSquareScore) {
+            this.pieceSquareScore = pieceSquareScore;
+            return this;
+        }
+
+        /**
+         * @param phase the game phase of the board being built, updated from the previous board by a move
+         * @return an updated Builder
+         */
+        public Builder setPhase(final int phase) {
+            this.phase = phase;
+            return this;
+        }
+
+        /**
+         * @param halfmoveClock how many moves have been made since the last capture or Pawn move
+         * @return an updated Builder
+         */
+        public Builder setHalfmoveClock(final int halfmoveClock) {
+            this.halfmoveClock = halfmoveClock;
+            return this;
+        }
+
+        /**
+         * @param fullmoveNumber the number of the current full move (1 at the start of the game)
+         * @return an updated Builder
+         */
+        public Builder setFullmoveNumber(final int fullmoveNumber) {
+            this.fullmoveNumber = fullmoveNumber;
+            return this;
+        }
+
         /**
          * @return a new instance of the chess board
          */
@@ -186,6 +438,14 @@ public class Board {
             return new Board(this);
         }
 
+        /**
+         * @param alliance White/Black
+         * @return the alliance's pieces placed so far
+         */
+        private List<Piece> getPieceList(final Alliance alliance) {
+            return alliance.isWhite() ? this.whitePieces : this.blackPieces;
+        }
+
         /**
          * Designates the pawn as en passant if it performs a two-tile advancement on its first move
          */
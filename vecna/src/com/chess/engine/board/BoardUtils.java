@@ -2,17 +2,19 @@ package com.chess.engine.board;
 
 import com.chess.engine.Alliance;
 import com.chess.engine.board.move.Move;
-import com.chess.engine.board.tile.Tile;
 import com.chess.engine.pieces.*;
 import com.google.common.collect.ImmutableList;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
 import static com.chess.engine.Alliance.BLACK;
 import static com.chess.engine.Alliance.WHITE;
 import static com.chess.engine.board.Board.*;
+import static com.chess.engine.pieces.Piece.PieceType.*;
+import static com.chess.engine.pieces.utils.PieceCache.GetPiece;
 
 /**
  * This class performs various tasks for the Board class.
@@ -22,6 +24,15 @@ public class BoardUtils {
     public static final int START_TILE_INDEX = 0;
     public static final int NUM_TILES = 64;
     public static final int NUM_TILES_PER_ROW = 8;
+    // Castle-related (each flag is one castle that is still allowed)
+    public static final int WHITE_KINGSIDE_CASTLE = 1;
+    public static final int WHITE_QUEENSIDE_CASTLE = 2;
+    public static final int BLACK_KINGSIDE_CASTLE = 4;
+    public static final int BLACK_QUEENSIDE_CASTLE = 8;
+    public static final int WHITE_KING_START = 60;
+    public static final int BLACK_KING_START = 4;
+    // Castles that stay allowed when a piece moves from or to each tile
+    private static final int[] CASTLING_RIGHTS_MASKS = CreateCastlingRightsMasks();
     //********************************************************
     //*********************Main Methods***********************
     //********************************************************
@@ -35,30 +46,12 @@ public class BoardUtils {
     //********************************************************
     //**********************Calculating***********************
     //********************************************************
-    /**
-     * @param gameBoard what the pieces are on
-     * @param alliance  White/Black
-     * @return a list of a player's currently active pieces
-     */
-    static Collection<Piece> CalculateActivePieces(final List<Tile> gameBoard, final Alliance alliance) {
-        final List<Piece> activePieces = new ArrayList<>();
-        for (final Tile tile : gameBoard) {
-            if (tile.isTileOccupied()) {
-                final Piece piece = tile.getPiece();
-                if (piece.getPieceAlliance() == alliance) {
-                    activePieces.add(piece);
-                }
-            }
-        }
-
-        return ImmutableList.copyOf(activePieces);
-    }
-
     /**
      * @param pieces the player's currently active pieces
+     * @param board  what the pieces are on
      * @return a list of a player's legal moves
      */
-    static Collection<Move> CalculateLegalMoves(final Collection<Piece> pieces, final Board board) {
+    public static Collection<Move> CalculateLegalMoves(final Collection<Piece> pieces, final Board board) {
         final List<Move> legalMoves = new ArrayList<>();
         for (final Piece piece : pieces) {
             legalMoves.addAll(piece.calculateLegalMoves(board));
@@ -66,6 +59,72 @@ public class BoardUtils {
 
         return ImmutableList.copyOf(legalMoves);
     }
+    /**
+     * A castle is allowed while the King and that side's Rook are on their starting tiles and have yet to move.
+     * @param board what the pieces are on
+     * @return which castles are still allowed
+     */
+    static int CalculateCastlingRights(final Board board) {
+        int castlingRights = 0;
+        if (IsUnmovedPiece(board, WHITE_KING_START, WHITE, true)) {
+            castlingRights |= IsUnmovedPiece(board, WHITE_KING_START + 3, WHITE, false) ? WHITE_KINGSIDE_CASTLE : 0;
+            castlingRights |= IsUnmovedPiece(board, WHITE_KING_START - 4, WHITE, false) ? WHITE_QUEENSIDE_CASTLE : 0;
+        }
+        if (IsUnmovedPiece(board, BLACK_KING_START, BLACK, true)) {
+            castlingRights |= IsUnmovedPiece(board, BLACK_KING_START + 3, BLACK, false) ? BLACK_KINGSIDE_CASTLE : 0;
+            castlingRights |= IsUnmovedPiece(board, BLACK_KING_START - 4, BLACK, false) ? BLACK_QUEENSIDE_CASTLE : 0;
+        }
+
+        return castlingRights;
+    }
+
+    /**
+     * A King move removes both of its castles, and a Rook leaving or being captured on its starting tile removes one.
+     * @param castlingRights  which castles were allowed before the move
+     * @param currentPosition where the moving piece was
+     * @param targetPosition  where the moving piece went
+     * @return which castles are still allowed after the move
+     */
+    public static int UpdateCastlingRights(final int castlingRights,
+                                           final int currentPosition,
+                                           final int targetPosition) {
+        return castlingRights & CASTLING_RIGHTS_MASKS[currentPosition] & CASTLING_RIGHTS_MASKS[targetPosition];
+    }
+
+    /**
+     * @param board        what the pieces are on
+     * @param tilePosition where the piece should be
+     * @param alliance     White/Black
+     * @param isKing       whether a King (rather than a Rook) should be on the tile
+     * @return whether the alliance's King or Rook is on the tile and has yet to move
+     */
+    private static boolean IsUnmovedPiece(final Board board,
+                                          final int tilePosition,
+                                          final Alliance alliance,
+                                          final boolean isKing) {
+        final Piece piece = board.getTile(tilePosition).getPiece();
+        return piece != null &&
+               piece.getPieceAlliance() == alliance &&
+               piece.isFirstMove() &&
+               (isKing ? piece.getPieceType().isKing() : piece.getPieceType().isRook());
+    }
+    /**
+     * @return the castles that survive a piece moving from or to each tile
+     */
+    private static int[] CreateCastlingRightsMasks() {
+        final int allCastles = WHITE_KINGSIDE_CASTLE | WHITE_QUEENSIDE_CASTLE |
+                               BLACK_KINGSIDE_CASTLE | BLACK_QUEENSIDE_CASTLE;
+        final int[] masks = new int[NUM_TILES];
+        Arrays.fill(masks, allCastles);
+        masks[WHITE_KING_START] &= ~(WHITE_KINGSIDE_CASTLE | WHITE_QUEENSIDE_CASTLE);
+        masks[WHITE_KING_START + 3] &= ~WHITE_KINGSIDE_CASTLE;
+        masks[WHITE_KING_START - 4] &= ~WHITE_QUEENSIDE_CASTLE;
+        masks[BLACK_KING_START] &= ~(BLACK_KINGSIDE_CASTLE | BLACK_QUEENSIDE_CASTLE);
+        masks[BLACK_KING_START + 3] &= ~BLACK_KINGSIDE_CASTLE;
+        masks[BLACK_KING_START - 4] &= ~BLACK_QUEENSIDE_CASTLE;
+
+        return masks;
+    }
     //********************************************************
     //******************Initial Chess Board*******************
     //********************************************************
@@ -97,11 +156,12 @@ public class BoardUtils {
      * @param builder what places the pieces on the board
      */
     private static void setWhiteInitialPieces(final Builder builder) {
-        final int mainIndex = 56;
-        SetInitialMainPieces(builder, WHITE, mainIndex);
-
+        // The Pawns go first so that White's pieces are listed in tile order, like Black's
         final int pawnIndex = 48;
         SetInitialPawns(builder, WHITE, pawnIndex);
+
+        final int mainIndex = 56;
+        SetInitialMainPieces(builder, WHITE, mainIndex);
     }
 
     /**
@@ -111,14 +171,14 @@ public class BoardUtils {
      * @param mainIndex  the starting index for all main pieces excluding pawns
      */
     private static void SetInitialMainPieces(final Builder builder, final Alliance alliance, final int mainIndex) {
-        builder.setPiece(new Rook(alliance, mainIndex));
-        builder.setPiece(new Knight(alliance, mainIndex + 1));
-        builder.setPiece(new Bishop(alliance, mainIndex + 2));
-        builder.setPiece(new Queen(alliance, mainIndex + 3));
-        builder.setPiece(new King(alliance, mainIndex + 4));
-        builder.setPiece(new Bishop(alliance, mainIndex + 5));
-        builder.setPiece(new Knight(alliance, mainIndex + 6));
-        builder.setPiece(new Rook(alliance, mainIndex + 7));
+        builder.setPiece(GetPiece(ROOK, alliance, mainIndex, true));
+        builder.setPiece(GetPiece(KNIGHT, alliance, mainIndex + 1, true));
+        builder.setPiece(GetPiece(BISHOP, alliance, mainIndex + 2, true));
+        builder.setPiece(GetPiece(QUEEN, alliance, mainIndex + 3, true));
+        builder.setPiece(GetPiece(KING, alliance, mainIndex + 4, true));
+        builder.setPiece(GetPiece(BISHOP, alliance, mainIndex + 5, true));
+        builder.setPiece(GetPiece(KNIGHT, alliance, mainIndex + 6, true));
+        builder.setPiece(GetPiece(ROOK, alliance, mainIndex + 7, true));
     }
 
     /**
@@ -129,7 +189,7 @@ public class BoardUtils {
      */
     private static void SetInitialPawns(final Builder builder, final Alliance alliance, final int pawnIndex) {
         for (int i = pawnIndex; i < pawnIndex + 8; i++) {
-            builder.setPiece(new Pawn(alliance, i));
+            builder.setPiece(GetPiece(PAWN, alliance, i, true));
         }
     }
 }
@@ -0,0 +1,292 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.*;
+
+import static com.chess.engine.Alliance.BLACK;
+import static com.chess.engine.Alliance.WHITE;
+import static com.chess.engine.board.Board.*;
+import static com.chess.engine.board.BoardUtils.*;
+import static com.chess.engine.pieces.Piece.PieceType.*;
+import static com.chess.engine.pieces.utils.PieceCache.GetPiece;
+
+/**
+ * This class reads and writes chess boards in Forsyth-Edwards Notation (FEN).
+ * E.g., rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1
+ * Reading walks the text once by index, without splitting it into fields or building any other strings, and
+ * takes its pieces from the PieceCache, so loading large sets of positions mostly allocates the boards.
+ */
+public class FenUtils {
+    // FEN letters in PieceType order
+    private static final String PIECE_LETTERS = "PRNBQK";
+    private static final String CASTLE_LETTERS = "KQkq";
+    private static final int[] CASTLE_FLAGS = {
+            WHITE_KINGSIDE_CASTLE, WHITE_QUEENSIDE_CASTLE, BLACK_KINGSIDE_CASTLE, BLACK_QUEENSIDE_CASTLE };
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    private FenUtils() {}
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * @param fen the board in FEN (the move clocks may be left out)
+     * @return the board the FEN describes
+     */
+    public static Board CreateBoardFromFen(final CharSequence fen) {
+        return CreateBuilderFromFen(fen).build();
+    }
+
+    /**
+     * Pieces get their first-move flags from the castles and Pawn ranks, since FEN does not record moves.
+     * @param fen the board in FEN (the move clocks may be left out, and are then 0 and 1)
+     * @return a Builder holding the pieces, move maker, En Passant Pawn, and move clocks the FEN describes
+     * @throws IllegalArgumentException if a field is malformed, a rank does not have 8 tiles, a side does not have
+     *                                  exactly one King, or no Pawn just jumped over the En Passant tile
+     */
+    public static Builder CreateBuilderFromFen(final CharSequence fen) {
+        // Find the end of the pieces first, since the castles that come after them set the pieces' flags
+        final int piecesStart = SkipSpaces(fen, 0);
+        final int piecesEnd = FieldEnd(fen, piecesStart);
+        int index = SkipSpaces(fen, piecesEnd);
+        if (FieldEnd(fen, index) != index + 1 || (fen.charAt(index) != 'w' && fen.charAt(index) != 'b')) {
+            throw new IllegalArgumentException("FEN side to move must be w or b: " + fen);
+        }
+        final Alliance moveMaker = fen.charAt(index) == 'b' ? BLACK : WHITE;
+        // Castles
+        index = SkipSpaces(fen, index + 1);
+        final int castlesEnd = FieldEnd(fen, index);
+        int castlingRights = 0;
+        if (castlesEnd == index) {
+            throw new IllegalArgumentException("FEN needs pieces, side, castles, and En Passant: " + fen);
+        }
+        if (castlesEnd != index + 1 || fen.charAt(index) != '-') {
+            for (int i = index; i < castlesEnd; i++) {
+                final int castle = CASTLE_LETTERS.indexOf(fen.charAt(i));
+                if (castle < 0) {
+                    throw new IllegalArgumentException("Unknown FEN castle: " + fen.charAt(i) + " in " + fen);
+                }
+                castlingRights |= CASTLE_FLAGS[castle];
+            }
+        }
+        // En Passant
+        index = SkipSpaces(fen, castlesEnd);
+        final int enPassantEnd = FieldEnd(fen, index);
+        int enPassantTile = -1;
+        if (enPassantEnd == index + 2) {
+            enPassantTile = TilePosition(fen, index);
+        } else if (enPassantEnd != index + 1 || fen.charAt(index) != '-') {
+            throw new IllegalArgumentException("FEN En Passant must be a tile or -: " + fen);
+        }
+        // Move clocks
+        index = SkipSpaces(fen, enPassantEnd);
+        final int halfmoveEnd = FieldEnd(fen, index);
+        final int halfmoveClock = halfmoveEnd == index ? 0 : ParseNumber(fen, index, halfmoveEnd);
+        index = SkipSpaces(fen, halfmoveEnd);
+        final int fullmoveEnd = FieldEnd(fen, index);
+        final int fullmoveNumber = fullmoveEnd == index ? 1 : ParseNumber(fen, index, fullmoveEnd);
+        if (SkipSpaces(fen, fullmoveEnd) != fen.length()) {
+            throw new IllegalArgumentException("FEN has more than six fields: " + fen);
+        }
+
+        final Builder builder = new Builder();
+        // Pieces are listed rank by rank from a8 (tile 0) to h1 (tile 63)
+        int row = 0;
+        int column = 0;
+        int whiteKings = 0;
+        int blackKings = 0;
+        for (int i = piecesStart; i < piecesEnd; i++) {
+            final char symbol = fen.charAt(i);
+            if (symbol == '/') {
+                if (column != NUM_TILES_PER_ROW || ++row == NUM_TILES_PER_ROW) {
+                    throw new IllegalArgumentException("FEN needs 8 ranks of 8 tiles: " + fen);
+                }
+                column = 0;
+                continue;
+            }
+            final boolean isEmptyTiles = symbol >= '1' && symbol <= '8';
+            final int tileCount = isEmptyTiles ? symbol - '0' : 1;
+            if (column + tileCount > NUM_TILES_PER_ROW) {
+                throw new IllegalArgumentException("FEN needs 8 ranks of 8 tiles: " + fen);
+            }
+            if (!isEmptyTiles) {
+                final Piece piece = CreatePiece(symbol, row * NUM_TILES_PER_ROW + column, castlingRights);
+                if (piece.getPieceType() == KING) {
+                    if (piece.getPieceAlliance().isWhite()) {
+                        whiteKings++;
+                    } else {
+                        blackKings++;
+                    }
+                }
+                builder.setPiece(piece);
+            }
+            column += tileCount;
+        }
+        if (row != NUM_TILES_PER_ROW - 1 || column != NUM_TILES_PER_ROW) {
+            throw new IllegalArgumentException("FEN needs 8 ranks of 8 tiles: " + fen);
+        }
+        if (whiteKings != 1 || blackKings != 1) {
+            throw new IllegalArgumentException("FEN needs exactly one King per side: " + fen);
+        }
+        builder.setMoveMaker(moveMaker);
+        // The En Passant Pawn is the opponent's, one tile past the tile it jumped over
+        if (enPassantTile >= 0) {
+            final Alliance pawnAlliance = moveMaker.getOpposingAlliance();
+            final int pawnPosition = enPassantTile + pawnAlliance.getDirection() * NUM_TILES_PER_ROW;
+            final Piece enPassantPawn = IsValidTilePosition(pawnPosition) ? builder.boardConfig[pawnPosition] : null;
+            if (!(enPassantPawn instanceof Pawn pawn) || pawn.getPieceAlliance() != pawnAlliance ||
+                builder.boardConfig[enPassantTile] != null) {
+                throw new IllegalArgumentException("FEN En Passant tile has no Pawn that just jumped over it: " + fen);
+            }
+            builder.setEnPassantPawn(pawn);
+        }
+        builder.setHalfmoveClock(halfmoveClock);
+        builder.setFullmoveNumber(fullmoveNumber);
+
+        return builder;
+    }
+
+    /**
+     * @param board the board to write
+     * @return the board in FEN, with all six fields
+     */
+    public static String CreateFen(final Board board) {
+        final StringBuilder fen = new StringBuilder(90);
+        int emptyTiles = 0;
+        for (int i = 0; i < NUM_TILES; i++) {
+            final Piece piece = board.getTile(i).getPiece();
+            if (piece == null) {
+                emptyTiles++;
+            } else {
+                if (emptyTiles > 0) {
+                    fen.append(emptyTiles);
+                    emptyTiles = 0;
+                }
+                final char letter = PIECE_LETTERS.charAt(piece.getPieceType().ordinal());
+                fen.append(piece.getPieceAlliance().isWhite() ? letter : Character.toLowerCase(letter));
+            }
+            // Close each rank, and separate it from the next
+            if ((i + 1) % NUM_TILES_PER_ROW == 0) {
+                if (emptyTiles > 0) {
+                    fen.append(emptyTiles);
+                    emptyTiles = 0;
+                }
+                if (i != NUM_TILES - 1) {
+                    fen.append('/');
+                }
+            }
+        }
+        fen.append(board.getCurrentPlayer().getPlayerAlliance().isWhite() ? " w " : " b ");
+        final int castlingRights = board.getCastlingRights();
+        if (castlingRights == 0) {
+            fen.append('-');
+        }
+        for (int i = 0; i < CASTLE_FLAGS.length; i++) {
+            if ((castlingRights & CASTLE_FLAGS[i]) != 0) {
+                fen.append(CASTLE_LETTERS.charAt(i));
+            }
+        }
+        fen.append(' ');
+        final int enPassantTile = board.getEnPassantTile();
+        if (enPassantTile < 0) {
+            fen.append('-');
+        } else {
+            fen.append((char) ('a' + enPassantTile % NUM_TILES_PER_ROW))
+               .append(NUM_TILES_PER_ROW - enPassantTile / NUM_TILES_PER_ROW);
+        }
+
+        return fen.append(' ').append(board.getHalfmoveClock())
+                  .append(' ').append(board.getFullmoveNumber())
+                  .toString();
+    }
+    //********************************************************
+    //********************Helper Methods**********************
+    //********************************************************
+    /**
+     * @param symbol         the piece's FEN letter (upper case for White)
+     * @param tilePosition   where the piece is
+     * @param castlingRights the castles the FEN allows, as a combination of the BoardUtils castle flags
+     * @return the piece, with its first-move flag set from the castles or its rank
+     */
+    private static Piece CreatePiece(final char symbol, final int tilePosition, final int castlingRights) {
+        final Alliance alliance = Character.isUpperCase(symbol) ? WHITE : BLACK;
+        final boolean isWhite = alliance.isWhite();
+        final int kingsideCastle = isWhite ? WHITE_KINGSIDE_CASTLE : BLACK_KINGSIDE_CASTLE;
+        final int queensideCastle = isWhite ? WHITE_QUEENSIDE_CASTLE : BLACK_QUEENSIDE_CASTLE;
+        final int kingStart = isWhite ? WHITE_KING_START : BLACK_KING_START;
+        return switch (Character.toUpperCase(symbol)) {
+            case 'P' -> GetPiece(PAWN, alliance, tilePosition, tilePosition / NUM_TILES_PER_ROW == (isWhite ? 6 : 1));
+            case 'N' -> GetPiece(KNIGHT, alliance, tilePosition, false);
+            case 'B' -> GetPiece(BISHOP, alliance, tilePosition, false);
+            case 'Q' -> GetPiece(QUEEN, alliance, tilePosition, false);
+            case 'K' -> GetPiece(KING, alliance, tilePosition, tilePosition == kingStart &&
+                                 (castlingRights & (kingsideCastle | queensideCastle)) != 0);
+            case 'R' -> GetPiece(ROOK, alliance, tilePosition,
+                                 (tilePosition == kingStart + 3 && (castlingRights & kingsideCastle) != 0) ||
+                                 (tilePosition == kingStart - 4 && (castlingRights & queensideCastle) != 0));
+            default -> throw new IllegalArgumentException("Unknown FEN piece: " + symbol);
+        };
+    }
+
+    /**
+     * @param fen   the FEN text
+     * @param index where a tile's algebraic name (e.g., e3) starts
+     * @return where the tile is on the chess board (a8 is tile 0)
+     */
+    private static int TilePosition(final CharSequence fen, final int index) {
+        final int file = fen.charAt(index) - 'a';
+        final int rank = fen.charAt(index + 1) - '0';
+        if (file < 0 || file >= NUM_TILES_PER_ROW || rank < 1 || rank > NUM_TILES_PER_ROW) {
+            throw new IllegalArgumentException("Unknown FEN tile in " + fen);
+        }
+
+        return (NUM_TILES_PER_ROW - rank) * NUM_TILES_PER_ROW + file;
+    }
+
+    /**
+     * @param fen   the FEN text
+     * @param start where the number starts
+     * @param end   where the number ends (exclusive)
+     * @return the number's value
+     */
+    private static int ParseNumber(final CharSequence fen, final int start, final int end) {
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            final char digit = fen.charAt(i);
+            if (digit < '0' || digit > '9' || number > (Integer.MAX_VALUE - 9) / 10) {
+                throw new IllegalArgumentException("FEN move clocks must be numbers: " + fen);
+            }
+            number = number * 10 + digit - '0';
+        }
+
+        return number;
+    }
+
+    /**
+     * @param fen   the FEN text
+     * @param index where to start looking
+     * @return where the next field starts, or the length of the text if there is none
+     */
+    private static int SkipSpaces(final CharSequence fen, final int index) {
+        int i = index;
+        while (i < fen.length() && Character.isWhitespace(fen.charAt(i))) {
+            i++;
+        }
+
+        return i;
+    }
+
+    /**
+     * @param fen   the FEN text
+     * @param index where a field starts
+     * @return where the field ends (exclusive)
+     */
+    private static int FieldEnd(final CharSequence fen, final int index) {
+        int i = index;
+        while (i < fen.length() && !Character.isWhitespace(fen.charAt(i))) {
+            i++;
+        }
+
+        return i;
+    }
+}
@@ -0,0 +1,208 @@
+package com.chess.engine.board.bitboard;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import static com.chess.engine.board.bitboard.BitBoardUtils.*;
+import static com.chess.engine.pieces.Piece.PieceType.*;
+
+/**
+ * This class represents the chess board as twelve 64-bit piece sets (one per piece type and alliance)
+ * plus occupancy masks for each alliance and for the whole board.
+ * A Board builds its BitBoard once and never changes it afterward.
+ */
+public final class BitBoard {
+    private final long[] pieceBoards;
+    private final long[] allianceOccupancy;
+    private long occupancy;
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    /**
+     * Constructor for an empty BitBoard.
+     */
+    public BitBoard() {
+        this.pieceBoards = new long[NUM_PIECE_INDEXES];
+        this.allianceOccupancy = new long[2];
+        this.occupancy = EMPTY_BOARD;
+    }
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * Adds a piece to its piece set and to the occupancy masks.
+     * @param piece the piece to be placed
+     */
+    public void setPiece(final Piece piece) {
+        setPiece(PieceIndex(piece.getPieceType(), piece.getPieceAlliance()), piece.getPiecePosition());
+    }
+
+    /**
+     * Adds a piece to its piece set and to the occupancy masks.
+     * @param pieceIndex   the index (0-11) of the piece set
+     * @param tilePosition where the piece is placed
+     */
+    public void setPiece(final int pieceIndex, final int tilePosition) {
+        final long tileMask = TileMask(tilePosition);
+        this.pieceBoards[pieceIndex] |= tileMask;
+        this.allianceOccupancy[pieceIndex / NUM_PIECE_TYPES] |= tileMask;
+        this.occupancy |= tileMask;
+    }
+
+    /**
+     * Removes a piece from its piece set and from the occupancy masks.
+     * @param pieceIndex   the index (0-11) of the piece set
+     * @param tilePosition where the piece is removed from
+     */
+    public void removePiece(final int pieceIndex, final int tilePosition) {
+        final long tileMask = ~TileMask(tilePosition);
+        this.pieceBoards[pieceIndex] &= tileMask;
+        this.allianceOccupancy[pieceIndex / NUM_PIECE_TYPES] &= tileMask;
+        this.occupancy &= tileMask;
+    }
+
+    /**
+     * @param tilePosition where the tile is on the chess board
+     * @return whether any piece is on the tile
+     */
+    public boolean isTileOccupied(final int tilePosition) {
+        return (this.occupancy & TileMask(tilePosition)) != EMPTY_BOARD;
+    }
+
+    /**
+     * @param tilePosition where the tile is on the chess board
+     * @param alliance     White/Black
+     * @return whether one of the alliance's pieces is on the tile
+     */
+    public boolean isTileOccupied(final int tilePosition, final Alliance alliance) {
+        return (getOccupancy(alliance) & TileMask(tilePosition)) != EMPTY_BOARD;
+    }
+
+    /**
+     * @return every occupied tile on the chess board
+     */
+    public long getOccupancy() {
+        return this.occupancy;
+    }
+
+    /**
+     * @param alliance White/Black
+     * @return every tile occupied by the alliance's pieces
+     */
+    public long getOccupancy(final Alliance alliance) {
+        return this.allianceOccupancy[AllianceIndex(alliance)];
+    }
+
+    /**
+     * @param pieceType what kind of piece it is
+     * @param alliance  White/Black
+     * @return every tile holding the given piece kind
+     */
+    public long getPieceBoard(final PieceType pieceType, final Alliance alliance) {
+        return this.pieceBoards[PieceIndex(pieceType, alliance)];
+    }
+
+    /**
+     * @param pieceIndex the index (0-11) of the piece set
+     * @return every tile holding the given piece kind
+     */
+    public long getPieceBoard(final int pieceIndex) {
+        return this.pieceBoards[pieceIndex];
+    }
+
+    /**
+     * @param pieceType what kind of piece it is
+     * @param alliance  White/Black
+     * @return how many of the given piece kind are on the chess board
+     */
+    public int getPieceCount(final PieceType pieceType, final Alliance alliance) {
+        return Long.bitCount(getPieceBoard(pieceType, alliance));
+    }
+
+    /**
+     * @param alliance White/Black
+     * @return where the alliance's King is, or -1 if there is none
+     */
+    public int getKingPosition(final Alliance alliance) {
+        final long kingBoard = getPieceBoard(KING, alliance);
+        return kingBoard == EMPTY_BOARD ? -1 : Long.numberOfTrailingZeros(kingBoard);
+    }
+
+    /**
+     * Looks outward from the tile with every piece's attack pattern, so no move lists are needed.
+     * @param tilePosition      where the tile is on the chess board
+     * @param attackingAlliance the alliance whose attacks are being looked for
+     * @return every tile holding a piece of the attacking alliance that attacks the tile
+     */
+    public long calculateAttackers(final int tilePosition, final Alliance attackingAlliance) {
+        return calculateAttackers(tilePosition, attackingAlliance, this.occupancy);
+    }
+
+    /**
+     * @param tilePosition      where the tile is on the chess board
+     * @param attackingAlliance the alliance whose attacks are being looked for
+     * @param occupancy         the occupied tiles the sliding pieces are blocked by (pieces taken off it still
+     *                          count as attackers, so callers mask them out)
+     * @return every tile holding a piece of the attacking alliance that attacks the tile
+     */
+    public long calculateAttackers(final int tilePosition, final Alliance attackingAlliance, final long occupancy) {
+        // A Pawn attacks the tile if a Pawn of the other alliance on the tile would attack it back
+        final Alliance defendingAlliance = attackingAlliance.getOpposingAlliance();
+        final long queens = getPieceBoard(QUEEN, attackingAlliance);
+        final long rooksAndQueens = getPieceBoard(ROOK, attackingAlliance) | queens;
+        final long bishopsAndQueens = getPieceBoard(BISHOP, attackingAlliance) | queens;
+
+        return (PawnAttacks(tilePosition, defendingAlliance) & getPieceBoard(PAWN, attackingAlliance)) |
+               (KNIGHT_ATTACKS[tilePosition] & getPieceBoard(KNIGHT, attackingAlliance)) |
+               (KING_ATTACKS[tilePosition] & getPieceBoard(KING, attackingAlliance)) |
+               (RookAttacks(tilePosition, occupancy) & rooksAndQueens) |
+               (BishopAttacks(tilePosition, occupancy) & bishopsAndQueens);
+    }
+
+    /**
+     * @param attackingAlliance the alliance whose attacks are being looked for
+     * @param occupancy         the occupied tiles the sliding pieces are blocked by
+     * @return every tile attacked by at least one piece of the attacking alliance
+     */
+    public long calculateAttacks(final Alliance attackingAlliance, final long occupancy) {
+        final long queens = getPieceBoard(QUEEN, attackingAlliance);
+        long attacks = EMPTY_BOARD;
+        long pieces = getPieceBoard(KING, attackingAlliance);
+        while (pieces != EMPTY_BOARD) {
+            attacks |= KING_ATTACKS[Long.numberOfTrailingZeros(pieces)];
+            pieces &= pieces - 1;
+        }
+        pieces = getPieceBoard(PAWN, attackingAlliance);
+        while (pieces != EMPTY_BOARD) {
+            attacks |= PawnAttacks(Long.numberOfTrailingZeros(pieces), attackingAlliance);
+            pieces &= pieces - 1;
+        }
+        pieces = getPieceBoard(KNIGHT, attackingAlliance);
+        while (pieces != EMPTY_BOARD) {
+            attacks |= KNIGHT_ATTACKS[Long.numberOfTrailingZeros(pieces)];
+            pieces &= pieces - 1;
+        }
+        pieces = getPieceBoard(BISHOP, attackingAlliance) | queens;
+        while (pieces != EMPTY_BOARD) {
+            attacks |= BishopAttacks(Long.numberOfTrailingZeros(pieces), occupancy);
+            pieces &= pieces - 1;
+        }
+        pieces = getPieceBoard(ROOK, attackingAlliance) | queens;
+        while (pieces != EMPTY_BOARD) {
+            attacks |= RookAttacks(Long.numberOfTrailingZeros(pieces), occupancy);
+            pieces &= pieces - 1;
+        }
+
+        return attacks;
+    }
+
+    /**
+     * @param tilePosition      where the tile is on the chess board
+     * @param attackingAlliance the alliance whose attacks are being looked for
+     * @return whether any piece of the attacking alliance attacks the tile
+     */
+    public boolean isTileAttacked(final int tilePosition, final Alliance attackingAlliance) {
+        return calculateAttackers(tilePosition, attackingAlliance) != EMPTY_BOARD;
+    }
+}
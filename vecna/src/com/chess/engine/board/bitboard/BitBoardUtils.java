@@ -0,0 +1,213 @@
+package com.chess.engine.board.bitboard;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import static com.chess.engine.board.BoardUtils.NUM_TILES;
+import static com.chess.engine.board.BoardUtils.NUM_TILES_PER_ROW;
+
+/**
+ * This class performs various tasks for the BitBoard class.
+ * Bit i of every 64-bit set represents tile i of the chess board (0 is Black's queenside Rook corner).
+ */
+public class BitBoardUtils {
+    // Piece set-related
+    public static final int NUM_PIECE_TYPES = 6;
+    public static final int NUM_PIECE_INDEXES = 12;
+    public static final long EMPTY_BOARD = 0L;
+    // Attack tables for the non-sliding pieces
+    public static final long[] KNIGHT_ATTACKS = CreateLeaperAttacks(new int[][] {
+            { -2, -1 }, { -2, 1 }, { -1, -2 }, { -1, 2 }, { 1, -2 }, { 1, 2 }, { 2, -1 }, { 2, 1 } });
+    public static final long[] KING_ATTACKS = CreateLeaperAttacks(new int[][] {
+            { -1, -1 }, { -1, 0 }, { -1, 1 }, { 0, -1 }, { 0, 1 }, { 1, -1 }, { 1, 0 }, { 1, 1 } });
+    private static final long[] WHITE_PAWN_ATTACKS = CreateLeaperAttacks(new int[][] { { -1, -1 }, { -1, 1 } });
+    private static final long[] BLACK_PAWN_ATTACKS = CreateLeaperAttacks(new int[][] { { 1, -1 }, { 1, 1 } });
+    // Sliding directions as { row, column } steps
+    static final int[][] ROOK_DIRECTIONS = { { -1, 0 }, { 0, -1 }, { 0, 1 }, { 1, 0 } };
+    static final int[][] BISHOP_DIRECTIONS = { { -1, -1 }, { -1, 1 }, { 1, -1 }, { 1, 1 } };
+    // Tiles between, and whole lines through, every pair of tiles sharing a rank, file, or diagonal
+    private static final long[] BETWEEN_TILES = CreateLineTable(true);
+    private static final long[] LINE_TILES = CreateLineTable(false);
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    private BitBoardUtils() {}
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * @param tilePosition where the tile is on the chess board
+     * @return a set with only the given tile
+     */
+    public static long TileMask(final int tilePosition) {
+        return 1L << tilePosition;
+    }
+
+    /**
+     * @param firstPosition  a tile
+     * @param secondPosition another tile
+     * @return how many King moves apart the tiles are
+     */
+    public static int Distance(final int firstPosition, final int secondPosition) {
+        return Math.max(Math.abs(firstPosition / NUM_TILES_PER_ROW - secondPosition / NUM_TILES_PER_ROW),
+                        Math.abs(firstPosition % NUM_TILES_PER_ROW - secondPosition % NUM_TILES_PER_ROW));
+    }
+
+    /**
+     * @param pieceType what kind of piece it is
+     * @param alliance  White/Black
+     * @return the index (0-11) of the piece set holding the given piece kind
+     */
+    public static int PieceIndex(final PieceType pieceType, final Alliance alliance) {
+        return pieceType.ordinal() + (alliance.isWhite() ? 0 : NUM_PIECE_TYPES);
+    }
+
+    /**
+     * @param alliance White/Black
+     * @return 0 for White and 1 for Black
+     */
+    public static int AllianceIndex(final Alliance alliance) {
+        return alliance.isWhite() ? 0 : 1;
+    }
+
+    /**
+     * @param tilePosition where the Pawn is
+     * @param alliance     the Pawn's alliance
+     * @return the tiles the Pawn attacks
+     */
+    public static long PawnAttacks(final int tilePosition, final Alliance alliance) {
+        return alliance.isWhite() ? WHITE_PAWN_ATTACKS[tilePosition] : BLACK_PAWN_ATTACKS[tilePosition];
+    }
+
+    /**
+     * @param tilePosition where the Rook is
+     * @param occupancy    every occupied tile on the chess board
+     * @return the tiles the Rook attacks, up to and including the first blocker on each ray
+     */
+    public static long RookAttacks(final int tilePosition, final long occupancy) {
+        return MagicBitBoards.RookAttacks(tilePosition, occupancy);
+    }
+
+    /**
+     * @param tilePosition where the Bishop is
+     * @param occupancy    every occupied tile on the chess board
+     * @return the tiles the Bishop attacks, up to and including the first blocker on each ray
+     */
+    public static long BishopAttacks(final int tilePosition, final long occupancy) {
+        return MagicBitBoards.BishopAttacks(tilePosition, occupancy);
+    }
+
+    /**
+     * @param tilePosition where the Queen is
+     * @param occupancy    every occupied tile on the chess board
+     * @return the tiles the Queen attacks, up to and including the first blocker on each ray
+     */
+    public static long QueenAttacks(final int tilePosition, final long occupancy) {
+        return RookAttacks(tilePosition, occupancy) | BishopAttacks(tilePosition, occupancy);
+    }
+
+    /**
+     * @param firstPosition  where the first tile is
+     * @param secondPosition where the second tile is
+     * @return the tiles strictly between the two, or an empty set if they do not share a line
+     */
+    public static long BetweenTiles(final int firstPosition, final int secondPosition) {
+        return BETWEEN_TILES[firstPosition * NUM_TILES + secondPosition];
+    }
+
+    /**
+     * @param firstPosition  where the first tile is
+     * @param secondPosition where the second tile is
+     * @return the whole rank, file, or diagonal through both tiles, or an empty set if they do not share one
+     */
+    public static long LineTiles(final int firstPosition, final int secondPosition) {
+        return LINE_TILES[firstPosition * NUM_TILES + secondPosition];
+    }
+    //********************************************************
+    //********************Helper Methods**********************
+    //********************************************************
+    /**
+     * @param steps the { row, column } jumps the piece can make
+     * @return an attack set for every tile on the chess board
+     */
+    private static long[] CreateLeaperAttacks(final int[][] steps) {
+        final long[] attacks = new long[NUM_TILES];
+        for (int i = 0; i < NUM_TILES; i++) {
+            final int row = i / NUM_TILES_PER_ROW;
+            final int column = i % NUM_TILES_PER_ROW;
+            for (final int[] step : steps) {
+                final int targetRow = row + step[0];
+                final int targetColumn = column + step[1];
+                // Skip jumps that would leave the chess board
+                if (IsOnBoard(targetRow, targetColumn)) {
+                    attacks[i] |= TileMask(targetRow * NUM_TILES_PER_ROW + targetColumn);
+                }
+            }
+        }
+
+        return attacks;
+    }
+
+    /**
+     * @param betweenOnly whether to keep only the tiles between each pair instead of the whole line
+     * @return a set for every pair of tiles, indexed by first tile * 64 + second tile
+     */
+    private static long[] CreateLineTable(final boolean betweenOnly) {
+        final long[] lineTable = new long[NUM_TILES * NUM_TILES];
+        for (int firstPosition = 0; firstPosition < NUM_TILES; firstPosition++) {
+            for (int secondPosition = 0; secondPosition < NUM_TILES; secondPosition++) {
+                for (final int[][] directions : new int[][][] { ROOK_DIRECTIONS, BISHOP_DIRECTIONS }) {
+                    final long firstRays = SlidingAttacks(firstPosition, EMPTY_BOARD, directions);
+                    if ((firstRays & TileMask(secondPosition)) == EMPTY_BOARD) {
+                        continue;
+                    }
+                    // Each tile blocks the other's rays, so only the tiles between them are seen from both
+                    lineTable[firstPosition * NUM_TILES + secondPosition] = betweenOnly ?
+                            SlidingAttacks(firstPosition, TileMask(secondPosition), directions) &
+                            SlidingAttacks(secondPosition, TileMask(firstPosition), directions) :
+                            (firstRays & SlidingAttacks(secondPosition, EMPTY_BOARD, directions)) |
+                            TileMask(firstPosition) | TileMask(secondPosition);
+                }
+            }
+        }
+
+        return lineTable;
+    }
+
+    /**
+     * Walks every ray one tile at a time until it runs into a piece or the edge of the chess board.
+     * This is only used to fill in the MagicBitBoards and line tables.
+     * @param tilePosition where the sliding piece is
+     * @param occupancy    every occupied tile on the chess board
+     * @param directions   the { row, column } steps of the rays
+     * @return the tiles the sliding piece attacks
+     */
+    static long SlidingAttacks(final int tilePosition, final long occupancy, final int[][] directions) {
+        long attacks = EMPTY_BOARD;
+        for (final int[] direction : directions) {
+            int row = tilePosition / NUM_TILES_PER_ROW + direction[0];
+            int column = tilePosition % NUM_TILES_PER_ROW + direction[1];
+            while (IsOnBoard(row, column)) {
+                final long targetMask = TileMask(row * NUM_TILES_PER_ROW + column);
+                attacks |= targetMask;
+                // The ray stops at the first piece, regardless of its alliance
+                if ((occupancy & targetMask) != EMPTY_BOARD) {
+                    break;
+                }
+                row += direction[0];
+                column += direction[1];
+            }
+        }
+
+        return attacks;
+    }
+
+    /**
+     * @param row    the row (0 is Black's back rank)
+     * @param column the column (0 is the queenside edge)
+     * @return whether the coordinates are on the chess board
+     */
+    private static boolean IsOnBoard(final int row, final int column) {
+        return row >= 0 && row < NUM_TILES_PER_ROW && column >= 0 && column < NUM_TILES_PER_ROW;
+    }
+}
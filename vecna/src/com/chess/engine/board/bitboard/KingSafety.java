@@ -0,0 +1,210 @@
+package com.chess.engine.board.bitboard;
+
+import com.chess.engine.Alliance;
+
+import static com.chess.engine.board.BoardUtils.NUM_TILES_PER_ROW;
+import static com.chess.engine.board.bitboard.BitBoardUtils.*;
+import static com.chess.engine.pieces.Piece.PieceType.*;
+
+/**
+ * This class works out once per position what keeps an alliance's King safe: the pieces checking it, the
+ * pieces pinned to it, and the tiles it may not step onto.
+ * With these, a pseudo-legal move's legality is a few mask tests instead of playing it out on a new board.
+ */
+public final class KingSafety {
+    private static final long ALL_TILES = ~EMPTY_BOARD;
+
+    private final BitBoard bitBoard;
+    private final Alliance alliance;
+    private final int kingPosition;
+    private final long checkers;
+    private final long checkMask;
+    private final long pinnedPieces;
+    private final long kingDangerTiles;
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    /**
+     * Constructor for an alliance's King safety.
+     * @param bitBoard        the piece sets of the position
+     * @param alliance        whose King is being kept safe
+     * @param opponentAttacks every tile the opponent attacks (BitBoard.calculateAttacks)
+     */
+    public KingSafety(final BitBoard bitBoard, final Alliance alliance, final long opponentAttacks) {
+        final Alliance opponent = alliance.getOpposingAlliance();
+        this.bitBoard = bitBoard;
+        this.alliance = alliance;
+        this.kingPosition = bitBoard.getKingPosition(alliance);
+        this.checkers = bitBoard.calculateAttackers(this.kingPosition, opponent);
+        this.kingDangerTiles = opponentAttacks | calculateCheckingRays(opponent);
+        this.checkMask = calculateCheckMask();
+        this.pinnedPieces = calculatePinnedPieces(opponent);
+    }
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * Castles must also have had their passing tile checked against getKingDangerTiles.
+     * @param currentPosition where the moved piece is
+     * @param targetPosition  where the moved piece goes
+     * @param isKingMove      whether the moved piece is the King
+     * @param isEnPassant     whether the move is an En Passant capture
+     * @return whether the pseudo-legal move leaves the King safe
+     */
+    public boolean isLegal(final int currentPosition,
+                           final int targetPosition,
+                           final boolean isKingMove,
+                           final boolean isEnPassant) {
+        if (isKingMove) {
+            return (this.kingDangerTiles & TileMask(targetPosition)) == EMPTY_BOARD;
+        }
+        if (isEnPassant) {
+            return isEnPassantLegal(currentPosition, targetPosition);
+        }
+
+        return (getTargetMask(currentPosition) & TileMask(targetPosition)) != EMPTY_BOARD;
+    }
+
+    /**
+     * @param currentPosition where a piece other than the King is
+     * @return the tiles the piece may move to without exposing the King (before its own move pattern)
+     */
+    public long getTargetMask(final int currentPosition) {
+        if ((this.pinnedPieces & TileMask(currentPosition)) == EMPTY_BOARD) {
+            return this.checkMask;
+        }
+
+        // A pinned piece may only slide along the line through its King and the pinning piece
+        return this.checkMask & LineTiles(this.kingPosition, currentPosition);
+    }
+
+    /**
+     * En Passant takes two pieces off one rank at once, so it is tested against the resulting occupancy.
+     * @param currentPosition where the capturing Pawn is
+     * @param targetPosition  the En Passant tile
+     * @return whether the capture leaves the King safe
+     */
+    public boolean isEnPassantLegal(final int currentPosition, final int targetPosition) {
+        final Alliance opponent = this.alliance.getOpposingAlliance();
+        final long capturedPawn = TileMask(currentPosition - currentPosition % NUM_TILES_PER_ROW +
+                                           targetPosition % NUM_TILES_PER_ROW);
+        // A Knight or Pawn check can only be answered by taking the checker
+        final long leaperCheckers = this.checkers & (this.bitBoard.getPieceBoard(KNIGHT, opponent) |
+                                                     this.bitBoard.getPieceBoard(PAWN, opponent));
+        if ((leaperCheckers & ~capturedPawn) != EMPTY_BOARD) {
+            return false;
+        }
+        final long occupancy = this.bitBoard.getOccupancy() ^ TileMask(currentPosition) ^
+                               TileMask(targetPosition) ^ capturedPawn;
+        final long queens = this.bitBoard.getPieceBoard(QUEEN, opponent);
+
+        return (RookAttacks(this.kingPosition, occupancy) &
+                (this.bitBoard.getPieceBoard(ROOK, opponent) | queens)) == EMPTY_BOARD &&
+               (BishopAttacks(this.kingPosition, occupancy) &
+                (this.bitBoard.getPieceBoard(BISHOP, opponent) | queens)) == EMPTY_BOARD;
+    }
+    //********************************************************
+    //************************Getters*************************
+    //********************************************************
+    /**
+     * @return where the King is
+     */
+    public int getKingPosition() {
+        return this.kingPosition;
+    }
+
+    /**
+     * @return every opposing piece attacking the King
+     */
+    public long getCheckers() {
+        return this.checkers;
+    }
+
+    /**
+     * @return whether the King is attacked
+     */
+    public boolean isInCheck() {
+        return this.checkers != EMPTY_BOARD;
+    }
+
+    /**
+     * @return whether two pieces attack the King, so that only the King can move
+     */
+    public boolean isInDoubleCheck() {
+        return Long.bitCount(this.checkers) > 1;
+    }
+
+    /**
+     * @return every piece of the alliance that may not leave the line to its King
+     */
+    public long getPinnedPieces() {
+        return this.pinnedPieces;
+    }
+
+    /**
+     * @return every tile the King may not move to
+     */
+    public long getKingDangerTiles() {
+        return this.kingDangerTiles;
+    }
+    //********************************************************
+    //********************Helper Methods**********************
+    //********************************************************
+    /**
+     * The King does not block the attacks it steps away from, so a sliding checker also covers the tile behind it.
+     * @param opponent the alliance giving check
+     * @return the lines through the King of every sliding checker, without the checkers themselves
+     */
+    private long calculateCheckingRays(final Alliance opponent) {
+        long slidingCheckers = this.checkers & (this.bitBoard.getPieceBoard(ROOK, opponent) |
+                                                this.bitBoard.getPieceBoard(BISHOP, opponent) |
+                                                this.bitBoard.getPieceBoard(QUEEN, opponent));
+        long checkingRays = EMPTY_BOARD;
+        while (slidingCheckers != EMPTY_BOARD) {
+            checkingRays |= LineTiles(this.kingPosition, Long.numberOfTrailingZeros(slidingCheckers));
+            slidingCheckers &= slidingCheckers - 1;
+        }
+
+        return checkingRays & ~this.checkers;
+    }
+
+    /**
+     * @return every tile when not in check, the checker and the tiles between it and the King in a single
+     *         check, and no tile in a double check
+     */
+    private long calculateCheckMask() {
+        if (this.checkers == EMPTY_BOARD) {
+            return ALL_TILES;
+        }
+        if (isInDoubleCheck()) {
+            return EMPTY_BOARD;
+        }
+
+        return this.checkers | BetweenTiles(this.kingPosition, Long.numberOfTrailingZeros(this.checkers));
+    }
+
+    /**
+     * Looks from the King through its own pieces for opposing sliding pieces with exactly one piece in between.
+     * @param opponent the alliance whose sliding pieces may pin
+     * @return every piece of the alliance that is pinned to its King
+     */
+    private long calculatePinnedPieces(final Alliance opponent) {
+        final long occupancy = this.bitBoard.getOccupancy();
+        final long opposingPieces = this.bitBoard.getOccupancy(opponent);
+        final long queens = this.bitBoard.getPieceBoard(QUEEN, opponent);
+        long pinners = (RookAttacks(this.kingPosition, opposingPieces) &
+                        (this.bitBoard.getPieceBoard(ROOK, opponent) | queens)) |
+                       (BishopAttacks(this.kingPosition, opposingPieces) &
+                        (this.bitBoard.getPieceBoard(BISHOP, opponent) | queens));
+        long pinnedPieces = EMPTY_BOARD;
+        while (pinners != EMPTY_BOARD) {
+            final long blockers = BetweenTiles(this.kingPosition, Long.numberOfTrailingZeros(pinners)) & occupancy;
+            pinners &= pinners - 1;
+            if (Long.bitCount(blockers) == 1) {
+                pinnedPieces |= blockers;
+            }
+        }
+
+        return pinnedPieces & this.bitBoard.getOccupancy(this.alliance);
+    }
+}
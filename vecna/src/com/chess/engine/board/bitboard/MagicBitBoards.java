@@ -0,0 +1,149 @@
+package com.chess.engine.board.bitboard;
+
+import static com.chess.engine.board.BoardUtils.NUM_TILES;
+import static com.chess.engine.board.bitboard.BitBoardUtils.*;
+
+/**
+ * This class holds the magic bitboard attack tables for the sliding pieces (Rook, Bishop, and Queen).
+ * For every tile, the blockers that can stop a ray are multiplied by a magic number to produce a unique
+ * index into a precomputed table of attacks, so a whole set of rays costs one multiply, one shift, and
+ * one array read instead of a tile-by-tile walk.
+ * The magic numbers were searched for this class's tile numbering (tile 0 is Black's queenside corner).
+ */
+public final class MagicBitBoards {
+    private static final long[] ROOK_MAGICS = {
+            0x5080014004801324L, 0x8540200040041000L, 0xA080082000801004L, 0x4B00080410010020L,
+            0x4600042058020010L, 0x1100040018410082L, 0x0880008002002100L, 0x8600020100204884L,
+            0x8023802480004002L, 0x0000802000804000L, 0x0041808020001000L, 0x0080801000800800L,
+            0x1020800400080080L, 0x2100800200800401L, 0x4C14008102045008L, 0x2402000C00628302L,
+            0x84E0828000401021L, 0x0010004040002000L, 0x1280410020001109L, 0x0100808008001000L,
+            0x0A04110008000500L, 0x3010808002000400L, 0x8020840001821008L, 0x1400020000408104L,
+            0x8220400080008026L, 0x0710004040002002L, 0x8020002080100080L, 0x4000100080800800L,
+            0x120A001200200805L, 0x0804000480020080L, 0x8300020400088110L, 0x0014011200084884L,
+            0x3000804008800021L, 0x0008832006804000L, 0x8804812004801000L, 0x2402002212000842L,
+            0x0388002004040040L, 0x0004800200800400L, 0x410A020104000890L, 0x9000004386000405L,
+            0x20422A4012808000L, 0x0240100800202000L, 0x2010002000808010L, 0x080010000D010020L,
+            0x0014000408008080L, 0x40A4000810020200L, 0x6002001184420008L, 0x0461142444820003L,
+            0x00082081104A0200L, 0x2800400089002500L, 0x8080200080100080L, 0x2880211001000900L,
+            0x2004008048000480L, 0x6100040002008080L, 0x0005230806100C00L, 0x0808241040910200L,
+            0x0000210010408001L, 0x4121001820400081L, 0x0002450010082001L, 0x08090028241000E1L,
+            0x0202008810208402L, 0x0409002A08240007L, 0x0100102800810204L, 0x0002008104004022L
+    };
+    private static final long[] BISHOP_MAGICS = {
+            0x42F010008808404CL, 0x340204010A02002CL, 0x1022081440844024L, 0x8090890208001400L,
+            0x0604042008000008L, 0x8018221090144100L, 0x004100B010080021L, 0x2402840406110400L,
+            0x0009052002140510L, 0x1401086808108020L, 0x0400080808409200L, 0x0008045408800080L,
+            0x0100020210020010L, 0x8800509010080002L, 0x001011110120A088L, 0x8000004108083220L,
+            0x0005834004044404L, 0x0010040810408090L, 0x010C00C081045100L, 0x1008420404008820L,
+            0x0401001890400400L, 0x0602000040422000L, 0x0104000202022398L, 0x0002841A10410800L,
+            0xA010100042040100L, 0x0082200808014426L, 0x0088021801020200L, 0x004004000880A080L,
+            0x2198840000802004L, 0x450200800408A004L, 0x820200410C040258L, 0x40010905084C00A3L,
+            0x0CB0340508901000L, 0x0052222000100100L, 0x0000802080140804L, 0x0200100820140400L,
+            0x4040040404204100L, 0x8008880240020100L, 0x0088008110008840L, 0x1420808C80230420L,
+            0x0C80825040011010L, 0x8002110C4A80A000L, 0x120200140201840AL, 0x000A304200801800L,
+            0x440042220A000400L, 0x2101020081000A00L, 0x008A061A44110200L, 0x439000808080030CL,
+            0x0001010190400101L, 0x0826010421440892L, 0x0002008088210084L, 0x6020001042020008L,
+            0x08042020A4242002L, 0x0650502001010904L, 0x0020420248010010L, 0x00220421021A0400L,
+            0x002A050400820840L, 0x4A200A0041045000L, 0x0000000084008880L, 0x00704040002A0800L,
+            0x5000211410020204L, 0x0220002004012210L, 0x0005101001081094L, 0x0004A00411022104L
+    };
+    // Relevant blockers, index shifts, and table offsets per tile
+    private static final long[] ROOK_MASKS = new long[NUM_TILES];
+    private static final long[] BISHOP_MASKS = new long[NUM_TILES];
+    private static final int[] ROOK_SHIFTS = new int[NUM_TILES];
+    private static final int[] BISHOP_SHIFTS = new int[NUM_TILES];
+    private static final int[] ROOK_OFFSETS = new int[NUM_TILES];
+    private static final int[] BISHOP_OFFSETS = new int[NUM_TILES];
+    // Every tile's attack sets, packed one after another
+    private static final long[] ROOK_TABLE = CreateAttackTable(ROOK_DIRECTIONS, ROOK_MAGICS,
+                                                               ROOK_MASKS, ROOK_SHIFTS, ROOK_OFFSETS);
+    private static final long[] BISHOP_TABLE = CreateAttackTable(BISHOP_DIRECTIONS, BISHOP_MAGICS,
+                                                                 BISHOP_MASKS, BISHOP_SHIFTS, BISHOP_OFFSETS);
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    private MagicBitBoards() {}
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * @param tilePosition where the Rook is
+     * @param occupancy    every occupied tile on the chess board
+     * @return the tiles the Rook attacks, up to and including the first blocker on each ray
+     */
+    public static long RookAttacks(final int tilePosition, final long occupancy) {
+        final long blockers = occupancy & ROOK_MASKS[tilePosition];
+        return ROOK_TABLE[ROOK_OFFSETS[tilePosition] +
+                          (int) ((blockers * ROOK_MAGICS[tilePosition]) >>> ROOK_SHIFTS[tilePosition])];
+    }
+
+    /**
+     * @param tilePosition where the Bishop is
+     * @param occupancy    every occupied tile on the chess board
+     * @return the tiles the Bishop attacks, up to and including the first blocker on each ray
+     */
+    public static long BishopAttacks(final int tilePosition, final long occupancy) {
+        final long blockers = occupancy & BISHOP_MASKS[tilePosition];
+        return BISHOP_TABLE[BISHOP_OFFSETS[tilePosition] +
+                            (int) ((blockers * BISHOP_MAGICS[tilePosition]) >>> BISHOP_SHIFTS[tilePosition])];
+    }
+    //********************************************************
+    //********************Helper Methods**********************
+    //********************************************************
+    /**
+     * Fills in the masks, shifts, and offsets for every tile, then walks every blocker arrangement once
+     * to store its attack set at the magic index.
+     * @param directions the { row, column } steps of the rays
+     * @param magics     the magic number of every tile
+     * @param masks      filled with the relevant blockers of every tile
+     * @param shifts     filled with the index shift of every tile
+     * @param offsets    filled with where every tile's attack sets start in the table
+     * @return the packed attack table
+     */
+    private static long[] CreateAttackTable(final int[][] directions,
+                                            final long[] magics,
+                                            final long[] masks,
+                                            final int[] shifts,
+                                            final int[] offsets) {
+        int tableSize = 0;
+        for (int i = 0; i < NUM_TILES; i++) {
+            // The last tile of every ray can never block anything behind it
+            masks[i] = SlidingAttacks(i, EMPTY_BOARD, directions) & ~CalculateRayEnds(i, directions);
+            shifts[i] = Long.SIZE - Long.bitCount(masks[i]);
+            offsets[i] = tableSize;
+            tableSize += 1 << Long.bitCount(masks[i]);
+        }
+
+        final long[] table = new long[tableSize];
+        for (int i = 0; i < NUM_TILES; i++) {
+            // Carry-Rippler trick: visit every subset of the mask, starting with the empty one
+            long blockers = EMPTY_BOARD;
+            do {
+                final int index = (int) ((blockers * magics[i]) >>> shifts[i]);
+                table[offsets[i] + index] = SlidingAttacks(i, blockers, directions);
+                blockers = (blockers - masks[i]) & masks[i];
+            } while (blockers != EMPTY_BOARD);
+        }
+
+        return table;
+    }
+
+    /**
+     * @param tilePosition where the sliding piece is
+     * @param directions   the { row, column } steps of the rays
+     * @return the last tile of every ray before the edge of the chess board
+     */
+    private static long CalculateRayEnds(final int tilePosition, final int[][] directions) {
+        long rayEnds = EMPTY_BOARD;
+        for (final int[] direction : directions) {
+            final long ray = SlidingAttacks(tilePosition, EMPTY_BOARD, new int[][] { direction });
+            if (ray != EMPTY_BOARD) {
+                // Rays run away from the tile, so the end is the bit farthest from it
+                rayEnds |= direction[0] < 0 || (direction[0] == 0 && direction[1] < 0) ?
+                           Long.lowestOneBit(ray) : Long.highestOneBit(ray);
+            }
+        }
+
+        return rayEnds;
+    }
+}
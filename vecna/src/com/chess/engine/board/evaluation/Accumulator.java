@@ -0,0 +1,127 @@
+package com.chess.engine.board.evaluation;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.bitboard.BitBoard;
+
+import java.util.Arrays;
+
+import static com.chess.engine.board.bitboard.BitBoardUtils.EMPTY_BOARD;
+import static com.chess.engine.board.bitboard.BitBoardUtils.NUM_PIECE_INDEXES;
+
+/**
+ * This class holds the first layer of a Network for one position, once from White's side and once from
+ * Black's.
+ * Placing or removing a piece adds or subtracts its feature's weights on both sides, so a move costs a few
+ * row additions instead of the whole layer. A Position keeps it up to date as it places and removes pieces,
+ * which also takes moves back exactly, since 16-bit additions and subtractions undo each other.
+ */
+public final class Accumulator {
+    private final Network network;
+    private final short[] whiteAccumulator;
+    private final short[] blackAccumulator;
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    /**
+     * Constructor for an empty board's accumulator (the hidden biases alone).
+     * @param network the network whose first layer is accumulated
+     */
+    public Accumulator(final Network network) {
+        this.network = network;
+        this.whiteAccumulator = new short[network.getHiddenSize()];
+        this.blackAccumulator = new short[network.getHiddenSize()];
+        clear();
+    }
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * Recalculates both sides from every piece of a position.
+     * @param bitBoard the piece sets of the position
+     */
+    public void refresh(final BitBoard bitBoard) {
+        clear();
+        for (int i = 0; i < NUM_PIECE_INDEXES; i++) {
+            long pieces = bitBoard.getPieceBoard(i);
+            while (pieces != EMPTY_BOARD) {
+                addPiece(i, Long.numberOfTrailingZeros(pieces));
+                pieces &= pieces - 1;
+            }
+        }
+    }
+
+    /**
+     * @param pieceIndex   the index (0-11) of the piece
+     * @param tilePosition where the piece is placed
+     */
+    public void addPiece(final int pieceIndex, final int tilePosition) {
+        final short[] weights = this.network.getFeatureWeights();
+        final int hiddenSize = this.whiteAccumulator.length;
+        AddRow(this.whiteAccumulator, weights, Network.FeatureIndex(true, pieceIndex, tilePosition) * hiddenSize);
+        AddRow(this.blackAccumulator, weights, Network.FeatureIndex(false, pieceIndex, tilePosition) * hiddenSize);
+    }
+
+    /**
+     * @param pieceIndex   the index (0-11) of the piece
+     * @param tilePosition where the piece is removed from
+     */
+    public void removePiece(final int pieceIndex, final int tilePosition) {
+        final short[] weights = this.network.getFeatureWeights();
+        final int hiddenSize = this.whiteAccumulator.length;
+        SubtractRow(this.whiteAccumulator, weights,
+                    Network.FeatureIndex(true, pieceIndex, tilePosition) * hiddenSize);
+        SubtractRow(this.blackAccumulator, weights,
+                    Network.FeatureIndex(false, pieceIndex, tilePosition) * hiddenSize);
+    }
+
+    /**
+     * @param sideToMove whose turn it is
+     * @return the network's score for the side to move, in centipawns
+     */
+    public int evaluate(final Alliance sideToMove) {
+        return sideToMove.isWhite() ? this.network.evaluate(this.whiteAccumulator, this.blackAccumulator) :
+               this.network.evaluate(this.blackAccumulator, this.whiteAccumulator);
+    }
+
+    /**
+     * @param alliance which side's half
+     * @return a copy of the side's half of the first layer
+     */
+    public short[] getValues(final Alliance alliance) {
+        return Arrays.copyOf(alliance.isWhite() ? this.whiteAccumulator : this.blackAccumulator,
+                             this.whiteAccumulator.length);
+    }
+    //********************************************************
+    //********************Helper Methods**********************
+    //********************************************************
+    /**
+     * Resets both sides to the hidden biases.
+     */
+    private void clear() {
+        final short[] hiddenBiases = this.network.getHiddenBiases();
+        System.arraycopy(hiddenBiases, 0, this.whiteAccumulator, 0, hiddenBiases.length);
+        System.arraycopy(hiddenBiases, 0, this.blackAccumulator, 0, hiddenBiases.length);
+    }
+
+    /**
+     * @param accumulator one side's half of the first layer
+     * @param weights     every feature's weights
+     * @param offset      where the feature's weights start
+     */
+    private static void AddRow(final short[] accumulator, final short[] weights, final int offset) {
+        for (int i = 0; i < accumulator.length; i++) {
+            accumulator[i] += weights[offset + i];
+        }
+    }
+
+    /**
+     * @param accumulator one side's half of the first layer
+     * @param weights     every feature's weights
+     * @param offset      where the feature's weights start
+     */
+    private static void SubtractRow(final short[] accumulator, final short[] weights, final int offset) {
+        for (int i = 0; i < accumulator.length; i++) {
+            accumulator[i] -= weights[offset + i];
+        }
+    }
+}
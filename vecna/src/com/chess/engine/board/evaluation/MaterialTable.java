@@ -0,0 +1,351 @@
+package com.chess.engine.board.evaluation;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.bitboard.BitBoard;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import java.util.Collection;
+
+import static com.chess.engine.board.BoardUtils.NUM_TILES_PER_ROW;
+import static com.chess.engine.board.bitboard.BitBoardUtils.*;
+import static com.chess.engine.board.evaluation.PieceSquareTables.Score;
+import static com.chess.engine.pieces.Piece.PieceType.*;
+
+/**
+ * This class holds what the mix of pieces on the board is worth on top of the pieces themselves, looked up
+ * by how many of each piece both alliances have (the material key).
+ * A material key packs one 4-bit count per piece index, so placing or removing a piece adds or subtracts a
+ * single number and the key never has to be counted again.
+ * Every mix of up to 8 Pawns, 2 Knights, 2 Bishops, 2 Rooks, and 1 Queen per alliance is worked out once:
+ * the bonus for the Bishop pair and for Knights and Rooks with more or fewer Pawns (imbalance), how much of
+ * a lead each alliance can turn into a win (scale), and which endgames need a closer look (KBN vs K, and a
+ * Bishop with Rook Pawns that cannot promote past the enemy King). Rarer mixes, only reached by promoting,
+ * are scored without these terms.
+ */
+public final class MaterialTable {
+    // A score is multiplied by its alliance's scale and divided by this
+    public static final int NORMAL_SCALE = 64;
+    // Endgames the table flags for a closer look at where the pieces stand
+    public static final int NO_ENDGAME = 0;
+    public static final int BISHOP_KNIGHT_KING = 1;
+    public static final int BISHOP_ROOK_PAWNS = 2;
+    private static final int COUNT_BITS = 4;
+    private static final int COUNT_MASK = (1 << COUNT_BITS) - 1;
+    private static final int ALLIANCE_SHIFT = NUM_PIECE_TYPES * COUNT_BITS;
+    // How many of each piece the table covers per alliance (index digits, in PieceType order)
+    private static final int[] TABLE_COUNTS = { 9, 3, 3, 3, 2, 1 };
+    private static final int ALLIANCE_ENTRIES = 9 * 3 * 3 * 3 * 2;
+    // Adding these pushes a count past the table into the top bit of its 4 bits (Pawns never go past 8)
+    private static final long RANGE_BIAS = CreateRangeBias();
+    private static final long RANGE_MASK = CreateRangeMask();
+    // Imbalance terms, per Bishop pair and per Knight or Rook for each Pawn of its alliance above 5
+    private static final int BISHOP_PAIR = Score(30, 50);
+    private static final int KNIGHT_PAWN_BONUS = Score(3, 3);
+    private static final int ROOK_PAWN_BONUS = Score(-6, -6);
+    // KBN vs K: drive the lone King into a corner of the Bishop's color, with the other King close behind
+    private static final int CORNER_BONUS = 20;
+    private static final int KING_DISTANCE_BONUS = 10;
+    // Middlegame values of the non-Pawn pieces, for telling how big a lead without Pawns is
+    private static final int[] PIECE_VALUES = { 0, 500, 320, 330, 900, 0 };
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    private static final int[] IMBALANCES = new int[ALLIANCE_ENTRIES * ALLIANCE_ENTRIES];
+    private static final byte[] WHITE_SCALES = new byte[ALLIANCE_ENTRIES * ALLIANCE_ENTRIES];
+    private static final byte[] BLACK_SCALES = new byte[ALLIANCE_ENTRIES * ALLIANCE_ENTRIES];
+    private static final byte[] ENDGAMES = new byte[ALLIANCE_ENTRIES * ALLIANCE_ENTRIES];
+    static {
+        final int[][] counts = CreateAllianceCounts();
+        for (int white = 0; white < ALLIANCE_ENTRIES; white++) {
+            for (int black = 0; black < ALLIANCE_ENTRIES; black++) {
+                final int index = white * ALLIANCE_ENTRIES + black;
+                IMBALANCES[index] = CalculateImbalance(counts[white]) - CalculateImbalance(counts[black]);
+                WHITE_SCALES[index] = (byte) CalculateScale(counts[white], counts[black]);
+                BLACK_SCALES[index] = (byte) CalculateScale(counts[black], counts[white]);
+                ENDGAMES[index] = (byte) Math.max(FindEndgame(counts[white], counts[black]),
+                                                  FindEndgame(counts[black], counts[white]));
+            }
+        }
+    }
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    private MaterialTable() {}
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * @param pieceIndex the index (0-11) of the piece
+     * @return what the piece adds to a material key
+     */
+    public static long MaterialKey(final int pieceIndex) {
+        return 1L << (pieceIndex * COUNT_BITS);
+    }
+
+    /**
+     * Calculates a material key from scratch, from a piece list.
+     * @param pieces the pieces of one or both alliances
+     * @return the material key of the pieces
+     */
+    public static long CalculateMaterialKey(final Collection<Piece> pieces) {
+        long materialKey = 0L;
+        for (final Piece piece : pieces) {
+            materialKey += MaterialKey(PieceIndex(piece.getPieceType(), piece.getPieceAlliance()));
+        }
+
+        return materialKey;
+    }
+
+    /**
+     * @param materialKey the material key of the position
+     * @param pieceType   what kind of piece
+     * @param alliance    White/Black
+     * @return how many of the pieces the alliance has
+     */
+    public static int Count(final long materialKey, final PieceType pieceType, final Alliance alliance) {
+        return (int) (materialKey >>> (PieceIndex(pieceType, alliance) * COUNT_BITS)) & COUNT_MASK;
+    }
+
+    /**
+     * @param materialKey the material key of the position
+     * @return the packed imbalance score from White's side (see PieceSquareTables)
+     */
+    public static int Imbalance(final long materialKey) {
+        return IsInTable(materialKey) ? IMBALANCES[Index(materialKey)] : 0;
+    }
+
+    /**
+     * Shrinks a lead that the material left cannot be turned into a win, and scores the endgames the table
+     * flags by where their pieces stand.
+     * @param materialKey the material key of the position
+     * @param bitBoard    the piece sets of the position
+     * @param whiteScore  the score of the position from White's side
+     * @return the score from White's side once the material is taken into account
+     */
+    public static int Scale(final long materialKey, final BitBoard bitBoard, final int whiteScore) {
+        if (!IsInTable(materialKey)) {
+            return whiteScore;
+        }
+        final int index = Index(materialKey);
+        final int scale = whiteScore > 0 ? WHITE_SCALES[index] : BLACK_SCALES[index];
+        final int scaledScore = whiteScore * scale / NORMAL_SCALE;
+        switch (ENDGAMES[index]) {
+            case BISHOP_KNIGHT_KING:
+                return whiteScore + EvaluateBishopKnightKing(bitBoard);
+            case BISHOP_ROOK_PAWNS:
+                return IsWrongBishop(bitBoard) ? 0 : scaledScore;
+            default:
+                return scaledScore;
+        }
+    }
+
+    /**
+     * Only positions where no sequence of moves can mate count: bare Kings, or a single Knight or Bishop.
+     * @param materialKey the material key of the position
+     * @return whether the position is a draw whatever is played
+     */
+    public static boolean IsDrawn(final long materialKey) {
+        final long minorPieces = MaterialKey(PieceIndex(KNIGHT, Alliance.WHITE)) |
+                                 MaterialKey(PieceIndex(BISHOP, Alliance.WHITE));
+        final long mateFreePieces = (minorPieces | MaterialKey(PieceIndex(KING, Alliance.WHITE))) * COUNT_MASK;
+        if ((materialKey & ~(mateFreePieces | mateFreePieces << ALLIANCE_SHIFT)) != EMPTY_BOARD) {
+            return false;
+        }
+
+        return Count(materialKey, KNIGHT, Alliance.WHITE) + Count(materialKey, BISHOP, Alliance.WHITE) +
+               Count(materialKey, KNIGHT, Alliance.BLACK) + Count(materialKey, BISHOP, Alliance.BLACK) <= 1;
+    }
+    //********************************************************
+    //********************Helper Methods**********************
+    //********************************************************
+    /**
+     * @param materialKey the material key of the position
+     * @return whether every count is within what the table covers
+     */
+    private static boolean IsInTable(final long materialKey) {
+        return ((materialKey + RANGE_BIAS) & RANGE_MASK) == EMPTY_BOARD;
+    }
+
+    /**
+     * @param materialKey the material key of a position the table covers
+     * @return where the position's entry is in the table
+     */
+    private static int Index(final long materialKey) {
+        return AllianceIndex(materialKey) * ALLIANCE_ENTRIES + AllianceIndex(materialKey >>> ALLIANCE_SHIFT);
+    }
+
+    /**
+     * @param counts the material key, shifted so the alliance's counts are the lowest
+     * @return the alliance's half of the table index
+     */
+    private static int AllianceIndex(final long counts) {
+        int index = 0;
+        for (int i = QUEEN.ordinal(); i >= 0; i--) {
+            index = index * TABLE_COUNTS[i] + ((int) (counts >>> (i * COUNT_BITS)) & COUNT_MASK);
+        }
+
+        return index;
+    }
+
+    /**
+     * Drives the lone King towards a corner the Bishop can cover, which is where KBN vs K is mated.
+     * @param bitBoard the piece sets of the position
+     * @return the bonus for the alliance with the pieces, from White's side
+     */
+    private static int EvaluateBishopKnightKing(final BitBoard bitBoard) {
+        final Alliance strongAlliance = bitBoard.getPieceBoard(BISHOP, Alliance.WHITE) != EMPTY_BOARD ?
+                                        Alliance.WHITE : Alliance.BLACK;
+        final int bishopTile = Long.numberOfTrailingZeros(bitBoard.getPieceBoard(BISHOP, strongAlliance));
+        final int strongKingTile = bitBoard.getKingPosition(strongAlliance);
+        final int weakKingTile = bitBoard.getKingPosition(strongAlliance.getOpposingAlliance());
+        // a8 and h1 are light tiles, h8 and a1 dark ones
+        final int cornerDistance = IsLightTile(bishopTile) ?
+                                   Math.min(Distance(weakKingTile, 0), Distance(weakKingTile, 63)) :
+                                   Math.min(Distance(weakKingTile, 7), Distance(weakKingTile, 56));
+        final int bonus = CORNER_BONUS * (NUM_TILES_PER_ROW - 1 - cornerDistance) +
+                          KING_DISTANCE_BONUS * (NUM_TILES_PER_ROW - 1 - Distance(strongKingTile, weakKingTile));
+
+        return strongAlliance.isWhite() ? bonus : -bonus;
+    }
+
+    /**
+     * Rook Pawns with a Bishop that does not cover their promotion tile cannot get past a King standing on it.
+     * @param bitBoard the piece sets of the position (one alliance has a Bishop and Pawns, the other a lone King)
+     * @return whether the lone King holds the draw
+     */
+    private static boolean IsWrongBishop(final BitBoard bitBoard) {
+        final Alliance strongAlliance = bitBoard.getPieceBoard(BISHOP, Alliance.WHITE) != EMPTY_BOARD ?
+                                        Alliance.WHITE : Alliance.BLACK;
+        final long pawns = bitBoard.getPieceBoard(PAWN, strongAlliance);
+        final int file = Long.numberOfTrailingZeros(pawns) % NUM_TILES_PER_ROW;
+        final long fileMask = 0x0101010101010101L << file;
+        if ((file != 0 && file != NUM_TILES_PER_ROW - 1) || (pawns & ~fileMask) != EMPTY_BOARD) {
+            return false;
+        }
+        final int promotionTile = strongAlliance.isWhite() ? file : 56 + file;
+        final int bishopTile = Long.numberOfTrailingZeros(bitBoard.getPieceBoard(BISHOP, strongAlliance));
+
+        return IsLightTile(bishopTile) != IsLightTile(promotionTile) &&
+               Distance(bitBoard.getKingPosition(strongAlliance.getOpposingAlliance()), promotionTile) <= 1;
+    }
+
+    /**
+     * @param tilePosition where the tile is on the chess board
+     * @return whether the tile is light (a8 is)
+     */
+    private static boolean IsLightTile(final int tilePosition) {
+        return (tilePosition / NUM_TILES_PER_ROW + tilePosition % NUM_TILES_PER_ROW) % 2 == 0;
+    }
+
+    /**
+     * @param counts how many of each piece (PieceType order) the alliance has
+     * @return the packed imbalance bonus of the alliance's pieces
+     */
+    private static int CalculateImbalance(final int[] counts) {
+        final int extraPawns = counts[PAWN.ordinal()] - 5;
+        return (counts[BISHOP.ordinal()] >= 2 ? BISHOP_PAIR : 0) +
+               counts[KNIGHT.ordinal()] * extraPawns * KNIGHT_PAWN_BONUS +
+               counts[ROOK.ordinal()] * extraPawns * ROOK_PAWN_BONUS;
+    }
+
+    /**
+     * Without Pawns, a lead of a minor piece or less rarely wins, and two Knights cannot force mate at all.
+     * @param counts      how many of each piece the alliance that is ahead has
+     * @param enemyCounts how many of each piece the other alliance has
+     * @return the scale of the alliance's lead, out of NORMAL_SCALE
+     */
+    private static int CalculateScale(final int[] counts, final int[] enemyCounts) {
+        if (counts[PAWN.ordinal()] > 0) {
+            return NORMAL_SCALE;
+        }
+        final int pieceValue = CalculatePieceValue(counts);
+        final int enemyPieceValue = CalculatePieceValue(enemyCounts);
+        if (pieceValue == 2 * PIECE_VALUES[KNIGHT.ordinal()] && counts[KNIGHT.ordinal()] == 2 &&
+            enemyCounts[PAWN.ordinal()] == 0) {
+            return 0;
+        }
+        if (pieceValue - enemyPieceValue <= PIECE_VALUES[BISHOP.ordinal()]) {
+            return pieceValue < PIECE_VALUES[ROOK.ordinal()] ? 0 :
+                   enemyPieceValue <= PIECE_VALUES[BISHOP.ordinal()] ? 4 : 14;
+        }
+
+        return NORMAL_SCALE;
+    }
+
+    /**
+     * @param counts      how many of each piece the alliance that may be winning has
+     * @param enemyCounts how many of each piece the other alliance has
+     * @return which endgame the material is, or NO_ENDGAME
+     */
+    private static int FindEndgame(final int[] counts, final int[] enemyCounts) {
+        if (CalculatePieceValue(enemyCounts) != 0 || enemyCounts[PAWN.ordinal()] != 0 ||
+            counts[BISHOP.ordinal()] != 1 || counts[ROOK.ordinal()] != 0 || counts[QUEEN.ordinal()] != 0) {
+            return NO_ENDGAME;
+        }
+        if (counts[KNIGHT.ordinal()] == 1 && counts[PAWN.ordinal()] == 0) {
+            return BISHOP_KNIGHT_KING;
+        }
+
+        return counts[KNIGHT.ordinal()] == 0 && counts[PAWN.ordinal()] > 0 ? BISHOP_ROOK_PAWNS : NO_ENDGAME;
+    }
+
+    /**
+     * @param counts how many of each piece the alliance has
+     * @return the middlegame value of the alliance's Knights, Bishops, Rooks, and Queens
+     */
+    private static int CalculatePieceValue(final int[] counts) {
+        int pieceValue = 0;
+        for (final PieceType pieceType : PIECE_TYPES) {
+            pieceValue += counts[pieceType.ordinal()] * PIECE_VALUES[pieceType.ordinal()];
+        }
+
+        return pieceValue;
+    }
+
+    /**
+     * @return how many of each piece every alliance half of the table index stands for
+     */
+    private static int[][] CreateAllianceCounts() {
+        final int[][] allianceCounts = new int[ALLIANCE_ENTRIES][NUM_PIECE_TYPES];
+        for (int i = 0; i < ALLIANCE_ENTRIES; i++) {
+            int index = i;
+            for (int j = 0; j <= QUEEN.ordinal(); j++) {
+                allianceCounts[i][j] = index % TABLE_COUNTS[j];
+                index /= TABLE_COUNTS[j];
+            }
+            allianceCounts[i][KING.ordinal()] = 1;
+        }
+
+        return allianceCounts;
+    }
+
+    /**
+     * @return the number added to every count of a material key before checking RANGE_MASK
+     */
+    private static long CreateRangeBias() {
+        long rangeBias = 0L;
+        for (int i = 0; i < NUM_PIECE_INDEXES; i++) {
+            final int type = i % NUM_PIECE_TYPES;
+            if (type != PAWN.ordinal() && type != KING.ordinal()) {
+                rangeBias |= (long) (COUNT_MASK / 2 + 1 - TABLE_COUNTS[type]) << (i * COUNT_BITS);
+            }
+        }
+
+        return rangeBias;
+    }
+
+    /**
+     * @return the top bit of every count that can go past the table
+     */
+    private static long CreateRangeMask() {
+        long rangeMask = 0L;
+        for (int i = 0; i < NUM_PIECE_INDEXES; i++) {
+            final int type = i % NUM_PIECE_TYPES;
+            if (type != PAWN.ordinal() && type != KING.ordinal()) {
+                rangeMask |= (long) (COUNT_MASK / 2 + 1) << (i * COUNT_BITS);
+            }
+        }
+
+        return rangeMask;
+    }
+}
@@ -0,0 +1,148 @@
+package com.chess.engine.board.evaluation;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ShortBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.chess.engine.board.BoardUtils.NUM_TILES;
+import static com.chess.engine.board.bitboard.BitBoardUtils.NUM_PIECE_INDEXES;
+import static com.chess.engine.board.bitboard.BitBoardUtils.NUM_PIECE_TYPES;
+
+/**
+ * This class holds the weights of a small neural network that scores a position (an efficiently updatable
+ * network, or NNUE).
+ * The first layer turns each piece on its tile into a feature seen from both sides, and its outputs for
+ * each side (the Accumulator) only change by the few features a move adds and removes. The side to move's
+ * half and the other side's half go through a clipped ReLU into a single output neuron.
+ * Every weight is a 16-bit integer: the first layer is scaled by QA and the output layer by QB.
+ * A network file is the raw little-endian weights one after another: the feature weights (768 features,
+ * hidden size each), the hidden biases, the output weights (the side to move's half first), and the output
+ * bias. Features are numbered own pieces first, by PieceType order, then tile, with tiles numbered from a8
+ * for White and mirrored to a1 for Black, so both sides see the board the same way.
+ */
+public final class Network {
+    public static final int NUM_FEATURES = NUM_PIECE_INDEXES * NUM_TILES;
+    private static final int QA = 255;
+    private static final int QB = 64;
+    // Turns the output neuron into centipawns
+    private static final int OUTPUT_SCALE = 400;
+    // Scores are held well inside the search's mate scores, so a network never reports a mate
+    public static final int MAX_SCORE = 15000;
+
+    private final int hiddenSize;
+    private final short[] featureWeights;
+    private final short[] hiddenBiases;
+    private final short[] outputWeights;
+    private final short outputBias;
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    /**
+     * Constructor for a network.
+     * @param hiddenSize     how many neurons each side's half of the first layer has
+     * @param featureWeights the first layer's weights, hidden size per feature
+     * @param hiddenBiases   the first layer's biases
+     * @param outputWeights  the output neuron's weights, the side to move's half first
+     * @param outputBias     the output neuron's bias
+     */
+    private Network(final int hiddenSize,
+                    final short[] featureWeights,
+                    final short[] hiddenBiases,
+                    final short[] outputWeights,
+                    final short outputBias) {
+        this.hiddenSize = hiddenSize;
+        this.featureWeights = featureWeights;
+        this.hiddenBiases = hiddenBiases;
+        this.outputWeights = outputWeights;
+        this.outputBias = outputBias;
+    }
+
+    /**
+     * Reads a network, working out its hidden size from the size of the file.
+     * @param path where the network file is
+     * @return the network
+     * @throws IOException if the file cannot be read or does not hold a whole network
+     */
+    public static Network Load(final Path path) throws IOException {
+        final ShortBuffer weights = ByteBuffer.wrap(Files.readAllBytes(path))
+                                              .order(ByteOrder.LITTLE_ENDIAN)
+                                              .asShortBuffer();
+        // Each hidden neuron has a weight per feature, a bias, and two output weights; then one output bias
+        final int weightsPerNeuron = NUM_FEATURES + 1 + 2;
+        final int weightCount = weights.remaining();
+        if (weightCount <= 1 || (weightCount - 1) % weightsPerNeuron != 0) {
+            throw new IOException("Not a network file: " + path + " holds " + weightCount + " weights");
+        }
+        final int hiddenSize = (weightCount - 1) / weightsPerNeuron;
+        final short[] featureWeights = new short[NUM_FEATURES * hiddenSize];
+        final short[] hiddenBiases = new short[hiddenSize];
+        final short[] outputWeights = new short[2 * hiddenSize];
+        weights.get(featureWeights).get(hiddenBiases).get(outputWeights);
+
+        return new Network(hiddenSize, featureWeights, hiddenBiases, outputWeights, weights.get());
+    }
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * @param perspectiveIsWhite whether the feature is seen from White's side
+     * @param pieceIndex         the index (0-11) of the piece
+     * @param tilePosition       where the piece is
+     * @return the feature number of the piece on its tile, seen from the given side
+     */
+    public static int FeatureIndex(final boolean perspectiveIsWhite, final int pieceIndex, final int tilePosition) {
+        final boolean isWhitePiece = pieceIndex < NUM_PIECE_TYPES;
+        final int ownOffset = isWhitePiece == perspectiveIsWhite ? 0 : NUM_PIECE_TYPES * NUM_TILES;
+        return ownOffset + (pieceIndex % NUM_PIECE_TYPES) * NUM_TILES +
+               (perspectiveIsWhite ? tilePosition : tilePosition ^ 56);
+    }
+
+    /**
+     * Runs the hidden layer through the clipped ReLU and the output neuron.
+     * The loops are plain array loops over 16-bit values so that the JIT compiles them to SIMD instructions.
+     * Each neuron adds up to QA times a 16-bit weight, so the sum is kept in a long for any hidden size.
+     * @param ownAccumulator   the side to move's half of the first layer
+     * @param enemyAccumulator the other side's half
+     * @return the score for the side to move, in centipawns (between -MAX_SCORE and MAX_SCORE)
+     */
+    public int evaluate(final short[] ownAccumulator, final short[] enemyAccumulator) {
+        final short[] outputWeights = this.outputWeights;
+        final int hiddenSize = this.hiddenSize;
+        long sum = 0;
+        for (int i = 0; i < hiddenSize; i++) {
+            sum += Math.min(Math.max(ownAccumulator[i], 0), QA) * outputWeights[i];
+        }
+        for (int i = 0; i < hiddenSize; i++) {
+            sum += Math.min(Math.max(enemyAccumulator[i], 0), QA) * outputWeights[hiddenSize + i];
+        }
+
+        final long score = (sum + (long) this.outputBias * QA) * OUTPUT_SCALE / (QA * QB);
+        return (int) Math.max(-MAX_SCORE, Math.min(MAX_SCORE, score));
+    }
+    //********************************************************
+    //************************Getters*************************
+    //********************************************************
+    /**
+     * @return how many neurons each side's half of the first layer has
+     */
+    public int getHiddenSize() {
+        return this.hiddenSize;
+    }
+
+    /**
+     * @return the first layer's weights, hidden size per feature (not to be changed)
+     */
+    short[] getFeatureWeights() {
+        return this.featureWeights;
+    }
+
+    /**
+     * @return the first layer's biases (not to be changed)
+     */
+    short[] getHiddenBiases() {
+        return this.hiddenBiases;
+    }
+}
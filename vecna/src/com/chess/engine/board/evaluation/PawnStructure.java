@@ -0,0 +1,297 @@
+package com.chess.engine.board.evaluation;
+
+import com.chess.engine.Alliance;
+
+import static com.chess.engine.board.BoardUtils.NUM_TILES;
+import static com.chess.engine.board.BoardUtils.NUM_TILES_PER_ROW;
+import static com.chess.engine.board.bitboard.BitBoardUtils.*;
+import static com.chess.engine.board.evaluation.PieceSquareTables.Score;
+
+/**
+ * This class scores the Pawns of a position against each other: Pawns stacked on one file (doubled), Pawns
+ * with no friendly Pawn on a neighboring file (isolated), Pawns left behind their neighbors that cannot
+ * safely advance (backward), and Pawns no enemy Pawn can stop (passed).
+ * The score only depends on where the Pawns are, so the search caches it by the pawn key (see PawnTable).
+ * The Pawns in front of each King (its shield), and how close each King is to the passed Pawns, also depend
+ * on where the Kings are and are scored apart.
+ * Scores are packed like PieceSquareTables scores, from White's side.
+ */
+public final class PawnStructure {
+    private static final int DOUBLED = Score(-10, -20);
+    private static final int ISOLATED = Score(-10, -15);
+    private static final int BACKWARD = Score(-8, -10);
+    // By rank from the Pawn's own side (a Pawn never stands on its first or last rank)
+    private static final int[] PASSED = {
+            Score(0, 0), Score(0, 10), Score(5, 15), Score(10, 25),
+            Score(20, 45), Score(35, 70), Score(60, 110), Score(0, 0) };
+    // Shield Pawns are worth something only while there are pieces left to attack the King
+    private static final int SHIELD_CLOSE = Score(12, 0);
+    private static final int SHIELD_FAR = Score(6, 0);
+    // In the endgame a passed Pawn is worth more the further the enemy King is from the tile in front of it, and
+    // the closer its own King is; both count once per rank the Pawn has gone past its third
+    private static final int ENEMY_KING_DISTANCE = Score(0, 5);
+    private static final int OWN_KING_DISTANCE = Score(0, -2);
+    private static final int KING_DISTANCE_START_RANK = 2;
+    private static final long[] FILE_MASKS = CreateFileMasks();
+    private static final long[] ADJACENT_FILE_MASKS = CreateAdjacentFileMasks();
+    // Indexed by alliance index, then tile: the tiles ahead of a Pawn on its own file
+    private static final long[][] FORWARD_MASKS = CreateForwardMasks(false);
+    // ... on its own and both neighboring files, which no enemy Pawn may stand on for it to be passed
+    private static final long[][] PASSED_MASKS = CreateForwardMasks(true);
+    // ... on both neighboring files beside and behind it, where the Pawns that could back it up stand
+    private static final long[][] SUPPORT_MASKS = CreateSupportMasks();
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    private PawnStructure() {}
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * @param whitePawns every White Pawn
+     * @param blackPawns every Black Pawn
+     * @return the Pawns of either alliance that no enemy Pawn stands in front of or beside on the way up
+     */
+    public static long CalculatePassedPawns(final long whitePawns, final long blackPawns) {
+        return CalculatePassedPawns(whitePawns, blackPawns, Alliance.WHITE) |
+               CalculatePassedPawns(blackPawns, whitePawns, Alliance.BLACK);
+    }
+
+    /**
+     * @param whitePawns  every White Pawn
+     * @param blackPawns  every Black Pawn
+     * @param passedPawns the passed Pawns of both alliances (see CalculatePassedPawns)
+     * @return the packed score of the Pawn structure
+     */
+    public static int Evaluate(final long whitePawns, final long blackPawns, final long passedPawns) {
+        return EvaluatePawns(whitePawns, blackPawns, passedPawns, Alliance.WHITE) -
+               EvaluatePawns(blackPawns, whitePawns, passedPawns, Alliance.BLACK);
+    }
+
+    /**
+     * @param whitePawns     every White Pawn
+     * @param blackPawns     every Black Pawn
+     * @param whiteKingTile  where White's King is
+     * @param blackKingTile  where Black's King is
+     * @return the packed score of the Pawns sheltering both Kings
+     */
+    public static int EvaluateShields(final long whitePawns,
+                                      final long blackPawns,
+                                      final int whiteKingTile,
+                                      final int blackKingTile) {
+        return EvaluateShield(whitePawns, whiteKingTile, Alliance.WHITE) -
+               EvaluateShield(blackPawns, blackKingTile, Alliance.BLACK);
+    }
+
+    /**
+     * @param whitePawns    every White Pawn
+     * @param blackPawns    every Black Pawn
+     * @param passedPawns   the passed Pawns of both alliances (see CalculatePassedPawns)
+     * @param whiteKingTile where White's King is
+     * @param blackKingTile where Black's King is
+     * @return the packed score of how well placed both Kings are to stop and escort the passed Pawns
+     */
+    public static int EvaluatePassedPawnKings(final long whitePawns,
+                                              final long blackPawns,
+                                              final long passedPawns,
+                                              final int whiteKingTile,
+                                              final int blackKingTile) {
+        return EvaluatePassedPawnKings(whitePawns & passedPawns, whiteKingTile, blackKingTile, Alliance.WHITE) -
+               EvaluatePassedPawnKings(blackPawns & passedPawns, blackKingTile, whiteKingTile, Alliance.BLACK);
+    }
+    //********************************************************
+    //********************Helper Methods**********************
+    //********************************************************
+    /**
+     * @param pawns      the Pawns of one alliance
+     * @param enemyPawns the other alliance's Pawns
+     * @param alliance   the alliance of the Pawns
+     * @return the passed Pawns among them
+     */
+    private static long CalculatePassedPawns(final long pawns, final long enemyPawns, final Alliance alliance) {
+        final long[] passedMasks = PASSED_MASKS[AllianceIndex(alliance)];
+        long passedPawns = EMPTY_BOARD;
+        long remaining = pawns;
+        while (remaining != EMPTY_BOARD) {
+            final int tilePosition = Long.numberOfTrailingZeros(remaining);
+            if ((passedMasks[tilePosition] & enemyPawns) == EMPTY_BOARD) {
+                passedPawns |= TileMask(tilePosition);
+            }
+            remaining &= remaining - 1;
+        }
+
+        return passedPawns;
+    }
+
+    /**
+     * @param pawns       the Pawns of one alliance
+     * @param enemyPawns  the other alliance's Pawns
+     * @param passedPawns the passed Pawns of both alliances
+     * @param alliance    the alliance of the Pawns
+     * @return the packed score of the alliance's Pawns, as a bonus for that alliance
+     */
+    private static int EvaluatePawns(final long pawns,
+                                     final long enemyPawns,
+                                     final long passedPawns,
+                                     final Alliance alliance) {
+        final int allianceIndex = AllianceIndex(alliance);
+        final int direction = alliance.getDirection() * NUM_TILES_PER_ROW;
+        int score = 0;
+        long remaining = pawns;
+        while (remaining != EMPTY_BOARD) {
+            final int tilePosition = Long.numberOfTrailingZeros(remaining);
+            final int column = tilePosition % NUM_TILES_PER_ROW;
+            // Only the Pawns behind another one on their file count as doubled
+            if ((FORWARD_MASKS[allianceIndex][tilePosition] & pawns) != EMPTY_BOARD) {
+                score += DOUBLED;
+            }
+            if ((ADJACENT_FILE_MASKS[column] & pawns) == EMPTY_BOARD) {
+                score += ISOLATED;
+            } else if ((SUPPORT_MASKS[allianceIndex][tilePosition] & pawns) == EMPTY_BOARD &&
+                       (PawnAttacks(tilePosition + direction, alliance) & enemyPawns) != EMPTY_BOARD) {
+                score += BACKWARD;
+            }
+            if ((passedPawns & TileMask(tilePosition)) != EMPTY_BOARD) {
+                score += PASSED[RelativeRank(tilePosition, alliance)];
+            }
+            remaining &= remaining - 1;
+        }
+
+        return score;
+    }
+
+    /**
+     * Counts the Pawns one and two ranks in front of the King, on its file and both neighboring files.
+     * @param pawns    the Pawns of the King's alliance
+     * @param kingTile where the King is
+     * @param alliance the King's alliance
+     * @return the packed score of the King's shield, as a bonus for its alliance
+     */
+    private static int EvaluateShield(final long pawns, final int kingTile, final Alliance alliance) {
+        final long kingFiles = FILE_MASKS[kingTile % NUM_TILES_PER_ROW] |
+                               ADJACENT_FILE_MASKS[kingTile % NUM_TILES_PER_ROW];
+        final int row = kingTile / NUM_TILES_PER_ROW + alliance.getDirection();
+        final int farRow = row + alliance.getDirection();
+        int score = 0;
+        if (row >= 0 && row < NUM_TILES_PER_ROW) {
+            score += Long.bitCount(pawns & kingFiles & RowMask(row)) * SHIELD_CLOSE;
+        }
+        if (farRow >= 0 && farRow < NUM_TILES_PER_ROW) {
+            score += Long.bitCount(pawns & kingFiles & RowMask(farRow)) * SHIELD_FAR;
+        }
+
+        return score;
+    }
+
+    /**
+     * @param passedPawns   the passed Pawns of one alliance
+     * @param ownKingTile   where the alliance's King is
+     * @param enemyKingTile where the other alliance's King is
+     * @param alliance      the alliance of the Pawns
+     * @return the packed score of the Kings' distances to the Pawns, as a bonus for the Pawns' alliance
+     */
+    private static int EvaluatePassedPawnKings(final long passedPawns,
+                                               final int ownKingTile,
+                                               final int enemyKingTile,
+                                               final Alliance alliance) {
+        final int direction = alliance.getDirection() * NUM_TILES_PER_ROW;
+        int score = 0;
+        long remaining = passedPawns;
+        while (remaining != EMPTY_BOARD) {
+            final int tilePosition = Long.numberOfTrailingZeros(remaining);
+            final int weight = RelativeRank(tilePosition, alliance) - KING_DISTANCE_START_RANK;
+            if (weight > 0) {
+                // A passed Pawn never stands on its last rank, so the tile in front of it is on the board
+                final int stopTile = tilePosition + direction;
+                score += weight * (Distance(enemyKingTile, stopTile) * ENEMY_KING_DISTANCE +
+                                   Distance(ownKingTile, stopTile) * OWN_KING_DISTANCE);
+            }
+            remaining &= remaining - 1;
+        }
+
+        return score;
+    }
+
+    /**
+     * @param tilePosition where the Pawn is
+     * @param alliance     the Pawn's alliance
+     * @return how many ranks the Pawn is from its own back rank
+     */
+    private static int RelativeRank(final int tilePosition, final Alliance alliance) {
+        final int row = tilePosition / NUM_TILES_PER_ROW;
+        return alliance.isWhite() ? NUM_TILES_PER_ROW - 1 - row : row;
+    }
+
+    /**
+     * @param row the row (0 is Black's back rank)
+     * @return every tile on the row
+     */
+    private static long RowMask(final int row) {
+        return 0xFFL << (row * NUM_TILES_PER_ROW);
+    }
+
+    /**
+     * @return every tile of each file
+     */
+    private static long[] CreateFileMasks() {
+        final long[] fileMasks = new long[NUM_TILES_PER_ROW];
+        for (int i = 0; i < NUM_TILES; i++) {
+            fileMasks[i % NUM_TILES_PER_ROW] |= TileMask(i);
+        }
+
+        return fileMasks;
+    }
+
+    /**
+     * @return every tile of the files to either side of each file
+     */
+    private static long[] CreateAdjacentFileMasks() {
+        final long[] fileMasks = CreateFileMasks();
+        final long[] adjacentFileMasks = new long[NUM_TILES_PER_ROW];
+        for (int i = 0; i < NUM_TILES_PER_ROW; i++) {
+            adjacentFileMasks[i] = (i > 0 ? fileMasks[i - 1] : EMPTY_BOARD) |
+                                   (i < NUM_TILES_PER_ROW - 1 ? fileMasks[i + 1] : EMPTY_BOARD);
+        }
+
+        return adjacentFileMasks;
+    }
+
+    /**
+     * @param withAdjacentFiles whether the neighboring files count as well as the Pawn's own
+     * @return for each alliance index and tile, the tiles further up the board in the alliance's direction
+     */
+    private static long[][] CreateForwardMasks(final boolean withAdjacentFiles) {
+        final long[] fileMasks = CreateFileMasks();
+        final long[] adjacentFileMasks = CreateAdjacentFileMasks();
+        final long[][] forwardMasks = new long[2][NUM_TILES];
+        for (int i = 0; i < NUM_TILES; i++) {
+            final int row = i / NUM_TILES_PER_ROW;
+            final int column = i % NUM_TILES_PER_ROW;
+            final long files = fileMasks[column] | (withAdjacentFiles ? adjacentFileMasks[column] : EMPTY_BOARD);
+            // White heads for row 0, Black for row 7
+            final long aheadOfWhite = row == 0 ? EMPTY_BOARD : -1L >>> (NUM_TILES - row * NUM_TILES_PER_ROW);
+            final long aheadOfBlack = row == NUM_TILES_PER_ROW - 1 ? EMPTY_BOARD :
+                                      -1L << ((row + 1) * NUM_TILES_PER_ROW);
+            forwardMasks[0][i] = files & aheadOfWhite;
+            forwardMasks[1][i] = files & aheadOfBlack;
+        }
+
+        return forwardMasks;
+    }
+
+    /**
+     * @return for each alliance index and tile, the tiles on the neighboring files not ahead of the tile
+     */
+    private static long[][] CreateSupportMasks() {
+        final long[] adjacentFileMasks = CreateAdjacentFileMasks();
+        final long[][] passedMasks = CreateForwardMasks(true);
+        final long[][] supportMasks = new long[2][NUM_TILES];
+        for (int i = 0; i < NUM_TILES; i++) {
+            final long adjacentFiles = adjacentFileMasks[i % NUM_TILES_PER_ROW];
+            supportMasks[0][i] = adjacentFiles & ~passedMasks[0][i];
+            supportMasks[1][i] = adjacentFiles & ~passedMasks[1][i];
+        }
+
+        return supportMasks;
+    }
+}
@@ -0,0 +1,237 @@
+package com.chess.engine.board.evaluation;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.bitboard.BitBoard;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import static com.chess.engine.board.BoardUtils.NUM_TILES;
+import static com.chess.engine.board.bitboard.BitBoardUtils.*;
+
+/**
+ * This class holds what each piece is worth on each tile, once for the middlegame and once for the endgame.
+ * Both values are packed into one int (middlegame in the upper half, endgame in the lower half), with White's
+ * pieces counting up and Black's counting down, so a position's score is the plain sum of its pieces' scores
+ * and a move only has to subtract what it removes and add what it places.
+ * The game phase falls from MAX_PHASE towards 0 as Knights, Bishops, Rooks, and Queens come off, and blends
+ * the middlegame and endgame halves of a score (a tapered evaluation).
+ * Tables are written from White's side with a8 first, the same order as the tiles.
+ */
+public final class PieceSquareTables {
+    public static final int MAX_PHASE = 24;
+    // Knight, Bishop, Rook, and Queen weights add up to MAX_PHASE in the initial position
+    private static final int[] PHASE_WEIGHTS = { 0, 2, 1, 1, 4, 0 };
+    // Material in PieceType order (the King is never traded, so it is worth nothing here)
+    private static final int[] MIDDLEGAME_MATERIAL = { 100, 500, 320, 330, 900, 0 };
+    private static final int[] ENDGAME_MATERIAL = { 120, 520, 300, 320, 920, 0 };
+    private static final int[] PAWN_MIDDLEGAME = {
+             0,   0,   0,   0,   0,   0,   0,   0,
+            50,  50,  50,  50,  50,  50,  50,  50,
+            10,  10,  20,  30,  30,  20,  10,  10,
+             5,   5,  10,  25,  25,  10,   5,   5,
+             0,   0,   0,  20,  20,   0,   0,   0,
+             5,  -5, -10,   0,   0, -10,  -5,   5,
+             5,  10,  10, -20, -20,  10,  10,   5,
+             0,   0,   0,   0,   0,   0,   0,   0 };
+    private static final int[] PAWN_ENDGAME = {
+             0,   0,   0,   0,   0,   0,   0,   0,
+            80,  80,  80,  80,  80,  80,  80,  80,
+            50,  50,  50,  50,  50,  50,  50,  50,
+            30,  30,  30,  30,  30,  30,  30,  30,
+            15,  15,  15,  15,  15,  15,  15,  15,
+             5,   5,   5,   5,   5,   5,   5,   5,
+             0,   0,   0,   0,   0,   0,   0,   0,
+             0,   0,   0,   0,   0,   0,   0,   0 };
+    private static final int[] KNIGHT_TABLE = {
+           -50, -40, -30, -30, -30, -30, -40, -50,
+           -40, -20,   0,   0,   0,   0, -20, -40,
+           -30,   0,  10,  15,  15,  10,   0, -30,
+           -30,   5,  15,  20,  20,  15,   5, -30,
+           -30,   0,  15,  20,  20,  15,   0, -30,
+           -30,   5,  10,  15,  15,  10,   5, -30,
+           -40, -20,   0,   5,   5,   0, -20, -40,
+           -50, -40, -30, -30, -30, -30, -40, -50 };
+    private static final int[] BISHOP_TABLE = {
+           -20, -10, -10, -10, -10, -10, -10, -20,
+           -10,   0,   0,   0,   0,   0,   0, -10,
+           -10,   0,   5,  10,  10,   5,   0, -10,
+           -10,   5,   5,  10,  10,   5,   5, -10,
+           -10,   0,  10,  10,  10,  10,   0, -10,
+           -10,  10,  10,  10,  10,  10,  10, -10,
+           -10,   5,   0,   0,   0,   0,   5, -10,
+           -20, -10, -10, -10, -10, -10, -10, -20 };
+    private static final int[] ROOK_TABLE = {
+             0,   0,   0,   0,   0,   0,   0,   0,
+             5,  10,  10,  10,  10,  10,  10,   5,
+            -5,   0,   0,   0,   0,   0,   0,  -5,
+            -5,   0,   0,   0,   0,   0,   0,  -5,
+            -5,   0,   0,   0,   0,   0,   0,  -5,
+            -5,   0,   0,   0,   0,   0,   0,  -5,
+            -5,   0,   0,   0,   0,   0,   0,  -5,
+             0,   0,   0,   5,   5,   0,   0,   0 };
+    private static final int[] QUEEN_TABLE = {
+           -20, -10, -10,  -5,  -5, -10, -10, -20,
+           -10,   0,   0,   0,   0,   0,   0, -10,
+           -10,   0,   5,   5,   5,   5,   0, -10,
+            -5,   0,   5,   5,   5,   5,   0,  -5,
+             0,   0,   5,   5,   5,   5,   0,  -5,
+           -10,   5,   5,   5,   5,   5,   0, -10,
+           -10,   0,   5,   0,   0,   0,   0, -10,
+           -20, -10, -10,  -5,  -5, -10, -10, -20 };
+    // The King hides behind its Pawns in the middlegame and heads for the center in the endgame
+    private static final int[] KING_MIDDLEGAME = {
+           -30, -40, -40, -50, -50, -40, -40, -30,
+           -30, -40, -40, -50, -50, -40, -40, -30,
+           -30, -40, -40, -50, -50, -40, -40, -30,
+           -30, -40, -40, -50, -50, -40, -40, -30,
+           -20, -30, -30, -40, -40, -30, -30, -20,
+           -10, -20, -20, -20, -20, -20, -20, -10,
+            20,  20,   0,   0,   0,   0,  20,  20,
+            20,  30,  10,   0,   0,  10,  30,  20 };
+    private static final int[] KING_ENDGAME = {
+           -50, -40, -30, -20, -20, -30, -40, -50,
+           -30, -20, -10,   0,   0, -10, -20, -30,
+           -30, -10,  20,  30,  30,  20, -10, -30,
+           -30, -10,  30,  40,  40,  30, -10, -30,
+           -30, -10,  30,  40,  40,  30, -10, -30,
+           -30, -10,  20,  30,  30,  20, -10, -30,
+           -30, -30,   0,   0,   0,   0, -30, -30,
+           -50, -30, -30, -30, -30, -30, -30, -50 };
+    // In PieceType order
+    private static final int[][] MIDDLEGAME_TABLES = {
+            PAWN_MIDDLEGAME, ROOK_TABLE, KNIGHT_TABLE, BISHOP_TABLE, QUEEN_TABLE, KING_MIDDLEGAME };
+    private static final int[][] ENDGAME_TABLES = {
+            PAWN_ENDGAME, ROOK_TABLE, KNIGHT_TABLE, BISHOP_TABLE, QUEEN_TABLE, KING_ENDGAME };
+    private static final int[][] PIECE_SCORES = CreatePieceScores();
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    private PieceSquareTables() {}
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * @param pieceIndex   the index (0-11) of the piece
+     * @param tilePosition where the piece is
+     * @return the packed score of the piece standing on the tile (negative for Black)
+     */
+    public static int PieceScore(final int pieceIndex, final int tilePosition) {
+        return PIECE_SCORES[pieceIndex][tilePosition];
+    }
+
+    /**
+     * @param piece        the piece
+     * @param tilePosition where the piece is
+     * @return the packed score of the piece standing on the tile (negative for Black)
+     */
+    public static int PieceScore(final Piece piece, final int tilePosition) {
+        return PIECE_SCORES[PieceIndex(piece.getPieceType(), piece.getPieceAlliance())][tilePosition];
+    }
+
+    /**
+     * @param pieceIndex the index (0-11) of the piece
+     * @return how much the piece adds to the game phase
+     */
+    public static int PiecePhase(final int pieceIndex) {
+        return PHASE_WEIGHTS[pieceIndex % NUM_PIECE_TYPES];
+    }
+
+    /**
+     * @param piece the piece
+     * @return how much the piece adds to the game phase
+     */
+    public static int PiecePhase(final Piece piece) {
+        return PHASE_WEIGHTS[piece.getPieceType().ordinal()];
+    }
+
+    /**
+     * @param middlegameScore the middlegame half
+     * @param endgameScore    the endgame half
+     * @return both halves packed into one int
+     */
+    public static int Score(final int middlegameScore, final int endgameScore) {
+        return (middlegameScore << 16) + endgameScore;
+    }
+
+    /**
+     * @param score a packed score
+     * @return its middlegame half
+     */
+    public static int MiddlegameScore(final int score) {
+        return (score + 0x8000) >> 16;
+    }
+
+    /**
+     * @param score a packed score
+     * @return its endgame half
+     */
+    public static int EndgameScore(final int score) {
+        return (short) score;
+    }
+
+    /**
+     * @param score a packed score
+     * @param phase the game phase (more than MAX_PHASE counts as MAX_PHASE, e.g., after promotions)
+     * @return the middlegame and endgame halves blended by the phase
+     */
+    public static int Taper(final int score, final int phase) {
+        final int middlegameWeight = Math.min(phase, MAX_PHASE);
+        return (MiddlegameScore(score) * middlegameWeight + EndgameScore(score) * (MAX_PHASE - middlegameWeight)) /
+               MAX_PHASE;
+    }
+
+    /**
+     * Calculates a score from scratch. Only boards that are not made by a move (e.g., the initial board) need this.
+     * @param bitBoard the piece sets of the position
+     * @return the packed score of every piece on the board
+     */
+    public static int CalculateScore(final BitBoard bitBoard) {
+        int score = 0;
+        for (int i = 0; i < NUM_PIECE_INDEXES; i++) {
+            long pieces = bitBoard.getPieceBoard(i);
+            while (pieces != EMPTY_BOARD) {
+                score += PieceScore(i, Long.numberOfTrailingZeros(pieces));
+                pieces &= pieces - 1;
+            }
+        }
+
+        return score;
+    }
+
+    /**
+     * Calculates a phase from scratch. Only boards that are not made by a move need this.
+     * @param bitBoard the piece sets of the position
+     * @return the game phase of the board
+     */
+    public static int CalculatePhase(final BitBoard bitBoard) {
+        int phase = 0;
+        for (int i = 0; i < NUM_PIECE_INDEXES; i++) {
+            phase += Long.bitCount(bitBoard.getPieceBoard(i)) * PiecePhase(i);
+        }
+
+        return phase;
+    }
+    //********************************************************
+    //********************Helper Methods**********************
+    //********************************************************
+    /**
+     * Black's score on a tile is White's on the tile mirrored across the middle of the board, negated.
+     * @return the packed score of every piece index on every tile
+     */
+    private static int[][] CreatePieceScores() {
+        final int[][] pieceScores = new int[NUM_PIECE_INDEXES][NUM_TILES];
+        for (final PieceType pieceType : PieceType.values()) {
+            final int type = pieceType.ordinal();
+            for (int i = 0; i < NUM_TILES; i++) {
+                final int whiteScore = Score(MIDDLEGAME_MATERIAL[type] + MIDDLEGAME_TABLES[type][i],
+                                             ENDGAME_MATERIAL[type] + ENDGAME_TABLES[type][i]);
+                final int blackScore = -Score(MIDDLEGAME_MATERIAL[type] + MIDDLEGAME_TABLES[type][i ^ 56],
+                                              ENDGAME_MATERIAL[type] + ENDGAME_TABLES[type][i ^ 56]);
+                pieceScores[PieceIndex(pieceType, Alliance.WHITE)][i] = whiteScore;
+                pieceScores[PieceIndex(pieceType, Alliance.BLACK)][i] = blackScore;
+            }
+        }
+
+        return pieceScores;
+    }
+}
@@ -5,7 +5,11 @@ import com.chess.engine.board.move.misc.NullMove;
 import com.chess.engine.pieces.Piece;
 
 import static com.chess.engine.board.Board.*;
+import static com.chess.engine.board.BoardUtils.UpdateCastlingRights;
+import static com.chess.engine.board.evaluation.PieceSquareTables.PieceScore;
 import static com.chess.engine.board.move.utils.MoveUtils.PlaceNonMovingPieces;
+import static com.chess.engine.board.zobrist.Zobrist.*;
+import static com.chess.engine.pieces.Piece.PieceType.PAWN;
 
 /**
  * This class represents a move done on a chess board with a chess piece.
@@ -39,10 +43,99 @@ public abstract class Move {
         // Move the moving piece, then set the next move maker
         builder.setPiece(this.movedPiece.movePiece(this));
         builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getPlayerAlliance());
+        setIncrementalState(builder);
 
         return builder.build();
     }
 
+    /**
+     * Hands the new board everything the move updates from the previous board, so that the board does not
+     * calculate it from scratch. Every execute calls this once its pieces and move maker are set.
+     * @param builder what builds the board after the move
+     */
+    protected void setIncrementalState(final Builder builder) {
+        builder.setZobristKey(calculateZobristKey());
+        builder.setPawnKey(calculatePawnKey());
+        builder.setPieceSquareScore(calculatePieceSquareScore());
+        builder.setPhase(calculatePhase());
+        builder.setHalfmoveClock(calculateHalfmoveClock());
+        builder.setFullmoveNumber(calculateFullmoveNumber());
+    }
+
+    /**
+     * Updates the board's Zobrist key for the move instead of hashing the new board from scratch.
+     * Subclasses XOR in whatever else their move changes.
+     * @return the Zobrist key of the board after the move
+     */
+    public long calculateZobristKey() {
+        final int currentPosition = this.movedPiece.getPiecePosition();
+        final int castlingRights = this.board.getCastlingRights();
+
+        return this.board.getZobristKey() ^
+               BLACK_TO_MOVE_KEY ^
+               EnPassantKey(this.board.getEnPassantTile()) ^
+               CastlingKey(castlingRights) ^
+               CastlingKey(UpdateCastlingRights(castlingRights, currentPosition, this.targetPosition)) ^
+               PieceKey(this.movedPiece, currentPosition) ^
+               PieceKey(this.movedPiece, this.targetPosition);
+    }
+
+    /**
+     * Only Pawn moves and captures of Pawns change the pawn key; those moves XOR in their Pawns.
+     * @return the pawn key of the board after the move
+     */
+    public long calculatePawnKey() {
+        return this.board.getPawnKey();
+    }
+
+    /**
+     * Updates the board's piece-square score for the move instead of scoring the new board from scratch.
+     * Subclasses add and subtract whatever else their move changes.
+     * @return the piece-square score of the board after the move
+     */
+    public int calculatePieceSquareScore() {
+        return this.board.getPieceSquareScore() -
+               PieceScore(this.movedPiece, this.movedPiece.getPiecePosition()) +
+               PieceScore(this.movedPiece, this.targetPosition);
+    }
+
+    /**
+     * Only captures and promotions change the game phase.
+     * @return the game phase of the board after the move
+     */
+    public int calculatePhase() {
+        return this.board.getPhase();
+    }
+
+    /**
+     * Captures and Pawn moves reset the clock; every other move adds one to it.
+     * @return how many moves have been made since the last capture or Pawn move, after the move
+     */
+    public int calculateHalfmoveClock() {
+        return isAttackMove() || this.movedPiece.getPieceType() == PAWN ? 0 : this.board.getHalfmoveClock() + 1;
+    }
+
+    /**
+     * @return the number of the full move after the move (one more once Black has moved)
+     */
+    public int calculateFullmoveNumber() {
+        return this.board.getFullmoveNumber() + (this.movedPiece.getPieceAlliance().isWhite() ? 0 : 1);
+    }
+
+    /**
+     * @return the board the move is made on
+     */
+    public Board getBoard() {
+        return this.board;
+    }
+
+    /**
+     * @return where the piece currently is
+     */
+    public int getCurrentPosition() {
+        return this.movedPiece.getPiecePosition();
+    }
+
     /**
      * @return where the piece wants to move to
      */
@@ -77,6 +170,13 @@ public abstract class Move {
     public Piece getAttackedPiece() {
         return null;
     }
+
+    /**
+     * @return the piece a Pawn turns into (null if the move is not a promotion)
+     */
+    public Piece getPromotedPiece() {
+        return null;
+    }
     //********************************************************
     //******************Special Overrides*********************
     //********************************************************
@@ -2,8 +2,6 @@ package com.chess.engine.board.move;
 
 import com.chess.engine.board.Board;
 
-import java.util.concurrent.Future;
-
 /**
  * This class represents the transition from one board to another based on a move.
  */
@@ -28,7 +26,24 @@ public class MoveTransition {
     //********************************************************
     //**********************Main Methods**********************
     //********************************************************
+    /**
+     * @return the status of the move
+     */
     public MoveStatus getMoveStatus() {
         return this.moveStatus;
     }
+
+    /**
+     * @return the board after the move (the original board if the move could not be done)
+     */
+    public Board getTransitionBoard() {
+        return this.transitionBoard;
+    }
+
+    /**
+     * @return what the piece tried to do
+     */
+    public Move getMove() {
+        return this.move;
+    }
 }
@@ -6,6 +6,10 @@ import com.chess.engine.pieces.Piece;
 import com.chess.engine.pieces.Rook;
 
 import static com.chess.engine.board.Board.*;
+import static com.chess.engine.board.evaluation.PieceSquareTables.PieceScore;
+import static com.chess.engine.board.zobrist.Zobrist.PieceKey;
+import static com.chess.engine.pieces.Piece.PieceType.ROOK;
+import static com.chess.engine.pieces.utils.PieceCache.GetPiece;
 
 /**
  * This class serves as the backbone for the two castling moves.
@@ -33,6 +37,13 @@ public abstract class CastleMove extends Move {
         return this.castleRook;
     }
 
+    /**
+     * @return where the Rook ends up after the castle
+     */
+    public int getCastleRookDestination() {
+        return this.castleRookDestination;
+    }
+
     /**
      * @return whether the move is a castle
      */
@@ -58,10 +69,32 @@ public abstract class CastleMove extends Move {
             builder.setPiece(piece);
         }
         builder.setPiece(this.movedPiece.movePiece(this));
-        // TODO: look into individual first move booleans
-        builder.setPiece(new Rook(this.castleRook.getPieceAlliance(), this.castleRookDestination));
+        builder.setPiece(GetPiece(ROOK, this.castleRook.getPieceAlliance(), this.castleRookDestination, false));
         builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getPlayerAlliance());
+        setIncrementalState(builder);
 
         return builder.build();
     }
+
+    /**
+     * Also moves the Rook.
+     * @return the Zobrist key of the board after the castle
+     */
+    @Override
+    public long calculateZobristKey() {
+        return super.calculateZobristKey() ^
+               PieceKey(this.castleRook, this.castleRook.getPiecePosition()) ^
+               PieceKey(this.castleRook, this.castleRookDestination);
+    }
+
+    /**
+     * Also moves the Rook.
+     * @return the piece-square score of the board after the castle
+     */
+    @Override
+    public int calculatePieceSquareScore() {
+        return super.calculatePieceSquareScore() -
+               PieceScore(this.castleRook, this.castleRook.getPiecePosition()) +
+               PieceScore(this.castleRook, this.castleRookDestination);
+    }
 }
@@ -2,8 +2,17 @@ package com.chess.engine.board.move.misc;
 
 import com.chess.engine.board.Board;
 import com.chess.engine.board.move.Move;
+import com.chess.engine.board.position.EncodedMove;
+import com.chess.engine.board.position.StaticExchange;
 import com.chess.engine.pieces.Piece;
 
+import static com.chess.engine.board.Board.*;
+import static com.chess.engine.board.evaluation.PieceSquareTables.PiecePhase;
+import static com.chess.engine.board.evaluation.PieceSquareTables.PieceScore;
+import static com.chess.engine.board.move.utils.MoveUtils.PlaceNonMovingPieces;
+import static com.chess.engine.board.zobrist.Zobrist.PieceKey;
+import static com.chess.engine.pieces.Piece.PieceType.PAWN;
+
 /**
  * This class represents all attacking moves.
  */
@@ -28,7 +37,60 @@ public class AttackMove extends Move {
      */
     @Override
     public Board execute() {
-        return null;
+        final Builder builder = new Builder();
+        PlaceNonMovingPieces(builder, this.board, this.movedPiece, this.attackedPiece);
+        // Move the attacking piece onto the captured piece's tile, then set the next move maker
+        builder.setPiece(this.movedPiece.movePiece(this));
+        builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getPlayerAlliance());
+        setIncrementalState(builder);
+
+        return builder.build();
+    }
+
+    /**
+     * Also takes the captured piece off its tile (behind the target tile for En Passant).
+     * @return the Zobrist key of the board after the attack move
+     */
+    @Override
+    public long calculateZobristKey() {
+        return super.calculateZobristKey() ^ PieceKey(this.attackedPiece, this.attackedPiece.getPiecePosition());
+    }
+
+    /**
+     * Also takes the captured piece off its tile if it is a Pawn.
+     * @return the pawn key of the board after the attack move
+     */
+    @Override
+    public long calculatePawnKey() {
+        return this.attackedPiece.getPieceType() == PAWN ?
+               super.calculatePawnKey() ^ PieceKey(this.attackedPiece, this.attackedPiece.getPiecePosition()) :
+               super.calculatePawnKey();
+    }
+
+    /**
+     * Also takes the captured piece off its tile.
+     * @return the piece-square score of the board after the attack move
+     */
+    @Override
+    public int calculatePieceSquareScore() {
+        return super.calculatePieceSquareScore() -
+               PieceScore(this.attackedPiece, this.attackedPiece.getPiecePosition());
+    }
+
+    /**
+     * @return the game phase of the board after the captured piece is gone
+     */
+    @Override
+    public int calculatePhase() {
+        return super.calculatePhase() - PiecePhase(this.attackedPiece);
+    }
+
+    /**
+     * Resolves every recapture on the target tile (see StaticExchange), without making a board.
+     * @return how much material the attack wins once the exchange is over (negative if it loses)
+     */
+    public int calculateExchangeValue() {
+        return StaticExchange.Evaluate(this.board.getBitBoard(), EncodedMove.Encode(this));
     }
 
     /**
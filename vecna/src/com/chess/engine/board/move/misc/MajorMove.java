@@ -41,6 +41,7 @@ public final class MajorMove extends Move {
         // Move the moving piece, then set the next move maker
         builder.setPiece(this.movedPiece.movePiece(this));
         builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getPlayerAlliance());
+        setIncrementalState(builder);
 
         return builder.build();
     }
@@ -4,6 +4,8 @@ import com.chess.engine.board.Board;
 import com.chess.engine.board.move.misc.AttackMove;
 import com.chess.engine.pieces.Piece;
 
+import static com.chess.engine.board.zobrist.Zobrist.PieceKey;
+
 /**
  * This class represents a normal Pawn attack.
  */
@@ -17,4 +19,17 @@ public class PawnAttackMove extends AttackMove {
                           final Piece attackedPiece) {
         super(board, movedPiece, targetPosition, attackedPiece);
     }
+    //********************************************************
+    //**********************Main Methods**********************
+    //********************************************************
+    /**
+     * Also moves the attacking Pawn (the captured piece is taken off by AttackMove).
+     * @return the pawn key of the board after the attack
+     */
+    @Override
+    public long calculatePawnKey() {
+        return super.calculatePawnKey() ^
+               PieceKey(this.movedPiece, this.movedPiece.getPiecePosition()) ^
+               PieceKey(this.movedPiece, this.targetPosition);
+    }
 }
@@ -7,6 +7,8 @@ import com.chess.engine.pieces.Piece;
 
 import static com.chess.engine.board.Board.*;
 import static com.chess.engine.board.move.utils.MoveUtils.PlaceNonMovingPieces;
+import static com.chess.engine.board.zobrist.Zobrist.EnPassantKey;
+import static com.chess.engine.board.zobrist.Zobrist.PieceKey;
 
 /**
  * This class represents a two-tile Pawn advancement.
@@ -34,7 +36,27 @@ public class PawnJump extends Move {
         builder.setPiece(movedPawn);
         builder.setEnPassantPawn(movedPawn);
         builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getPlayerAlliance());
+        setIncrementalState(builder);
 
         return builder.build();
     }
+
+    /**
+     * Also adds the En Passant file the jump opens up.
+     * @return the Zobrist key of the board after the jump
+     */
+    @Override
+    public long calculateZobristKey() {
+        return super.calculateZobristKey() ^ EnPassantKey(this.targetPosition);
+    }
+
+    /**
+     * @return the pawn key of the board after the jump
+     */
+    @Override
+    public long calculatePawnKey() {
+        return this.board.getPawnKey() ^
+               PieceKey(this.movedPiece, this.movedPiece.getPiecePosition()) ^
+               PieceKey(this.movedPiece, this.targetPosition);
+    }
 }
@@ -4,6 +4,8 @@ import com.chess.engine.board.Board;
 import com.chess.engine.board.move.Move;
 import com.chess.engine.pieces.Piece;
 
+import static com.chess.engine.board.zobrist.Zobrist.PieceKey;
+
 /**
  * This class represents a one-tile Pawn advancement.
  */
@@ -14,4 +16,16 @@ public class PawnMove extends Move {
     public PawnMove(final Board board, final Piece movedPiece, final int targetPosition) {
         super(board, movedPiece, targetPosition);
     }
+    //********************************************************
+    //**********************Main Methods**********************
+    //********************************************************
+    /**
+     * @return the pawn key of the board after the advancement
+     */
+    @Override
+    public long calculatePawnKey() {
+        return super.calculatePawnKey() ^
+               PieceKey(this.movedPiece, this.movedPiece.getPiecePosition()) ^
+               PieceKey(this.movedPiece, this.targetPosition);
+    }
 }
@@ -0,0 +1,147 @@
+package com.chess.engine.board.move.pawn;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.move.Move;
+import com.chess.engine.pieces.Piece;
+
+import static com.chess.engine.board.Board.*;
+import static com.chess.engine.board.evaluation.PieceSquareTables.PiecePhase;
+import static com.chess.engine.board.evaluation.PieceSquareTables.PieceScore;
+import static com.chess.engine.board.move.utils.MoveUtils.PlaceNonMovingPieces;
+import static com.chess.engine.board.zobrist.Zobrist.PieceKey;
+
+/**
+ * This class represents a Pawn reaching its final rank and turning into another piece.
+ * It wraps the Pawn's one-tile advancement or attack that got it there.
+ */
+public class PawnPromotion extends PawnMove {
+    private final Move decoratedMove;
+    private final Piece promotedPiece;
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    /**
+     * Constructor for a Pawn promotion.
+     * @param decoratedMove the Pawn move or Pawn attack that reaches the final rank
+     * @param promotedPiece the piece the Pawn turns into (already on the target tile)
+     */
+    public PawnPromotion(final Move decoratedMove, final Piece promotedPiece) {
+        super(decoratedMove.getBoard(), decoratedMove.getMovedPiece(), decoratedMove.getTargetPosition());
+        this.decoratedMove = decoratedMove;
+        this.promotedPiece = promotedPiece;
+    }
+    //********************************************************
+    //**********************Main Methods**********************
+    //********************************************************
+    /**
+     * @return a new board with the Pawn replaced by its promoted piece
+     */
+    @Override
+    public Board execute() {
+        final Builder builder = new Builder();
+        if (this.decoratedMove.isAttackMove()) {
+            PlaceNonMovingPieces(builder, this.board, this.movedPiece, this.decoratedMove.getAttackedPiece());
+        } else {
+            PlaceNonMovingPieces(builder, this.board, this.movedPiece);
+        }
+        // The promoted piece takes the Pawn's place, then set the next move maker
+        builder.setPiece(this.promotedPiece);
+        builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getPlayerAlliance());
+        setIncrementalState(builder);
+
+        return builder.build();
+    }
+
+    /**
+     * Swaps the Pawn for its promoted piece on top of the wrapped move's key.
+     * @return the Zobrist key of the board after the promotion
+     */
+    @Override
+    public long calculateZobristKey() {
+        return this.decoratedMove.calculateZobristKey() ^
+               PieceKey(this.movedPiece, this.targetPosition) ^
+               PieceKey(this.promotedPiece, this.targetPosition);
+    }
+
+    /**
+     * Takes the Pawn off the final rank again on top of the wrapped move's pawn key.
+     * @return the pawn key of the board after the promotion
+     */
+    @Override
+    public long calculatePawnKey() {
+        return this.decoratedMove.calculatePawnKey() ^ PieceKey(this.movedPiece, this.targetPosition);
+    }
+
+    /**
+     * Swaps the Pawn for its promoted piece on top of the wrapped move's score.
+     * @return the piece-square score of the board after the promotion
+     */
+    @Override
+    public int calculatePieceSquareScore() {
+        return this.decoratedMove.calculatePieceSquareScore() -
+               PieceScore(this.movedPiece, this.targetPosition) +
+               PieceScore(this.promotedPiece, this.targetPosition);
+    }
+
+    /**
+     * @return the game phase of the board with the promoted piece added
+     */
+    @Override
+    public int calculatePhase() {
+        return this.decoratedMove.calculatePhase() + PiecePhase(this.promotedPiece);
+    }
+
+    /**
+     * @return whether the move is an attack
+     */
+    @Override
+    public boolean isAttackMove() {
+        return this.decoratedMove.isAttackMove();
+    }
+
+    /**
+     * @return the piece under attack
+     */
+    @Override
+    public Piece getAttackedPiece() {
+        return this.decoratedMove.getAttackedPiece();
+    }
+
+    /**
+     * @return the piece the Pawn turns into
+     */
+    @Override
+    public Piece getPromotedPiece() {
+        return this.promotedPiece;
+    }
+    //********************************************************
+    //******************Special Overrides*********************
+    //********************************************************
+    /**
+     * Checks for more than just reference equality.
+     * @param other the other object to compare
+     * @return whether the object is equal to another
+     */
+    @Override
+    public boolean equals(final Object other) {
+        // Reference equality
+        if (this == other) {
+            return true;
+        }
+        // Check if other is a promotion
+        if (!(other instanceof PawnPromotion otherPromotion)) {
+            return false;
+        }
+
+        return this.decoratedMove.equals(otherPromotion.decoratedMove) &&
+               this.promotedPiece.equals(otherPromotion.getPromotedPiece());
+    }
+
+    /**
+     * @return the newly calculated move hashcode
+     */
+    @Override
+    public int hashCode() {
+        return this.decoratedMove.hashCode() + 31 * this.promotedPiece.hashCode();
+    }
+}
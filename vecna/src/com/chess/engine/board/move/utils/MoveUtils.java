@@ -9,6 +9,11 @@ import static com.chess.engine.board.Board.*;
  * This class performs various tasks for moves.
  */
 public class MoveUtils {
+    /**
+     * @param builder    what builds the new board
+     * @param board      the board the move is made on
+     * @param movedPiece the piece that is moving (left off the new board)
+     */
     public static void PlaceNonMovingPieces(final Builder builder, final Board board, final Piece movedPiece) {
         // Place all the current player's non-moving pieces on a new board
         for (final Piece piece : board.getCurrentPlayer().getActivePieces()) {
@@ -21,4 +26,28 @@ public class MoveUtils {
             builder.setPiece(piece);
         }
     }
+
+    /**
+     * @param builder       what builds the new board
+     * @param board         the board the move is made on
+     * @param movedPiece    the piece that is moving (left off the new board)
+     * @param attackedPiece the piece that is captured (left off the new board)
+     */
+    public static void PlaceNonMovingPieces(final Builder builder,
+                                            final Board board,
+                                            final Piece movedPiece,
+                                            final Piece attackedPiece) {
+        // Place all the current player's non-moving pieces on a new board
+        for (final Piece piece : board.getCurrentPlayer().getActivePieces()) {
+            if (!movedPiece.equals(piece)) {
+                builder.setPiece(piece);
+            }
+        }
+        // Place all the opponent's pieces that survive the capture on a new board
+        for (final Piece piece : board.getCurrentPlayer().getOpponent().getActivePieces()) {
+            if (!attackedPiece.equals(piece)) {
+                builder.setPiece(piece);
+            }
+        }
+    }
 }
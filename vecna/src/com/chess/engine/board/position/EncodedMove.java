@@ -0,0 +1,205 @@
+package com.chess.engine.board.position;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.move.Move;
+import com.chess.engine.board.move.castle.CastleMove;
+import com.chess.engine.board.move.pawn.PawnEnPassantAttackMove;
+import com.chess.engine.board.move.pawn.PawnJump;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import static com.chess.engine.board.bitboard.BitBoardUtils.PieceIndex;
+import static com.chess.engine.pieces.Piece.PieceType.*;
+
+/**
+ * This class packs a move into a single int so a Position can make and generate moves without objects.
+ * Bits 0-5 hold the tile the piece moves from, bits 6-11 the tile it moves to, bits 12-15 a flag
+ * describing what kind of move it is (including the promotion piece), bits 16-19 the index of the moved
+ * piece, and bits 20-23 the index of the captured piece (NO_PIECE if there is none).
+ * The low 16 bits alone identify a move within its position; the piece bits save looking the pieces up.
+ */
+public final class EncodedMove {
+    // No real move goes from a tile to the same tile
+    public static final int NO_MOVE = 0;
+    public static final int NO_PIECE = 0xF;
+    public static final int SHORT_MOVE_MASK = 0xFFFF;
+    // Move flags (the capture bit is 4 and the promotion bit is 8)
+    public static final int QUIET = 0;
+    public static final int DOUBLE_PAWN_PUSH = 1;
+    public static final int KINGSIDE_CASTLE = 2;
+    public static final int QUEENSIDE_CASTLE = 3;
+    public static final int CAPTURE = 4;
+    public static final int EN_PASSANT = 5;
+    public static final int KNIGHT_PROMOTION = 8;
+    public static final int BISHOP_PROMOTION = 9;
+    public static final int ROOK_PROMOTION = 10;
+    public static final int QUEEN_PROMOTION = 11;
+    public static final int KNIGHT_PROMOTION_CAPTURE = 12;
+    public static final int BISHOP_PROMOTION_CAPTURE = 13;
+    public static final int ROOK_PROMOTION_CAPTURE = 14;
+    public static final int QUEEN_PROMOTION_CAPTURE = 15;
+    // The piece each promotion flag turns a Pawn into
+    private static final PieceType[] PROMOTION_TYPES = { KNIGHT, BISHOP, ROOK, QUEEN };
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    private EncodedMove() {}
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * @param currentPosition where the piece currently is
+     * @param targetPosition  where the piece wants to move to
+     * @param flag            what kind of move it is
+     * @param movedPiece      the index (0-11) of the piece that moves
+     * @param capturedPiece   the index (0-11) of the piece that is captured, or NO_PIECE
+     * @return the packed move
+     */
+    public static int Create(final int currentPosition,
+                             final int targetPosition,
+                             final int flag,
+                             final int movedPiece,
+                             final int capturedPiece) {
+        return currentPosition | (targetPosition << 6) | (flag << 12) | (movedPiece << 16) | (capturedPiece << 20);
+    }
+
+    /**
+     * @param move the packed move
+     * @return where the piece currently is
+     */
+    public static int GetCurrentPosition(final int move) {
+        return move & 0x3F;
+    }
+
+    /**
+     * @param move the packed move
+     * @return where the piece wants to move to
+     */
+    public static int GetTargetPosition(final int move) {
+        return (move >>> 6) & 0x3F;
+    }
+
+    /**
+     * @param move the packed move
+     * @return what kind of move it is
+     */
+    public static int GetFlag(final int move) {
+        return (move >>> 12) & 0xF;
+    }
+
+    /**
+     * @param move the packed move
+     * @return the index (0-11) of the piece that moves
+     */
+    public static int GetMovedPiece(final int move) {
+        return (move >>> 16) & 0xF;
+    }
+
+    /**
+     * @param move the packed move
+     * @return the index (0-11) of the piece that is captured, or NO_PIECE
+     */
+    public static int GetCapturedPiece(final int move) {
+        return (move >>> 20) & 0xF;
+    }
+
+    /**
+     * @param move the packed move
+     * @return the from, to, and flag bits, which are all the transposition table keeps
+     */
+    public static int GetShortMove(final int move) {
+        return move & SHORT_MOVE_MASK;
+    }
+
+    /**
+     * @param move the packed move
+     * @return whether the move captures a piece (including En Passant)
+     */
+    public static boolean IsCapture(final int move) {
+        return (GetFlag(move) & CAPTURE) != 0;
+    }
+
+    /**
+     * @param move the packed move
+     * @return whether a Pawn turns into another piece
+     */
+    public static boolean IsPromotion(final int move) {
+        return (GetFlag(move) & KNIGHT_PROMOTION) != 0;
+    }
+
+    /**
+     * @param move the packed move
+     * @return the piece the Pawn turns into (only meaningful for promotions)
+     */
+    public static PieceType GetPromotionType(final int move) {
+        return PROMOTION_TYPES[GetFlag(move) & 3];
+    }
+
+    /**
+     * Packs one of the board's Move objects so it can be made on a Position.
+     * @param move the move from the board's legal moves
+     * @return the packed move
+     */
+    public static int Encode(final Move move) {
+        final int currentPosition = move.getCurrentPosition();
+        final int targetPosition = move.getTargetPosition();
+        final Piece movedPiece = move.getMovedPiece();
+        final int movedIndex = PieceIndex(movedPiece.getPieceType(), movedPiece.getPieceAlliance());
+        final Piece attackedPiece = move.getAttackedPiece();
+        final int capturedIndex = attackedPiece == null ? NO_PIECE :
+                                  PieceIndex(attackedPiece.getPieceType(), attackedPiece.getPieceAlliance());
+        final int flag;
+        if (move.isCastleMove()) {
+            flag = targetPosition > currentPosition ? KINGSIDE_CASTLE : QUEENSIDE_CASTLE;
+        } else if (move instanceof PawnJump) {
+            flag = DOUBLE_PAWN_PUSH;
+        } else if (move instanceof PawnEnPassantAttackMove) {
+            flag = EN_PASSANT;
+        } else {
+            final int captureFlag = move.isAttackMove() ? CAPTURE : QUIET;
+            final Piece promotedPiece = move.getPromotedPiece();
+            int promotionFlag = KNIGHT_PROMOTION;
+            while (promotedPiece != null && PROMOTION_TYPES[promotionFlag & 3] != promotedPiece.getPieceType()) {
+                promotionFlag++;
+            }
+            flag = promotedPiece == null ? captureFlag : promotionFlag | captureFlag;
+        }
+
+        return Create(currentPosition, targetPosition, flag, movedIndex, capturedIndex);
+    }
+
+    /**
+     * Finds the board's Move object for a packed move, the reverse of Encode.
+     * @param board the board the move is made on
+     * @param move  the packed move (only its from, to, and flag bits are compared)
+     * @return the matching legal move, or the null move if there is none
+     */
+    public static Move Decode(final Board board, final int move) {
+        for (final Move legalMove : board.getCurrentPlayer().getLegalMoves()) {
+            if (GetShortMove(Encode(legalMove)) == GetShortMove(move)) {
+                return legalMove;
+            }
+        }
+
+        return Move.NULL_MOVE;
+    }
+
+    /**
+     * @param move the packed move
+     * @return the move in coordinate notation (e.g., e2e4 or e7e8q)
+     */
+    public static String ToString(final int move) {
+        final String text = TileName(GetCurrentPosition(move)) + TileName(GetTargetPosition(move));
+        return IsPromotion(move) ? text + GetPromotionType(move).toString().toLowerCase() : text;
+    }
+    //********************************************************
+    //********************Helper Methods**********************
+    //********************************************************
+    /**
+     * @param tilePosition where the tile is on the chess board
+     * @return the tile's algebraic name (tile 0 is a8)
+     */
+    private static String TileName(final int tilePosition) {
+        return "" + (char) ('a' + tilePosition % 8) + (char) ('8' - tilePosition / 8);
+    }
+}
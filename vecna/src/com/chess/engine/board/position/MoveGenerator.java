@@ -0,0 +1,399 @@
+package com.chess.engine.board.position;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.bitboard.BitBoard;
+import com.chess.engine.board.bitboard.KingSafety;
+
+import static com.chess.engine.board.BoardUtils.*;
+import static com.chess.engine.board.bitboard.BitBoardUtils.*;
+import static com.chess.engine.board.position.EncodedMove.*;
+import static com.chess.engine.pieces.Piece.PieceType.*;
+
+/**
+ * This class generates a Position's legal moves straight from its piece sets into a MoveList.
+ * Checks, pins, and the tiles the King may not step onto are worked out once up front (KingSafety), so every
+ * move comes out legal without being played and taken back, and no Move objects or boards are created.
+ * Captures and promotions can be generated apart from the quiet moves, so a search can try them first and
+ * often never needs the quiet moves at all.
+ */
+public final class MoveGenerator {
+    // Which moves a generation pass adds
+    private static final int NOISY_MOVES = 1;
+    private static final int QUIET_MOVES = 2;
+    private static final int ALL_MOVES = NOISY_MOVES | QUIET_MOVES;
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    private MoveGenerator() {}
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * @param position where the moves are generated
+     * @param moves    cleared, then filled with the side to move's legal moves
+     */
+    public static void GenerateLegalMoves(final Position position, final MoveList moves) {
+        moves.clear();
+        GenerateMoves(position, position.calculateKingSafety(), moves, ALL_MOVES);
+    }
+
+    /**
+     * @param position   where the moves are generated
+     * @param kingSafety the checks and pins of the side to move
+     * @param moves      cleared, then filled with the legal captures and promotions
+     */
+    public static void GenerateNoisyMoves(final Position position, final KingSafety kingSafety, final MoveList moves) {
+        moves.clear();
+        GenerateMoves(position, kingSafety, moves, NOISY_MOVES);
+    }
+
+    /**
+     * @param position   where the moves are generated
+     * @param kingSafety the checks and pins of the side to move
+     * @param moves      cleared, then filled with the legal moves that neither capture nor promote
+     */
+    public static void GenerateQuietMoves(final Position position, final KingSafety kingSafety, final MoveList moves) {
+        moves.clear();
+        GenerateMoves(position, kingSafety, moves, QUIET_MOVES);
+    }
+
+    /**
+     * Checks a move remembered from another position (e.g., a transposition table or killer move) without
+     * generating the rest of the moves.
+     * @param position   where the move would be made
+     * @param kingSafety the checks and pins of the side to move
+     * @param shortMove  the from, to, and flag bits of the move
+     * @return the full packed move if it is legal in the position, or NO_MOVE
+     */
+    public static int FindLegalMove(final Position position, final KingSafety kingSafety, final int shortMove) {
+        if (shortMove == NO_MOVE) {
+            return NO_MOVE;
+        }
+        final Alliance alliance = position.getSideToMove();
+        final int currentPosition = GetCurrentPosition(shortMove);
+        final int targetPosition = GetTargetPosition(shortMove);
+        final int flag = GetFlag(shortMove);
+        final int piece = position.getPieceIndex(currentPosition);
+        final int targetPiece = position.getPieceIndex(targetPosition);
+        if (piece == Position.EMPTY_TILE || piece / NUM_PIECE_TYPES != AllianceIndex(alliance) ||
+            (targetPiece != Position.EMPTY_TILE && targetPiece / NUM_PIECE_TYPES == AllianceIndex(alliance))) {
+            return NO_MOVE;
+        }
+        final int pieceType = piece % NUM_PIECE_TYPES;
+        if (flag == KINGSIDE_CASTLE || flag == QUEENSIDE_CASTLE) {
+            final int kingPosition = alliance.isWhite() ? WHITE_KING_START : BLACK_KING_START;
+            final boolean isKingside = flag == KINGSIDE_CASTLE;
+            return pieceType == KING.ordinal() && currentPosition == kingPosition &&
+                   targetPosition == kingPosition + (isKingside ? 2 : -2) &&
+                   CanCastle(position, kingSafety, isKingside) ?
+                   Create(currentPosition, targetPosition, flag, piece, NO_PIECE) : NO_MOVE;
+        }
+        if (pieceType == PAWN.ordinal()) {
+            return FindLegalPawnMove(position, kingSafety, shortMove, piece, targetPiece);
+        }
+        // Every other piece captures exactly when it lands on an opposing piece
+        if (flag != (targetPiece == Position.EMPTY_TILE ? QUIET : CAPTURE)) {
+            return NO_MOVE;
+        }
+        final long occupancy = position.getBitBoard().getOccupancy();
+        final long attacks = pieceType == KNIGHT.ordinal() ? KNIGHT_ATTACKS[currentPosition] :
+                             pieceType == BISHOP.ordinal() ? BishopAttacks(currentPosition, occupancy) :
+                             pieceType == ROOK.ordinal() ? RookAttacks(currentPosition, occupancy) :
+                             pieceType == QUEEN.ordinal() ? QueenAttacks(currentPosition, occupancy) :
+                             KING_ATTACKS[currentPosition];
+        if ((attacks & TileMask(targetPosition)) == EMPTY_BOARD ||
+            !kingSafety.isLegal(currentPosition, targetPosition, pieceType == KING.ordinal(), false)) {
+            return NO_MOVE;
+        }
+
+        return Create(currentPosition, targetPosition, flag, piece,
+                      targetPiece == Position.EMPTY_TILE ? NO_PIECE : targetPiece);
+    }
+    //********************************************************
+    //********************Helper Methods**********************
+    //********************************************************
+    /**
+     * @param position   where the moves are generated
+     * @param kingSafety the checks and pins of the side to move
+     * @param moves      where the moves are stored
+     * @param moveTypes  NOISY_MOVES, QUIET_MOVES, or both
+     */
+    private static void GenerateMoves(final Position position,
+                                      final KingSafety kingSafety,
+                                      final MoveList moves,
+                                      final int moveTypes) {
+        final BitBoard bitBoard = position.getBitBoard();
+        final Alliance alliance = position.getSideToMove();
+        final long occupancy = bitBoard.getOccupancy();
+        // Noisy moves land on opposing pieces, quiet moves on empty tiles
+        final long enemyPieces = bitBoard.getOccupancy(alliance.getOpposingAlliance());
+        final long stageTiles = ((moveTypes & NOISY_MOVES) != 0 ? enemyPieces : EMPTY_BOARD) |
+                                ((moveTypes & QUIET_MOVES) != 0 ? ~occupancy : EMPTY_BOARD);
+        // King
+        final int king = PieceIndex(KING, alliance);
+        final int kingPosition = kingSafety.getKingPosition();
+        AddPieceMoves(position, moves, kingPosition, king,
+                      KING_ATTACKS[kingPosition] & stageTiles & ~kingSafety.getKingDangerTiles());
+        // In a double check only the King can move
+        if (kingSafety.isInDoubleCheck()) {
+            return;
+        }
+        if ((moveTypes & QUIET_MOVES) != 0) {
+            GenerateCastles(position, moves, king, kingSafety);
+        }
+        GeneratePawnMoves(position, moves, kingSafety, moveTypes);
+        // Knights (a pinned Knight can never stay on its pin line)
+        final int knight = PieceIndex(KNIGHT, alliance);
+        long pieces = bitBoard.getPieceBoard(knight) & ~kingSafety.getPinnedPieces();
+        while (pieces != EMPTY_BOARD) {
+            final int currentPosition = Long.numberOfTrailingZeros(pieces);
+            pieces &= pieces - 1;
+            AddPieceMoves(position, moves, currentPosition, knight,
+                          KNIGHT_ATTACKS[currentPosition] & stageTiles & kingSafety.getTargetMask(currentPosition));
+        }
+        // Bishops
+        final int bishop = PieceIndex(BISHOP, alliance);
+        pieces = bitBoard.getPieceBoard(bishop);
+        while (pieces != EMPTY_BOARD) {
+            final int currentPosition = Long.numberOfTrailingZeros(pieces);
+            pieces &= pieces - 1;
+            AddPieceMoves(position, moves, currentPosition, bishop, BishopAttacks(currentPosition, occupancy) &
+                          stageTiles & kingSafety.getTargetMask(currentPosition));
+        }
+        // Rooks
+        final int rook = PieceIndex(ROOK, alliance);
+        pieces = bitBoard.getPieceBoard(rook);
+        while (pieces != EMPTY_BOARD) {
+            final int currentPosition = Long.numberOfTrailingZeros(pieces);
+            pieces &= pieces - 1;
+            AddPieceMoves(position, moves, currentPosition, rook, RookAttacks(currentPosition, occupancy) &
+                          stageTiles & kingSafety.getTargetMask(currentPosition));
+        }
+        // Queens
+        final int queen = PieceIndex(QUEEN, alliance);
+        pieces = bitBoard.getPieceBoard(queen);
+        while (pieces != EMPTY_BOARD) {
+            final int currentPosition = Long.numberOfTrailingZeros(pieces);
+            pieces &= pieces - 1;
+            AddPieceMoves(position, moves, currentPosition, queen, QueenAttacks(currentPosition, occupancy) &
+                          stageTiles & kingSafety.getTargetMask(currentPosition));
+        }
+    }
+
+    /**
+     * Promotions count as noisy even without a capture, since they change the material as much as one.
+     * @param position   where the moves are generated
+     * @param moves      where the moves are stored
+     * @param kingSafety the checks and pins of the side to move
+     * @param moveTypes  NOISY_MOVES, QUIET_MOVES, or both
+     */
+    private static void GeneratePawnMoves(final Position position,
+                                          final MoveList moves,
+                                          final KingSafety kingSafety,
+                                          final int moveTypes) {
+        final BitBoard bitBoard = position.getBitBoard();
+        final Alliance alliance = position.getSideToMove();
+        final boolean noisy = (moveTypes & NOISY_MOVES) != 0;
+        final boolean quiet = (moveTypes & QUIET_MOVES) != 0;
+        final int pawn = PieceIndex(PAWN, alliance);
+        final int forward = alliance.getDirection() * NUM_TILES_PER_ROW;
+        final long enemyPieces = bitBoard.getOccupancy(alliance.getOpposingAlliance());
+        final int enPassantTile = position.getEnPassantTile();
+        long pawns = bitBoard.getPieceBoard(pawn);
+        while (pawns != EMPTY_BOARD) {
+            final int currentPosition = Long.numberOfTrailingZeros(pawns);
+            pawns &= pawns - 1;
+            final long targetMask = kingSafety.getTargetMask(currentPosition);
+            // One-tile and two-tile advancements
+            final int targetPosition = currentPosition + forward;
+            if (!bitBoard.isTileOccupied(targetPosition)) {
+                if ((targetMask & TileMask(targetPosition)) != EMPTY_BOARD &&
+                    (IsPromotionTile(targetPosition) ? noisy : quiet)) {
+                    AddPawnMoves(moves, currentPosition, targetPosition, pawn, QUIET, NO_PIECE);
+                }
+                final int jumpPosition = targetPosition + forward;
+                if (quiet && IsPawnStartingTile(currentPosition, alliance) &&
+                    !bitBoard.isTileOccupied(jumpPosition) && (targetMask & TileMask(jumpPosition)) != EMPTY_BOARD) {
+                    moves.add(Create(currentPosition, jumpPosition, DOUBLE_PAWN_PUSH, pawn, NO_PIECE));
+                }
+            }
+            if (!noisy) {
+                continue;
+            }
+            // Captures
+            final long pawnAttacks = PawnAttacks(currentPosition, alliance);
+            long captures = pawnAttacks & enemyPieces & targetMask;
+            while (captures != EMPTY_BOARD) {
+                final int capturePosition = Long.numberOfTrailingZeros(captures);
+                captures &= captures - 1;
+                AddPawnMoves(moves, currentPosition, capturePosition, pawn, CAPTURE,
+                             position.getPieceIndex(capturePosition));
+            }
+            if (enPassantTile != Position.NO_EN_PASSANT && (pawnAttacks & TileMask(enPassantTile)) != EMPTY_BOARD &&
+                kingSafety.isEnPassantLegal(currentPosition, enPassantTile)) {
+                moves.add(Create(currentPosition, enPassantTile, EN_PASSANT, pawn,
+                                 PieceIndex(PAWN, alliance.getOpposingAlliance())));
+            }
+        }
+    }
+
+    /**
+     * @param position    where the move would be made
+     * @param kingSafety  the checks and pins of the side to move
+     * @param shortMove   the from, to, and flag bits of the move
+     * @param pawn        the index of the Pawn on the move's tile
+     * @param targetPiece the index of the piece on the target tile, or EMPTY_TILE
+     * @return the full packed move if it is legal in the position, or NO_MOVE
+     */
+    private static int FindLegalPawnMove(final Position position,
+                                         final KingSafety kingSafety,
+                                         final int shortMove,
+                                         final int pawn,
+                                         final int targetPiece) {
+        final Alliance alliance = position.getSideToMove();
+        final BitBoard bitBoard = position.getBitBoard();
+        final int currentPosition = GetCurrentPosition(shortMove);
+        final int targetPosition = GetTargetPosition(shortMove);
+        final int flag = GetFlag(shortMove);
+        final int forward = alliance.getDirection() * NUM_TILES_PER_ROW;
+        final boolean isDiagonal = (PawnAttacks(currentPosition, alliance) & TileMask(targetPosition)) != EMPTY_BOARD;
+        if (flag == EN_PASSANT) {
+            final int enemyPawn = PieceIndex(PAWN, alliance.getOpposingAlliance());
+            return targetPosition == position.getEnPassantTile() && isDiagonal &&
+                   kingSafety.isEnPassantLegal(currentPosition, targetPosition) ?
+                   Create(currentPosition, targetPosition, flag, pawn, enemyPawn) : NO_MOVE;
+        }
+        // Only moves onto the final rank promote, and all of them must
+        if (IsPromotion(shortMove) != IsPromotionTile(targetPosition)) {
+            return NO_MOVE;
+        }
+        final boolean isPossible;
+        if ((flag & CAPTURE) != 0) {
+            isPossible = (flag == CAPTURE || IsPromotion(shortMove)) && isDiagonal &&
+                         targetPiece != Position.EMPTY_TILE;
+        } else if (flag == DOUBLE_PAWN_PUSH) {
+            isPossible = IsPawnStartingTile(currentPosition, alliance) &&
+                         targetPosition == currentPosition + 2 * forward &&
+                         !bitBoard.isTileOccupied(currentPosition + forward) &&
+                         !bitBoard.isTileOccupied(targetPosition);
+        } else {
+            isPossible = (flag == QUIET || IsPromotion(shortMove)) && targetPosition == currentPosition + forward &&
+                         !bitBoard.isTileOccupied(targetPosition);
+        }
+        if (!isPossible || !kingSafety.isLegal(currentPosition, targetPosition, false, false)) {
+            return NO_MOVE;
+        }
+
+        return Create(currentPosition, targetPosition, flag, pawn,
+                      (flag & CAPTURE) != 0 ? targetPiece : NO_PIECE);
+    }
+
+    /**
+     * Adds the Pawn move, or one move per promotion piece if it reaches the final rank.
+     * @param moves           where the moves are stored
+     * @param currentPosition where the Pawn is
+     * @param targetPosition  where the Pawn moves to
+     * @param pawn            the index of the Pawn
+     * @param captureFlag     CAPTURE or QUIET
+     * @param capturedPiece   the index of the captured piece, or NO_PIECE
+     */
+    private static void AddPawnMoves(final MoveList moves,
+                                     final int currentPosition,
+                                     final int targetPosition,
+                                     final int pawn,
+                                     final int captureFlag,
+                                     final int capturedPiece) {
+        if (IsPromotionTile(targetPosition)) {
+            moves.add(Create(currentPosition, targetPosition, QUEEN_PROMOTION | captureFlag, pawn, capturedPiece));
+            moves.add(Create(currentPosition, targetPosition, ROOK_PROMOTION | captureFlag, pawn, capturedPiece));
+            moves.add(Create(currentPosition, targetPosition, BISHOP_PROMOTION | captureFlag, pawn, capturedPiece));
+            moves.add(Create(currentPosition, targetPosition, KNIGHT_PROMOTION | captureFlag, pawn, capturedPiece));
+        } else {
+            moves.add(Create(currentPosition, targetPosition, captureFlag, pawn, capturedPiece));
+        }
+    }
+
+    /**
+     * @param position        where the moves are generated
+     * @param moves           where the moves are stored
+     * @param currentPosition where the piece is
+     * @param piece           the index of the piece
+     * @param targetTiles     the tiles the piece can move to
+     */
+    private static void AddPieceMoves(final Position position,
+                                      final MoveList moves,
+                                      final int currentPosition,
+                                      final int piece,
+                                      long targetTiles) {
+        while (targetTiles != EMPTY_BOARD) {
+            final int targetPosition = Long.numberOfTrailingZeros(targetTiles);
+            targetTiles &= targetTiles - 1;
+            final int capturedPiece = position.getPieceIndex(targetPosition);
+            moves.add(capturedPiece == Position.EMPTY_TILE ?
+                      Create(currentPosition, targetPosition, QUIET, piece, NO_PIECE) :
+                      Create(currentPosition, targetPosition, CAPTURE, piece, capturedPiece));
+        }
+    }
+
+    /**
+     * @param position   where the moves are generated
+     * @param moves      where the moves are stored
+     * @param king       the index of the King
+     * @param kingSafety the checks of the side to move and the tiles its King may not step onto
+     */
+    private static void GenerateCastles(final Position position,
+                                        final MoveList moves,
+                                        final int king,
+                                        final KingSafety kingSafety) {
+        final int kingPosition = position.getSideToMove().isWhite() ? WHITE_KING_START : BLACK_KING_START;
+        if (CanCastle(position, kingSafety, true)) {
+            moves.add(Create(kingPosition, kingPosition + 2, KINGSIDE_CASTLE, king, NO_PIECE));
+        }
+        if (CanCastle(position, kingSafety, false)) {
+            moves.add(Create(kingPosition, kingPosition - 2, QUEENSIDE_CASTLE, king, NO_PIECE));
+        }
+    }
+
+    /**
+     * The King may not castle out of, through, or into check.
+     * @param position   where the castle would be made
+     * @param kingSafety the checks of the side to move and the tiles its King may not step onto
+     * @param isKingside whether the castle is kingside (queenside otherwise)
+     * @return whether the side to move can castle that way
+     */
+    private static boolean CanCastle(final Position position, final KingSafety kingSafety, final boolean isKingside) {
+        final Alliance alliance = position.getSideToMove();
+        final int castleFlag = alliance.isWhite() ?
+                               (isKingside ? WHITE_KINGSIDE_CASTLE : WHITE_QUEENSIDE_CASTLE) :
+                               (isKingside ? BLACK_KINGSIDE_CASTLE : BLACK_QUEENSIDE_CASTLE);
+        if ((position.getCastlingRights() & castleFlag) == 0 || kingSafety.isInCheck()) {
+            return false;
+        }
+        final int kingPosition = alliance.isWhite() ? WHITE_KING_START : BLACK_KING_START;
+        final long kingPath = isKingside ? TileMask(kingPosition + 1) | TileMask(kingPosition + 2) :
+                                           TileMask(kingPosition - 1) | TileMask(kingPosition - 2);
+        // Queenside, the tile next to the Rook has to be empty as well, but may be attacked
+        final long emptyTiles = isKingside ? kingPath : kingPath | TileMask(kingPosition - 3);
+
+        return (position.getBitBoard().getOccupancy() & emptyTiles) == EMPTY_BOARD &&
+               (kingSafety.getKingDangerTiles() & kingPath) == EMPTY_BOARD;
+    }
+
+    /**
+     * @param tilePosition where the Pawn is
+     * @param alliance     the Pawn's alliance
+     * @return whether the Pawn is on its initial rank
+     */
+    private static boolean IsPawnStartingTile(final int tilePosition, final Alliance alliance) {
+        final int row = tilePosition / NUM_TILES_PER_ROW;
+        return alliance.isWhite() ? row == 6 : row == 1;
+    }
+
+    /**
+     * @param tilePosition where the Pawn lands
+     * @return whether the tile is on either back rank, where a Pawn always promotes
+     */
+    private static boolean IsPromotionTile(final int tilePosition) {
+        return tilePosition < NUM_TILES_PER_ROW || tilePosition >= NUM_TILES - NUM_TILES_PER_ROW;
+    }
+}
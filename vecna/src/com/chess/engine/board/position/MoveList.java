@@ -0,0 +1,79 @@
+package com.chess.engine.board.position;
+
+/**
+ * This class is a reusable buffer of packed moves that the move generator fills.
+ * The search keeps one per ply and clears it for every position, so generating moves allocates nothing.
+ */
+public final class MoveList {
+    // No chess position has more legal moves than this
+    public static final int MAX_MOVES = 256;
+    private final int[] moves;
+    private int size;
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    /**
+     * Constructor for an empty move list.
+     */
+    public MoveList() {
+        this.moves = new int[MAX_MOVES];
+        this.size = 0;
+    }
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * @param move the packed move to add at the end
+     */
+    public void add(final int move) {
+        this.moves[this.size++] = move;
+    }
+
+    /**
+     * @param index where the move is in the list
+     * @return the packed move
+     */
+    public int get(final int index) {
+        return this.moves[index];
+    }
+
+    /**
+     * @param index where the move goes in the list
+     * @param move  the packed move
+     */
+    public void set(final int index, final int move) {
+        this.moves[index] = move;
+    }
+
+    /**
+     * @param i the first index
+     * @param j the second index
+     */
+    public void swap(final int i, final int j) {
+        final int move = this.moves[i];
+        this.moves[i] = this.moves[j];
+        this.moves[j] = move;
+    }
+
+    /**
+     * @return how many moves are in the list
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Drops every move past the given size.
+     * @param size how many moves to keep
+     */
+    public void truncate(final int size) {
+        this.size = size;
+    }
+
+    /**
+     * Empties the list for the next position.
+     */
+    public void clear() {
+        this.size = 0;
+    }
+}
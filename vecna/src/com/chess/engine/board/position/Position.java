@@ -0,0 +1,427 @@
+package com.chess.engine.board.position;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.bitboard.BitBoard;
+import com.chess.engine.board.bitboard.KingSafety;
+import com.chess.engine.board.evaluation.Accumulator;
+import com.chess.engine.pieces.Piece;
+
+import java.util.Arrays;
+
+import static com.chess.engine.board.BoardUtils.*;
+import static com.chess.engine.board.bitboard.BitBoardUtils.*;
+import static com.chess.engine.board.evaluation.MaterialTable.MaterialKey;
+import static com.chess.engine.board.evaluation.PieceSquareTables.PiecePhase;
+import static com.chess.engine.board.evaluation.PieceSquareTables.PieceScore;
+import static com.chess.engine.board.position.EncodedMove.*;
+import static com.chess.engine.board.zobrist.Zobrist.*;
+import static com.chess.engine.pieces.Piece.PieceType.*;
+
+/**
+ * This class represents a mutable chess position for search and perft.
+ * Unlike a Board, a Position is changed in place: doMove only touches the tiles the move affects and
+ * pushes what it overwrote onto a small undo stack, and undoMove pops it back.
+ * The Board stays the immutable representation for the GUI and public API.
+ */
+public final class Position {
+    public static final int EMPTY_TILE = -1;
+    public static final int NO_EN_PASSANT = -1;
+    private static final int INITIAL_STACK_SIZE = 256;
+
+    private final BitBoard bitBoard;
+    private final int[] mailbox;
+    private Alliance sideToMove;
+    private int castlingRights;
+    private int enPassantTile;
+    private int halfmoveClock;
+    private long zobristKey;
+    private long pawnKey;
+    private long materialKey;
+    private int pieceSquareScore;
+    private int phase;
+    // Only set when the position is scored by a Network
+    private Accumulator accumulator;
+    // Undo stack (one entry per move made)
+    private int ply;
+    private int[] moveStack;
+    private int[] castlingRightsStack;
+    private int[] enPassantStack;
+    private int[] halfmoveClockStack;
+    private long[] zobristKeyStack;
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    /**
+     * Constructor for a Position that mirrors a board.
+     * @param board the board to copy the pieces, move maker, castles, and En Passant tile from
+     */
+    public Position(final Board board) {
+        this.bitBoard = new BitBoard();
+        this.mailbox = new int[NUM_TILES];
+        Arrays.fill(this.mailbox, EMPTY_TILE);
+        for (final Alliance alliance : Alliance.values()) {
+            for (final Piece piece : board.getPieces(alliance)) {
+                final int pieceIndex = PieceIndex(piece.getPieceType(), alliance);
+                this.mailbox[piece.getPiecePosition()] = pieceIndex;
+                this.bitBoard.setPiece(pieceIndex, piece.getPiecePosition());
+            }
+        }
+        this.sideToMove = board.getCurrentPlayer().getPlayerAlliance();
+        this.castlingRights = board.getCastlingRights();
+        this.enPassantTile = board.getEnPassantTile();
+        this.zobristKey = board.getZobristKey();
+        this.pawnKey = board.getPawnKey();
+        this.materialKey = board.getMaterialKey();
+        this.pieceSquareScore = board.getPieceSquareScore();
+        this.phase = board.getPhase();
+        this.halfmoveClock = board.getHalfmoveClock();
+        this.ply = 0;
+        this.moveStack = new int[INITIAL_STACK_SIZE];
+        this.castlingRightsStack = new int[INITIAL_STACK_SIZE];
+        this.enPassantStack = new int[INITIAL_STACK_SIZE];
+        this.halfmoveClockStack = new int[INITIAL_STACK_SIZE];
+        this.zobristKeyStack = new long[INITIAL_STACK_SIZE];
+    }
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * Makes a move in place and remembers what is needed to take it back.
+     * The move must be pseudo-legal for the side to move.
+     * @param move the packed move
+     */
+    public void doMove(final int move) {
+        final int currentPosition = GetCurrentPosition(move);
+        final int targetPosition = GetTargetPosition(move);
+        final int flag = GetFlag(move);
+        final int movedPiece = GetMovedPiece(move);
+        final int capturedPiece = GetCapturedPiece(move);
+        final int direction = this.sideToMove.getDirection();
+        // Remember the state the move is about to overwrite
+        ensureStackCapacity();
+        this.moveStack[this.ply] = move;
+        this.castlingRightsStack[this.ply] = this.castlingRights;
+        this.enPassantStack[this.ply] = this.enPassantTile;
+        this.halfmoveClockStack[this.ply] = this.halfmoveClock;
+        this.zobristKeyStack[this.ply] = this.zobristKey;
+        // Take the old castles and En Passant file out of the key
+        long zobristKey = this.zobristKey ^ CastlingKey(this.castlingRights) ^ EnPassantKey(this.enPassantTile);
+        // Remove the captured piece (an En Passant Pawn sits behind the target tile)
+        if (capturedPiece != NO_PIECE) {
+            final int capturedPosition = flag == EN_PASSANT ? targetPosition - direction * 8 : targetPosition;
+            removePiece(capturedPiece, capturedPosition);
+            zobristKey ^= PieceKey(capturedPiece, capturedPosition);
+        }
+        // Move the piece (a promoted Pawn arrives as its new piece)
+        final int arrivingPiece = IsPromotion(move) ? PieceIndex(GetPromotionType(move), this.sideToMove) : movedPiece;
+        removePiece(movedPiece, currentPosition);
+        setPiece(arrivingPiece, targetPosition);
+        zobristKey ^= PieceKey(movedPiece, currentPosition) ^ PieceKey(arrivingPiece, targetPosition);
+        // Castles also move the Rook
+        if (flag == KINGSIDE_CASTLE) {
+            zobristKey ^= movePiece(targetPosition + 1, targetPosition - 1);
+        } else if (flag == QUEENSIDE_CASTLE) {
+            zobristKey ^= movePiece(targetPosition - 2, targetPosition + 1);
+        }
+        // Update the rest of the state
+        this.enPassantTile = flag == DOUBLE_PAWN_PUSH ? currentPosition + direction * 8 : NO_EN_PASSANT;
+        this.castlingRights = UpdateCastlingRights(this.castlingRights, currentPosition, targetPosition);
+        this.halfmoveClock = movedPiece % NUM_PIECE_TYPES == PAWN.ordinal() || capturedPiece != NO_PIECE ?
+                             0 : this.halfmoveClock + 1;
+        this.sideToMove = this.sideToMove.getOpposingAlliance();
+        this.zobristKey = zobristKey ^ BLACK_TO_MOVE_KEY ^
+                          CastlingKey(this.castlingRights) ^ EnPassantKey(this.enPassantTile);
+        this.ply++;
+    }
+
+    /**
+     * Takes back the last move made with doMove.
+     */
+    public void undoMove() {
+        this.ply--;
+        this.sideToMove = this.sideToMove.getOpposingAlliance();
+        final int move = this.moveStack[this.ply];
+        final int currentPosition = GetCurrentPosition(move);
+        final int targetPosition = GetTargetPosition(move);
+        final int flag = GetFlag(move);
+        // Put the Rook back first so the King's tiles are free
+        if (flag == KINGSIDE_CASTLE) {
+            movePiece(targetPosition - 1, targetPosition + 1);
+        } else if (flag == QUEENSIDE_CASTLE) {
+            movePiece(targetPosition + 1, targetPosition - 2);
+        }
+        // Move the piece back (a promoted piece goes back as a Pawn)
+        removePiece(this.mailbox[targetPosition], targetPosition);
+        setPiece(GetMovedPiece(move), currentPosition);
+        // Restore the captured piece
+        final int capturedPiece = GetCapturedPiece(move);
+        if (capturedPiece != NO_PIECE) {
+            setPiece(capturedPiece, flag == EN_PASSANT ?
+                                    targetPosition - this.sideToMove.getDirection() * 8 :
+                                    targetPosition);
+        }
+        this.castlingRights = this.castlingRightsStack[this.ply];
+        this.enPassantTile = this.enPassantStack[this.ply];
+        this.halfmoveClock = this.halfmoveClockStack[this.ply];
+        this.zobristKey = this.zobristKeyStack[this.ply];
+    }
+
+    /**
+     * Passes the turn without moving a piece, for null-move pruning; the side to move must not be in check.
+     * The repetition history restarts after it, since a position before the pass is not repeated by play.
+     */
+    public void doNullMove() {
+        ensureStackCapacity();
+        this.moveStack[this.ply] = NO_MOVE;
+        this.castlingRightsStack[this.ply] = this.castlingRights;
+        this.enPassantStack[this.ply] = this.enPassantTile;
+        this.halfmoveClockStack[this.ply] = this.halfmoveClock;
+        this.zobristKeyStack[this.ply] = this.zobristKey;
+        this.zobristKey ^= BLACK_TO_MOVE_KEY ^ EnPassantKey(this.enPassantTile) ^ EnPassantKey(NO_EN_PASSANT);
+        this.enPassantTile = NO_EN_PASSANT;
+        this.halfmoveClock = 0;
+        this.sideToMove = this.sideToMove.getOpposingAlliance();
+        this.ply++;
+    }
+
+    /**
+     * Takes back the last pass made with doNullMove.
+     */
+    public void undoNullMove() {
+        this.ply--;
+        this.sideToMove = this.sideToMove.getOpposingAlliance();
+        this.enPassantTile = this.enPassantStack[this.ply];
+        this.halfmoveClock = this.halfmoveClockStack[this.ply];
+        this.zobristKey = this.zobristKeyStack[this.ply];
+    }
+
+    /**
+     * @param moves cleared, then filled with the side to move's legal moves
+     * @return how many legal moves there are
+     */
+    public int generateLegalMoves(final MoveList moves) {
+        MoveGenerator.GenerateLegalMoves(this, moves);
+        return moves.size();
+    }
+
+    /**
+     * Has every piece placed or removed from now on update a network's first layer as well.
+     * @param accumulator the first layer to keep up to date (refreshed from the position's pieces), or null
+     */
+    public void setAccumulator(final Accumulator accumulator) {
+        this.accumulator = accumulator;
+        if (accumulator != null) {
+            accumulator.refresh(this.bitBoard);
+        }
+    }
+
+    /**
+     * @return the checks, pins, and King danger tiles of the side to move
+     */
+    public KingSafety calculateKingSafety() {
+        final Alliance opponent = this.sideToMove.getOpposingAlliance();
+        return new KingSafety(this.bitBoard, this.sideToMove,
+                              this.bitBoard.calculateAttacks(opponent, this.bitBoard.getOccupancy()));
+    }
+
+    /**
+     * @return whether the position already came up since the last capture or Pawn move
+     */
+    public boolean isRepetition() {
+        final int oldestPly = Math.max(0, this.ply - this.halfmoveClock);
+        for (int i = this.ply - 2; i >= oldestPly; i -= 2) {
+            if (this.zobristKeyStack[i] == this.zobristKey) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Positions with only Kings and Pawns are where passing would often be the best move (zugzwang).
+     * @return whether the side to move has a Knight, Bishop, Rook, or Queen
+     */
+    public boolean hasNonPawnMaterial() {
+        final Alliance alliance = this.sideToMove;
+        return (this.bitBoard.getPieceBoard(KNIGHT, alliance) | this.bitBoard.getPieceBoard(BISHOP, alliance) |
+                this.bitBoard.getPieceBoard(ROOK, alliance) | this.bitBoard.getPieceBoard(QUEEN, alliance)) != EMPTY_BOARD;
+    }
+
+    /**
+     * @return whether the side to move's King is attacked
+     */
+    public boolean isInCheck() {
+        return this.bitBoard.isTileAttacked(this.bitBoard.getKingPosition(this.sideToMove),
+                                            this.sideToMove.getOpposingAlliance());
+    }
+    //********************************************************
+    //************************Getters*************************
+    //********************************************************
+    /**
+     * @return the move that led to the position, or NO_MOVE if none was made on the Position or it was a pass
+     */
+    public int getLastMove() {
+        return this.ply == 0 ? NO_MOVE : this.moveStack[this.ply - 1];
+    }
+
+    /**
+     * @return the piece sets and occupancy masks of the position
+     */
+    public BitBoard getBitBoard() {
+        return this.bitBoard;
+    }
+
+    /**
+     * @param tilePosition where the tile is on the chess board
+     * @return the index (0-11) of the piece on the tile, or EMPTY_TILE
+     */
+    public int getPieceIndex(final int tilePosition) {
+        return this.mailbox[tilePosition];
+    }
+
+    /**
+     * @return whose turn it is
+     */
+    public Alliance getSideToMove() {
+        return this.sideToMove;
+    }
+
+    /**
+     * @return which castles are still allowed, as a combination of the BoardUtils castle flags
+     */
+    public int getCastlingRights() {
+        return this.castlingRights;
+    }
+
+    /**
+     * @return the tile a Pawn just jumped over, or NO_EN_PASSANT
+     */
+    public int getEnPassantTile() {
+        return this.enPassantTile;
+    }
+
+    /**
+     * @return how many moves were made since the last capture or Pawn move
+     */
+    public int getHalfmoveClock() {
+        return this.halfmoveClock;
+    }
+
+    /**
+     * @return the 64-bit Zobrist key of the position, kept up to date by doMove and undoMove
+     */
+    public long getZobristKey() {
+        return this.zobristKey;
+    }
+
+    /**
+     * @return the Zobrist key of the Pawns alone, kept up to date as Pawns are placed and removed
+     */
+    public long getPawnKey() {
+        return this.pawnKey;
+    }
+
+    /**
+     * @return how many of each piece both sides have, packed into one key (see MaterialTable), kept up to
+     *         date as pieces are placed and removed
+     */
+    public long getMaterialKey() {
+        return this.materialKey;
+    }
+
+    /**
+     * @return the packed middlegame and endgame score of every piece on its tile, from White's side, kept up to
+     *         date as pieces are placed and removed (see PieceSquareTables)
+     */
+    public int getPieceSquareScore() {
+        return this.pieceSquareScore;
+    }
+
+    /**
+     * @return the game phase, kept up to date as pieces are placed and removed
+     */
+    public int getPhase() {
+        return this.phase;
+    }
+
+    /**
+     * @return the network's first layer kept up to date by doMove and undoMove, or null if there is none
+     */
+    public Accumulator getAccumulator() {
+        return this.accumulator;
+    }
+
+    /**
+     * @return how many moves have been made on the position and not taken back
+     */
+    public int getPly() {
+        return this.ply;
+    }
+    //********************************************************
+    //********************Helper Methods**********************
+    //********************************************************
+    /**
+     * @param pieceIndex   the index (0-11) of the piece
+     * @param tilePosition where the piece is placed
+     */
+    private void setPiece(final int pieceIndex, final int tilePosition) {
+        this.mailbox[tilePosition] = pieceIndex;
+        this.bitBoard.setPiece(pieceIndex, tilePosition);
+        this.pieceSquareScore += PieceScore(pieceIndex, tilePosition);
+        this.phase += PiecePhase(pieceIndex);
+        this.materialKey += MaterialKey(pieceIndex);
+        if (this.accumulator != null) {
+            this.accumulator.addPiece(pieceIndex, tilePosition);
+        }
+        if (pieceIndex % NUM_PIECE_TYPES == PAWN.ordinal()) {
+            this.pawnKey ^= PieceKey(pieceIndex, tilePosition);
+        }
+    }
+
+    /**
+     * @param pieceIndex   the index (0-11) of the piece
+     * @param tilePosition where the piece is removed from
+     */
+    private void removePiece(final int pieceIndex, final int tilePosition) {
+        this.mailbox[tilePosition] = EMPTY_TILE;
+        this.bitBoard.removePiece(pieceIndex, tilePosition);
+        this.pieceSquareScore -= PieceScore(pieceIndex, tilePosition);
+        this.phase -= PiecePhase(pieceIndex);
+        this.materialKey -= MaterialKey(pieceIndex);
+        if (this.accumulator != null) {
+            this.accumulator.removePiece(pieceIndex, tilePosition);
+        }
+        if (pieceIndex % NUM_PIECE_TYPES == PAWN.ordinal()) {
+            this.pawnKey ^= PieceKey(pieceIndex, tilePosition);
+        }
+    }
+
+    /**
+     * @param currentPosition where the piece currently is
+     * @param targetPosition  where the piece moves to
+     * @return the change to the Zobrist key
+     */
+    private long movePiece(final int currentPosition, final int targetPosition) {
+        final int pieceIndex = this.mailbox[currentPosition];
+        removePiece(pieceIndex, currentPosition);
+        setPiece(pieceIndex, targetPosition);
+
+        return PieceKey(pieceIndex, currentPosition) ^ PieceKey(pieceIndex, targetPosition);
+    }
+
+    /**
+     * Grows the undo stack if a line of play gets longer than it.
+     */
+    private void ensureStackCapacity() {
+        if (this.ply == this.moveStack.length) {
+            final int newSize = this.moveStack.length * 2;
+            this.moveStack = Arrays.copyOf(this.moveStack, newSize);
+            this.castlingRightsStack = Arrays.copyOf(this.castlingRightsStack, newSize);
+            this.enPassantStack = Arrays.copyOf(this.enPassantStack, newSize);
+            this.halfmoveClockStack = Arrays.copyOf(this.halfmoveClockStack, newSize);
+            this.zobristKeyStack = Arrays.copyOf(this.zobristKeyStack, newSize);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.chess.engine.board.position;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.bitboard.BitBoard;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import static com.chess.engine.board.bitboard.BitBoardUtils.*;
+import static com.chess.engine.board.position.EncodedMove.*;
+import static com.chess.engine.pieces.Piece.PieceType.*;
+
+/**
+ * This class works out what a capture wins once every piece that can join in has recaptured on its tile
+ * (static exchange evaluation), without making any move.
+ * Both sides always recapture with their least valuable piece, and either side may stop when going on would
+ * lose material. A slider that is lined up behind another attacker joins in once the piece in front has
+ * captured (an x-ray attacker).
+ */
+public final class StaticExchange {
+    // No exchange on one tile can have more captures than there are pieces
+    private static final int MAX_CAPTURES = 32;
+    // Least valuable first, which is the order the attackers are tried in
+    private static final PieceType[] ATTACKER_ORDER = { PAWN, KNIGHT, BISHOP, ROOK, QUEEN, KING };
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    private StaticExchange() {}
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * @param bitBoard the piece sets of the position the move is made in
+     * @param move     the packed move (usually a capture)
+     * @return how much material the moving side wins (negative if it loses), in centipawns
+     */
+    public static int Evaluate(final BitBoard bitBoard, final int move) {
+        final int currentPosition = GetCurrentPosition(move);
+        final int targetPosition = GetTargetPosition(move);
+        final int movedPiece = GetMovedPiece(move);
+        final int capturedPiece = GetCapturedPiece(move);
+        final Alliance alliance = movedPiece / NUM_PIECE_TYPES == 0 ? Alliance.WHITE : Alliance.BLACK;
+        final int[] gains = new int[MAX_CAPTURES];
+        gains[0] = capturedPiece == NO_PIECE ? 0 : PieceValue(capturedPiece);
+        // The piece now standing on the tile is the next one that can be taken
+        int victimValue = PieceValue(movedPiece);
+        if (IsPromotion(move)) {
+            final int promotionValue = GetPromotionType(move).getPieceValue();
+            gains[0] += promotionValue - PAWN.getPieceValue();
+            victimValue = promotionValue;
+        }
+        long occupancy = bitBoard.getOccupancy() ^ TileMask(currentPosition);
+        if (GetFlag(move) == EN_PASSANT) {
+            occupancy ^= TileMask(targetPosition - alliance.getDirection() * 8);
+        }
+        long attackers = (bitBoard.calculateAttackers(targetPosition, Alliance.WHITE, occupancy) |
+                          bitBoard.calculateAttackers(targetPosition, Alliance.BLACK, occupancy)) & occupancy;
+        final long diagonalSliders = bitBoard.getPieceBoard(BISHOP, Alliance.WHITE) |
+                                     bitBoard.getPieceBoard(BISHOP, Alliance.BLACK) |
+                                     bitBoard.getPieceBoard(QUEEN, Alliance.WHITE) |
+                                     bitBoard.getPieceBoard(QUEEN, Alliance.BLACK);
+        final long straightSliders = bitBoard.getPieceBoard(ROOK, Alliance.WHITE) |
+                                     bitBoard.getPieceBoard(ROOK, Alliance.BLACK) |
+                                     bitBoard.getPieceBoard(QUEEN, Alliance.WHITE) |
+                                     bitBoard.getPieceBoard(QUEEN, Alliance.BLACK);
+        Alliance sideToCapture = alliance.getOpposingAlliance();
+        int depth = 0;
+        while (true) {
+            final long sideAttackers = attackers & bitBoard.getOccupancy(sideToCapture);
+            if (sideAttackers == EMPTY_BOARD) {
+                break;
+            }
+            // Find the least valuable attacker
+            PieceType attackerType = KING;
+            long attacker = EMPTY_BOARD;
+            for (final PieceType pieceType : ATTACKER_ORDER) {
+                final long pieces = sideAttackers & bitBoard.getPieceBoard(pieceType, sideToCapture);
+                if (pieces != EMPTY_BOARD) {
+                    attackerType = pieceType;
+                    attacker = pieces & -pieces;
+                    break;
+                }
+            }
+            // Uncover any slider lined up behind the capturing piece (a King can have either kind behind it)
+            final long remainingOccupancy = occupancy ^ attacker;
+            long remainingAttackers = attackers;
+            if (attackerType == PAWN || attackerType == BISHOP || attackerType == QUEEN || attackerType == KING) {
+                remainingAttackers |= BishopAttacks(targetPosition, remainingOccupancy) & diagonalSliders;
+            }
+            if (attackerType == ROOK || attackerType == QUEEN || attackerType == KING) {
+                remainingAttackers |= RookAttacks(targetPosition, remainingOccupancy) & straightSliders;
+            }
+            remainingAttackers &= remainingOccupancy;
+            // The King may only recapture if the other side has nothing left to take it with, counting what the
+            // King itself uncovers
+            if (attackerType == KING && (remainingAttackers &
+                                         bitBoard.getOccupancy(sideToCapture.getOpposingAlliance())) != EMPTY_BOARD) {
+                break;
+            }
+            depth++;
+            gains[depth] = victimValue - gains[depth - 1];
+            // Neither side would go on if standing pat is already better for the side that just captured
+            if (Math.max(-gains[depth - 1], gains[depth]) < 0) {
+                break;
+            }
+            victimValue = attackerType.getPieceValue();
+            occupancy = remainingOccupancy;
+            attackers = remainingAttackers;
+            sideToCapture = sideToCapture.getOpposingAlliance();
+        }
+        // Each side picks the better of capturing and stopping, from the last capture back to the first
+        while (depth > 0) {
+            gains[depth - 1] = -Math.max(-gains[depth - 1], gains[depth]);
+            depth--;
+        }
+
+        return gains[0];
+    }
+
+    /**
+     * Skips the exchange when even losing the moved piece right back would still win enough.
+     * @param bitBoard  the piece sets of the position the move is made in
+     * @param move      the packed move (usually a capture)
+     * @param threshold the least the move has to win
+     * @return whether the exchange wins at least the threshold
+     */
+    public static boolean IsAtLeast(final BitBoard bitBoard, final int move, final int threshold) {
+        final int capturedPiece = GetCapturedPiece(move);
+        final int capturedValue = capturedPiece == NO_PIECE ? 0 : PieceValue(capturedPiece);
+        if (!IsPromotion(move) && capturedValue - PieceValue(GetMovedPiece(move)) >= threshold) {
+            return true;
+        }
+
+        return Evaluate(bitBoard, move) >= threshold;
+    }
+    //********************************************************
+    //********************Helper Methods**********************
+    //********************************************************
+    /**
+     * @param pieceIndex the index (0-11) of the piece
+     * @return the value of the piece
+     */
+    private static int PieceValue(final int pieceIndex) {
+        return PIECE_TYPES[pieceIndex % NUM_PIECE_TYPES].getPieceValue();
+    }
+}
@@ -2,6 +2,7 @@ package com.chess.engine.board.tile;
 
 import com.chess.engine.Alliance;
 import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.utils.PieceCache;
 import com.google.common.collect.ImmutableMap;
 
 import java.util.HashMap;
@@ -16,6 +17,7 @@ import static com.chess.engine.board.BoardUtils.START_TILE_INDEX;
 public abstract class Tile {
     protected final int tilePosition;
     private static final Map<Integer, EmptyTile> EMPTY_TILES_CACHE = createAllEmptyTiles();
+    private static final OccupiedTile[] OCCUPIED_TILES_CACHE = createAllOccupiedTiles();
     //********************************************************
     //**********************Constructor***********************
     //********************************************************
@@ -35,10 +37,15 @@ public abstract class Tile {
     /**
      * @param tilePosition where the tile is on the chess board
      * @param piece        the piece (not) on the tile
-     * @return either an OccupiedTile or EmptyTile
+     * @return either an OccupiedTile or EmptyTile (shared unless the piece is not a PieceCache instance)
      */
     public static Tile CreateTile(final int tilePosition, final Piece piece) {
-        return piece != null ? new OccupiedTile(tilePosition, piece) : EMPTY_TILES_CACHE.get(tilePosition);
+        if (piece == null) {
+            return EMPTY_TILES_CACHE.get(tilePosition);
+        }
+        final OccupiedTile occupiedTile = OCCUPIED_TILES_CACHE[PieceCache.CacheIndex(piece)];
+
+        return occupiedTile.getPiece() == piece ? occupiedTile : new OccupiedTile(tilePosition, piece);
     }
     //********************************************************
     //********************Helper Methods**********************
@@ -55,6 +62,19 @@ public abstract class Tile {
 
         return ImmutableMap.copyOf(emptyTileMap);
     }
+
+    /**
+     * @return a cache of the tile holding each PieceCache piece, in cache index order
+     */
+    private static OccupiedTile[] createAllOccupiedTiles() {
+        final OccupiedTile[] occupiedTiles = new OccupiedTile[PieceCache.CACHE_SIZE];
+        for (int i = 0; i < PieceCache.CACHE_SIZE; i++) {
+            final Piece piece = PieceCache.GetPiece(i);
+            occupiedTiles[i] = new OccupiedTile(piece.getPiecePosition(), piece);
+        }
+
+        return occupiedTiles;
+    }
     //********************************************************
     //*******************EmptyTile Subclass*******************
     //********************************************************
@@ -0,0 +1,136 @@
+package com.chess.engine.board.zobrist;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.bitboard.BitBoard;
+import com.chess.engine.pieces.Piece;
+
+import java.util.SplittableRandom;
+
+import static com.chess.engine.board.BoardUtils.NUM_TILES;
+import static com.chess.engine.board.BoardUtils.NUM_TILES_PER_ROW;
+import static com.chess.engine.board.bitboard.BitBoardUtils.EMPTY_BOARD;
+import static com.chess.engine.board.bitboard.BitBoardUtils.NUM_PIECE_INDEXES;
+import static com.chess.engine.board.bitboard.BitBoardUtils.PieceIndex;
+import static com.chess.engine.pieces.Piece.PieceType.PAWN;
+
+/**
+ * This class holds the random numbers behind a position's 64-bit Zobrist key.
+ * A key is the XOR of one number per piece on its tile, one for Black to move, one for the castles still
+ * allowed, and one for the En Passant file, so a move only has to XOR out what it removes and XOR in what
+ * it adds.
+ * The pawn key is the XOR of the Pawns' numbers alone, so it only changes when a Pawn moves or is taken.
+ * The numbers come from a fixed seed so keys are the same on every run.
+ */
+public final class Zobrist {
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+    private static final long[][] PIECE_KEYS = new long[NUM_PIECE_INDEXES][NUM_TILES];
+    private static final long[] CASTLING_KEYS = new long[16];
+    private static final long[] EN_PASSANT_KEYS = new long[NUM_TILES_PER_ROW];
+    public static final long BLACK_TO_MOVE_KEY;
+    static {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        for (final long[] pieceKeys : PIECE_KEYS) {
+            for (int i = 0; i < NUM_TILES; i++) {
+                pieceKeys[i] = random.nextLong();
+            }
+        }
+        for (int i = 0; i < CASTLING_KEYS.length; i++) {
+            CASTLING_KEYS[i] = random.nextLong();
+        }
+        for (int i = 0; i < EN_PASSANT_KEYS.length; i++) {
+            EN_PASSANT_KEYS[i] = random.nextLong();
+        }
+        BLACK_TO_MOVE_KEY = random.nextLong();
+    }
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    private Zobrist() {}
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * @param pieceIndex   the index (0-11) of the piece
+     * @param tilePosition where the piece is
+     * @return the number for the piece standing on the tile
+     */
+    public static long PieceKey(final int pieceIndex, final int tilePosition) {
+        return PIECE_KEYS[pieceIndex][tilePosition];
+    }
+
+    /**
+     * @param piece        the piece
+     * @param tilePosition where the piece is
+     * @return the number for the piece standing on the tile
+     */
+    public static long PieceKey(final Piece piece, final int tilePosition) {
+        return PIECE_KEYS[PieceIndex(piece.getPieceType(), piece.getPieceAlliance())][tilePosition];
+    }
+
+    /**
+     * @param castlingRights which castles are still allowed
+     * @return the number for the combination of castles
+     */
+    public static long CastlingKey(final int castlingRights) {
+        return CASTLING_KEYS[castlingRights];
+    }
+
+    /**
+     * @param enPassantTile the tile a Pawn just jumped over (or any tile on that file), or -1 if there is none
+     * @return the number for the En Passant file (0 if there is none)
+     */
+    public static long EnPassantKey(final int enPassantTile) {
+        return enPassantTile < 0 ? 0L : EN_PASSANT_KEYS[enPassantTile % NUM_TILES_PER_ROW];
+    }
+
+    /**
+     * @param sideToMove whose turn it is
+     * @return the number for the side to move (0 for White)
+     */
+    public static long SideKey(final Alliance sideToMove) {
+        return sideToMove.isWhite() ? 0L : BLACK_TO_MOVE_KEY;
+    }
+
+    /**
+     * Calculates a key from scratch. Only boards that are not made by a move (e.g., the initial board) need this.
+     * @param bitBoard       the piece sets of the position
+     * @param sideToMove     whose turn it is
+     * @param castlingRights which castles are still allowed
+     * @param enPassantTile  the tile a Pawn just jumped over, or -1 if there is none
+     * @return the position's Zobrist key
+     */
+    public static long CalculateKey(final BitBoard bitBoard,
+                                    final Alliance sideToMove,
+                                    final int castlingRights,
+                                    final int enPassantTile) {
+        long key = SideKey(sideToMove) ^ CastlingKey(castlingRights) ^ EnPassantKey(enPassantTile);
+        for (int i = 0; i < NUM_PIECE_INDEXES; i++) {
+            long pieces = bitBoard.getPieceBoard(i);
+            while (pieces != EMPTY_BOARD) {
+                key ^= PieceKey(i, Long.numberOfTrailingZeros(pieces));
+                pieces &= pieces - 1;
+            }
+        }
+
+        return key;
+    }
+
+    /**
+     * Calculates a pawn key from scratch. Only boards that are not made by a move need this.
+     * @param bitBoard the piece sets of the position
+     * @return the Zobrist key of the Pawns alone
+     */
+    public static long CalculatePawnKey(final BitBoard bitBoard) {
+        long key = 0L;
+        for (final Alliance alliance : Alliance.values()) {
+            final int pieceIndex = PieceIndex(PAWN, alliance);
+            long pawns = bitBoard.getPieceBoard(pieceIndex);
+            while (pawns != EMPTY_BOARD) {
+                key ^= PieceKey(pieceIndex, Long.numberOfTrailingZeros(pawns));
+                pawns &= pawns - 1;
+            }
+        }
+
+        return key;
+    }
+}
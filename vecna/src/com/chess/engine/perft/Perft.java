@@ -0,0 +1,163 @@
+package com.chess.engine.perft;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtils;
+import com.chess.engine.board.move.Move;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * This class counts the leaves of the legal move tree to a fixed depth (perft) to check the move generator
+ * and measure its speed.
+ * It walks the tree through Player.getLegalMoves and Move.execute, so it covers Piece.calculateLegalMoves and
+ * the King safety filter exactly as the game uses them.
+ * Root moves are counted in parallel on a ForkJoinPool, the last ply is counted from the size of the legal move
+ * list without executing any move (bulk counting), and a shared hash table skips subtrees already counted by
+ * another move order.
+ */
+public final class Perft {
+    public static final int DEFAULT_HASH_SIZE_MB = 64;
+    private final ForkJoinPool pool;
+    private final PerftHashTable hashTable;
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    /**
+     * Constructor for a perft counter.
+     * @param threadCount how many threads count root moves
+     * @param hashSizeMB  how many megabytes the hash table may use (0 turns it off)
+     */
+    public Perft(final int threadCount, final int hashSizeMB) {
+        this.pool = new ForkJoinPool(threadCount);
+        this.hashTable = hashSizeMB > 0 ? new PerftHashTable(hashSizeMB) : null;
+    }
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * Counts the leaves below every legal root move.
+     * @param board the board to count from
+     * @param depth how many plies to count
+     * @return the leaf count of each root move (the divide), the total, and the speed
+     */
+    public PerftResult run(final Board board, final int depth) {
+        final long startTime = System.nanoTime();
+        final Map<Move, Long> divide = new LinkedHashMap<>();
+        if (depth > 0) {
+            final List<Move> rootMoves = new ArrayList<>();
+            final List<LeafCount> rootCounts = new ArrayList<>();
+            for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
+                final LeafCount rootCount = new LeafCount(move.execute(), depth - 1);
+                this.pool.execute(rootCount);
+                rootMoves.add(move);
+                rootCounts.add(rootCount);
+            }
+            for (int i = 0; i < rootMoves.size(); i++) {
+                divide.put(rootMoves.get(i), rootCounts.get(i).join());
+            }
+        }
+
+        return new PerftResult(depth, divide, (System.nanoTime() - startTime) / 1_000_000);
+    }
+
+    /**
+     * @param fen   the board to count from, in FEN
+     * @param depth how many plies to count
+     * @return the leaf count of each root move (the divide), the total, and the speed
+     */
+    public PerftResult run(final String fen, final int depth) {
+        return run(FenUtils.CreateBoardFromFen(fen), depth);
+    }
+
+    /**
+     * Stops the counting threads for good.
+     */
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * Prints the divide, total, and speed of a perft run.
+     * @param args the depth, then optionally a FEN (the initial board otherwise)
+     */
+    public static void main(final String[] args) {
+        final int depth = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        final Board board = args.length > 1 ?
+                            FenUtils.CreateBoardFromFen(String.join(" ", List.of(args).subList(1, args.length))) :
+                            Board.CreateInitialBoard();
+        final Perft perft = new Perft(Runtime.getRuntime().availableProcessors(), DEFAULT_HASH_SIZE_MB);
+        System.out.println(perft.run(board, depth));
+        perft.shutdown();
+    }
+    //********************************************************
+    //********************Helper Methods**********************
+    //********************************************************
+    /**
+     * @param board the board to count from
+     * @param depth how many plies to count
+     * @return how many leaves there are
+     */
+    private long countLeaves(final Board board, final int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+        // Bulk counting: every legal move on the last ply is a leaf
+        if (depth == 1) {
+            return board.getCurrentPlayer().getLegalMoves().size();
+        }
+        final long zobristKey = board.getZobristKey();
+        if (this.hashTable != null) {
+            final long storedCount = this.hashTable.probe(zobristKey, depth);
+            if (storedCount != PerftHashTable.NO_ENTRY) {
+                return storedCount;
+            }
+        }
+        long leafCount = 0;
+        for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
+            leafCount += countLeaves(move.execute(), depth - 1);
+        }
+        if (this.hashTable != null) {
+            this.hashTable.store(zobristKey, depth, leafCount);
+        }
+
+        return leafCount;
+    }
+    //********************************************************
+    //**********************Root Task*************************
+    //********************************************************
+    /**
+     * This inner class counts the leaves below one root move on the pool.
+     */
+    private final class LeafCount extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+        private final Board board;
+        private final int depth;
+        //********************************************************
+        //**********************Constructor***********************
+        //********************************************************
+        /**
+         * Constructor for a root move's count.
+         * @param board the board after the root move
+         * @param depth how many plies are left to count
+         */
+        private LeafCount(final Board board, final int depth) {
+            this.board = board;
+            this.depth = depth;
+        }
+        //********************************************************
+        //**********************Main Methods**********************
+        //********************************************************
+        /**
+         * @return how many leaves there are below the root move
+         */
+        @Override
+        protected Long compute() {
+            return countLeaves(this.board, this.depth);
+        }
+    }
+}
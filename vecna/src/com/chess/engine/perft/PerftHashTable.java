@@ -0,0 +1,59 @@
+package com.chess.engine.perft;
+
+/**
+ * This class caches perft leaf counts by Zobrist key and depth so that a subtree reached by another move
+ * order is only counted once.
+ * Like the search's transposition table, each entry is two longs (the data and the key XORed with it), so
+ * the perft threads can share it without locks and a half-written entry just reads as a miss.
+ */
+final class PerftHashTable {
+    static final long NO_ENTRY = -1;
+    private static final int LONGS_PER_ENTRY = 2;
+    private static final int DEPTH_BITS = 8;
+
+    private final long[] table;
+    private final int entryMask;
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    /**
+     * Constructor for a perft hash table.
+     * @param sizeMB how many megabytes the table may use (rounded down to a power of two number of entries)
+     */
+    PerftHashTable(final int sizeMB) {
+        final long entries = Long.highestOneBit((long) sizeMB * 1024 * 1024 / (LONGS_PER_ENTRY * Long.BYTES));
+        final int entryCount = (int) Math.min(entries, Integer.highestOneBit(Integer.MAX_VALUE / LONGS_PER_ENTRY));
+        this.table = new long[entryCount * LONGS_PER_ENTRY];
+        this.entryMask = entryCount - 1;
+    }
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * @param zobristKey the Zobrist key of the board
+     * @param depth      how many plies are counted below the board
+     * @return the stored leaf count, or NO_ENTRY if there is none
+     */
+    long probe(final long zobristKey, final int depth) {
+        final int index = ((int) zobristKey & this.entryMask) * LONGS_PER_ENTRY;
+        final long data = this.table[index + 1];
+        if ((this.table[index] ^ data) != zobristKey || (data & ((1 << DEPTH_BITS) - 1)) != depth) {
+            return NO_ENTRY;
+        }
+
+        return data >>> DEPTH_BITS;
+    }
+
+    /**
+     * Stores a leaf count, always replacing what was there.
+     * @param zobristKey the Zobrist key of the board
+     * @param depth      how many plies are counted below the board
+     * @param leafCount  how many leaves there are
+     */
+    void store(final long zobristKey, final int depth, final long leafCount) {
+        final int index = ((int) zobristKey & this.entryMask) * LONGS_PER_ENTRY;
+        final long data = (leafCount << DEPTH_BITS) | depth;
+        this.table[index] = zobristKey ^ data;
+        this.table[index + 1] = data;
+    }
+}
@@ -0,0 +1,94 @@
+package com.chess.engine.perft;
+
+import com.chess.engine.board.move.Move;
+import com.chess.engine.board.position.EncodedMove;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Map;
+
+/**
+ * This class holds what a perft run counted: the leaves below each root move (the divide) and in total,
+ * and how fast they were counted.
+ */
+public final class PerftResult {
+    private final int depth;
+    private final Map<Move, Long> divide;
+    private final long leafCount;
+    private final long elapsedMillis;
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    /**
+     * Constructor for a perft result.
+     * @param depth         how many plies were counted
+     * @param divide        the leaves below each legal root move
+     * @param elapsedMillis how long the count took
+     */
+    PerftResult(final int depth, final Map<Move, Long> divide, final long elapsedMillis) {
+        this.depth = depth;
+        this.divide = ImmutableMap.copyOf(divide);
+        long leafCount = 0;
+        for (final long moveLeafCount : divide.values()) {
+            leafCount += moveLeafCount;
+        }
+        this.leafCount = depth == 0 ? 1 : leafCount;
+        this.elapsedMillis = elapsedMillis;
+    }
+    //********************************************************
+    //************************Getters*************************
+    //********************************************************
+    /**
+     * @return how many plies were counted
+     */
+    public int getDepth() {
+        return this.depth;
+    }
+
+    /**
+     * @return the leaves below each legal root move, in move generation order
+     */
+    public Map<Move, Long> getDivide() {
+        return this.divide;
+    }
+
+    /**
+     * @return how many leaves there are in total
+     */
+    public long getLeafCount() {
+        return this.leafCount;
+    }
+
+    /**
+     * @return how long the count took in milliseconds
+     */
+    public long getElapsedMillis() {
+        return this.elapsedMillis;
+    }
+
+    /**
+     * @return how many leaves were counted per second
+     */
+    public long getNodesPerSecond() {
+        return this.leafCount * 1000 / Math.max(1, this.elapsedMillis);
+    }
+    //********************************************************
+    //******************Special Overrides*********************
+    //********************************************************
+    /**
+     * @return one line per root move with its leaf count, then the total and speed
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        for (final Map.Entry<Move, Long> entry : this.divide.entrySet()) {
+            builder.append(EncodedMove.ToString(EncodedMove.Encode(entry.getKey())))
+                   .append(": ").append(entry.getValue()).append('\n');
+        }
+        builder.append("depth ").append(this.depth)
+               .append(" nodes ").append(this.leafCount)
+               .append(" time ").append(this.elapsedMillis)
+               .append(" nps ").append(getNodesPerSecond());
+
+        return builder.toString();
+    }
+}
@@ -2,19 +2,20 @@ package com.chess.engine.pieces;
 
 import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
+import com.chess.engine.board.bitboard.BitBoard;
+import com.chess.engine.board.move.misc.AttackMove;
 import com.chess.engine.board.move.misc.MajorMove;
 import com.chess.engine.board.move.Move;
-import com.chess.engine.board.tile.Tile;
 import com.google.common.collect.ImmutableList;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
-import static com.chess.engine.board.BoardUtils.IsValidTilePosition;
+import static com.chess.engine.board.bitboard.BitBoardUtils.EMPTY_BOARD;
+import static com.chess.engine.board.bitboard.BitBoardUtils.KING_ATTACKS;
 import static com.chess.engine.pieces.Piece.PieceType.KING;
-import static com.chess.engine.pieces.utils.PieceMoveOffsets.QUEEN_KING_MOVE_OFFSETS;
-import static com.chess.engine.pieces.utils.PieceUtils.MoveWithOccupiedTile;
+import static com.chess.engine.pieces.utils.PieceCache.GetPiece;
 
 public class King extends Piece {
     //********************************************************
@@ -27,7 +28,18 @@ public class King extends Piece {
      * @param piecePosition the piece's position on the chess board
      */
     public King(final Alliance pieceAlliance, final int piecePosition) {
-        super(KING, pieceAlliance, piecePosition);
+        this(pieceAlliance, piecePosition, true);
+    }
+
+    /**
+     * Constructor for a piece.
+     *
+     * @param pieceAlliance the piece's alliance
+     * @param piecePosition the piece's position on the chess board
+     * @param isFirstMove   whether the piece has yet to move
+     */
+    public King(final Alliance pieceAlliance, final int piecePosition, final boolean isFirstMove) {
+        super(KING, pieceAlliance, piecePosition, isFirstMove);
     }
     //********************************************************
     //*********************Main Methods***********************
@@ -41,29 +53,20 @@ public class King extends Piece {
     @Override
     public Collection<Move> calculateLegalMoves(Board board) {
         List<Move> legalMoves = new ArrayList<>();
-        // Iterate through all the piece's offsets to find valid moves
-        for (final int currentOffset : QUEEN_KING_MOVE_OFFSETS) {
-            // Find the next target's position
-            final int possibleTargetPosition = this.piecePosition + currentOffset;
-            // Determine if the tile is on the chess board
-            if (IsValidTilePosition(possibleTargetPosition)) {
-                // Determine if the piece is on an edge
-                if (Math.abs(((this.piecePosition % 8)) - ((possibleTargetPosition % 8))) > 1) {
-                    continue;
-                }
-                final Tile possibleTargetTile = board.getTile(possibleTargetPosition);
-                // Determine if the tile is empty or occupied
-                if (!possibleTargetTile.isTileOccupied()) {
-                    // The piece can move to the empty tile.
-                    legalMoves.add(new MajorMove(board, this, possibleTargetPosition));
-                } else {
-                    MoveWithOccupiedTile(this,
-                                         board,
-                                         possibleTargetPosition,
-                                         this.getPieceAlliance(),
-                                         possibleTargetTile,
-                                         legalMoves);
-                }
+        final BitBoard bitBoard = board.getBitBoard();
+        // Every tile next to the King, minus the ones its own pieces stand on
+        long targetTiles = KING_ATTACKS[this.piecePosition] & ~bitBoard.getOccupancy(this.pieceAlliance);
+        while (targetTiles != EMPTY_BOARD) {
+            final int possibleTargetPosition = Long.numberOfTrailingZeros(targetTiles);
+            targetTiles &= targetTiles - 1;
+            // Determine if the tile is empty or occupied
+            if (!bitBoard.isTileOccupied(possibleTargetPosition)) {
+                // The piece can move to the empty tile.
+                legalMoves.add(new MajorMove(board, this, possibleTargetPosition));
+            } else {
+                // The piece can capture the enemy's piece.
+                final Piece targetPiece = board.getTile(possibleTargetPosition).getPiece();
+                legalMoves.add(new AttackMove(board, this, possibleTargetPosition, targetPiece));
             }
         }
 
@@ -72,11 +75,11 @@ public class King extends Piece {
 
     /**
      * @param move what the King is trying to do
-     * @return the same King (but new object) but with an updated position
+     * @return the shared King on the target tile, marked as having moved
      */
     @Override
     public King movePiece(final Move move) {
-        return new King(move.getMovedPiece().getPieceAlliance(), move.getTargetPosition());
+        return (King) GetPiece(KING, move.getMovedPiece().getPieceAlliance(), move.getTargetPosition(), false);
     }
 
     /**
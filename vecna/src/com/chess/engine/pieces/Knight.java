@@ -2,19 +2,20 @@ package com.chess.engine.pieces;
 
 import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
+import com.chess.engine.board.bitboard.BitBoard;
 import com.chess.engine.board.move.*;
 import com.chess.engine.board.move.misc.AttackMove;
 import com.chess.engine.board.move.misc.MajorMove;
-import com.chess.engine.board.tile.Tile;
 import com.google.common.collect.ImmutableList;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import static com.chess.engine.board.bitboard.BitBoardUtils.EMPTY_BOARD;
+import static com.chess.engine.board.bitboard.BitBoardUtils.KNIGHT_ATTACKS;
 import static com.chess.engine.pieces.Piece.PieceType.KNIGHT;
-import static com.chess.engine.pieces.utils.PieceMoveOffsets.KNIGHT_MOVE_OFFSETS;
-import static com.chess.engine.board.BoardUtils.IsValidTilePosition;
+import static com.chess.engine.pieces.utils.PieceCache.GetPiece;
 
 /**
  * This class represents the Knight chess piece.
@@ -29,7 +30,17 @@ public class Knight extends Piece {
      * @param piecePosition the Knight's position on the chess board
      */
     public Knight(final Alliance pieceAlliance, final int piecePosition) {
-        super(KNIGHT, pieceAlliance, piecePosition);
+        this(pieceAlliance, piecePosition, true);
+    }
+
+    /**
+     * Constructor for a Knight.
+     * @param pieceAlliance the Knight's alliance
+     * @param piecePosition the Knight's position on the chess board
+     * @param isFirstMove   whether the Knight has yet to move
+     */
+    public Knight(final Alliance pieceAlliance, final int piecePosition, final boolean isFirstMove) {
+        super(KNIGHT, pieceAlliance, piecePosition, isFirstMove);
     }
     //********************************************************
     //*********************Main Methods***********************
@@ -42,30 +53,20 @@ public class Knight extends Piece {
     @Override
     public Collection<Move> calculateLegalMoves(final Board board) {
         List<Move> legalMoves = new ArrayList<>();
-        // Iterate through all the piece's offsets to find valid moves
-        for (final int currentOffset : KNIGHT_MOVE_OFFSETS) {
-            // Find the current target position
-            final int possibleTargetPosition = this.piecePosition + currentOffset;
-            // Determine if the tile is on the chess board
-            if (IsValidTilePosition(possibleTargetPosition)) {
-                // Determine if the piece is on an edge
-                if (Math.abs(((this.piecePosition % 8)) - ((possibleTargetPosition % 8))) > 2){
-                    continue;
-                }
-                final Tile possibleTargetTile = board.getTile(possibleTargetPosition);
-                // Determine if the tile is empty or occupied
-                if (!possibleTargetTile.isTileOccupied()) {
-                    // The piece can move to the empty tile.
-                    legalMoves.add(new MajorMove(board, this, possibleTargetPosition));
-                } else {
-                    final Piece targetPiece = possibleTargetTile.getPiece();
-                    final Alliance targetPieceAlliance = targetPiece.getPieceAlliance();
-                    // Determine if the target piece is the enemy's
-                    if (this.pieceAlliance != targetPieceAlliance) {
-                        // The piece can capture the enemy's piece.
-                        legalMoves.add(new AttackMove(board, this, possibleTargetPosition, targetPiece));
-                    }
-                }
+        final BitBoard bitBoard = board.getBitBoard();
+        // Every tile the Knight jumps to, minus the ones its own pieces stand on
+        long targetTiles = KNIGHT_ATTACKS[this.piecePosition] & ~bitBoard.getOccupancy(this.pieceAlliance);
+        while (targetTiles != EMPTY_BOARD) {
+            final int possibleTargetPosition = Long.numberOfTrailingZeros(targetTiles);
+            targetTiles &= targetTiles - 1;
+            // Determine if the tile is empty or occupied
+            if (!bitBoard.isTileOccupied(possibleTargetPosition)) {
+                // The piece can move to the empty tile.
+                legalMoves.add(new MajorMove(board, this, possibleTargetPosition));
+            } else {
+                // The piece can capture the enemy's piece.
+                final Piece targetPiece = board.getTile(possibleTargetPosition).getPiece();
+                legalMoves.add(new AttackMove(board, this, possibleTargetPosition, targetPiece));
             }
         }
 
@@ -74,11 +75,11 @@ public class Knight extends Piece {
 
     /**
      * @param move what the Knight is trying to do
-     * @return the same Knight (but new object) but with an updated position
+     * @return the shared Knight on the target tile, marked as having moved
      */
     @Override
     public Knight movePiece(final Move move) {
-        return new Knight(move.getMovedPiece().getPieceAlliance(), move.getTargetPosition());
+        return (Knight) GetPiece(KNIGHT, move.getMovedPiece().getPieceAlliance(), move.getTargetPosition(), false);
     }
 
     /**
@@ -3,8 +3,11 @@ package com.chess.engine.pieces;
 import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.move.*;
-import com.chess.engine.board.move.misc.AttackMove;
-import com.chess.engine.board.move.misc.MajorMove;
+import com.chess.engine.board.move.pawn.PawnAttackMove;
+import com.chess.engine.board.move.pawn.PawnEnPassantAttackMove;
+import com.chess.engine.board.move.pawn.PawnJump;
+import com.chess.engine.board.move.pawn.PawnMove;
+import com.chess.engine.board.move.pawn.PawnPromotion;
 import com.google.common.collect.ImmutableList;
 
 import java.util.ArrayList;
@@ -12,8 +15,11 @@ import java.util.Collection;
 import java.util.List;
 
 import static com.chess.engine.board.BoardUtils.IsValidTilePosition;
-import static com.chess.engine.pieces.Piece.PieceType.PAWN;
+import static com.chess.engine.board.BoardUtils.NUM_TILES;
+import static com.chess.engine.board.BoardUtils.NUM_TILES_PER_ROW;
+import static com.chess.engine.pieces.Piece.PieceType.*;
 import static com.chess.engine.pieces.utils.PieceMoveOffsets.PAWN_MOVE_OFFSETS;
+import static com.chess.engine.pieces.utils.PieceCache.GetPiece;
 
 public class Pawn extends Piece {
     //********************************************************
@@ -26,7 +32,18 @@ public class Pawn extends Piece {
      * @param piecePosition the Pawn's position on the chess board
      */
     public Pawn(final Alliance pieceAlliance, final int piecePosition) {
-        super(PAWN, pieceAlliance, piecePosition);
+        this(pieceAlliance, piecePosition, true);
+    }
+
+    /**
+     * Constructor for a Pawn.
+     *
+     * @param pieceAlliance the Pawn's alliance
+     * @param piecePosition the Pawn's position on the chess board
+     * @param isFirstMove   whether the Pawn has yet to move
+     */
+    public Pawn(final Alliance pieceAlliance, final int piecePosition, final boolean isFirstMove) {
+        super(PAWN, pieceAlliance, piecePosition, isFirstMove);
     }
     //********************************************************
     //*********************Main Methods***********************
@@ -39,39 +56,43 @@ public class Pawn extends Piece {
     @Override
     public Collection<Move> calculateLegalMoves(Board board) {
         final List<Move> legalMoves = new ArrayList<>();
+        // Position varies based on the piece's alliance
+        final int pieceDirection = this.getPieceAlliance().getDirection();
         for (final int currentOffset : PAWN_MOVE_OFFSETS) {
-            // Position varies based on the piece's alliance
-            final int pieceDirection = this.getPieceAlliance().getDirection();
-            int possibleTargetPosition = piecePosition + (pieceDirection * currentOffset);
+            final int possibleTargetPosition = this.piecePosition + (pieceDirection * currentOffset);
             if (!IsValidTilePosition(possibleTargetPosition)) {
                 continue;
             }
-            // A jumping-only Pawn must do a one-tile jump or two-tile jump to a legal empty tile.
-            if (!board.getTile(possibleTargetPosition).isTileOccupied()) {
-                if (currentOffset == 8 || currentOffset == 16) {
-                    // Two-tile Pawn jump (pawn must be on its initial rank)
-                    if (this.isFirstMove()) {
-                        final int behindPossibleTargetPosition = this.piecePosition + (pieceDirection * 8);
-                        if (!board.getTile(behindPossibleTargetPosition).isTileOccupied()) {
-                            // TODO: make a two-tile Pawn jump
-                            legalMoves.add(new MajorMove(board, this, possibleTargetPosition));
-                        }
-                    }
-                    // One-tile Pawn jump (promotion must be on final rank in the Pawn's forward direction)
-                    else {
-                        // TODO: make a one-tile Pawn jump that may involve a promotion
-                        legalMoves.add(new MajorMove(board, this, possibleTargetPosition));
-                    }
+            // One-tile Pawn jump to an empty tile (promotion if it reaches the final rank)
+            if (currentOffset == 8) {
+                if (!board.isTileOccupied(possibleTargetPosition)) {
+                    addPawnMove(legalMoves, new PawnMove(board, this, possibleTargetPosition));
+                }
+            }
+            // Two-tile Pawn jump (pawn must be on its initial rank and both tiles must be empty)
+            else if (currentOffset == 16) {
+                final int behindPossibleTargetPosition = this.piecePosition + (pieceDirection * 8);
+                if (this.isFirstMove() &&
+                    !board.isTileOccupied(behindPossibleTargetPosition) &&
+                    !board.isTileOccupied(possibleTargetPosition)) {
+                    legalMoves.add(new PawnJump(board, this, possibleTargetPosition));
                 }
             }
             // Otherwise, a capture may occur via normal Pawn capture or En Passant.
-            else {
-                if (pawnDiagonalAttack(currentOffset)) {
+            else if (pawnDiagonalAttack(currentOffset)) {
+                if (board.isTileOccupied(possibleTargetPosition)) {
                     final Piece targetPiece = board.getTile(possibleTargetPosition).getPiece();
                     if (this.pieceAlliance != targetPiece.getPieceAlliance()) {
-                        // TODO: make a normal Pawn capture
-                        legalMoves.add(new AttackMove(board, this, possibleTargetPosition, targetPiece));
+                        addPawnMove(legalMoves, new PawnAttackMove(board,
+                                                                   this,
+                                                                   possibleTargetPosition,
+                                                                   targetPiece));
                     }
+                } else if (isEnPassantTarget(board, possibleTargetPosition)) {
+                    legalMoves.add(new PawnEnPassantAttackMove(board,
+                                                               this,
+                                                               possibleTargetPosition,
+                                                               board.getEnPassantPawn()));
                 }
             }
         }
@@ -81,11 +102,50 @@ public class Pawn extends Piece {
 
     /**
      * @param move what the Pawn is trying to do
-     * @return the same Pawn (but new object) but with an updated position
+     * @return the shared Pawn on the target tile, marked as having moved
      */
     @Override
     public Pawn movePiece(final Move move) {
-        return new Pawn(move.getMovedPiece().getPieceAlliance(), move.getTargetPosition());
+        return (Pawn) GetPiece(PAWN, move.getMovedPiece().getPieceAlliance(), move.getTargetPosition(), false);
+    }
+
+    /**
+     * Adds the move, or one promotion per possible piece if the move reaches the final rank.
+     * @param legalMoves the list of all the Pawn's legal moves
+     * @param pawnMove   the Pawn's one-tile jump or attack
+     */
+    private void addPawnMove(final List<Move> legalMoves, final Move pawnMove) {
+        final int targetPosition = pawnMove.getTargetPosition();
+        if (!isPromotionTile(targetPosition)) {
+            legalMoves.add(pawnMove);
+            return;
+        }
+        legalMoves.add(new PawnPromotion(pawnMove, GetPiece(QUEEN, this.pieceAlliance, targetPosition, false)));
+        legalMoves.add(new PawnPromotion(pawnMove, GetPiece(ROOK, this.pieceAlliance, targetPosition, false)));
+        legalMoves.add(new PawnPromotion(pawnMove, GetPiece(BISHOP, this.pieceAlliance, targetPosition, false)));
+        legalMoves.add(new PawnPromotion(pawnMove, GetPiece(KNIGHT, this.pieceAlliance, targetPosition, false)));
+    }
+
+    /**
+     * @param targetPosition where the Pawn wants to move to
+     * @return whether the tile is on the final rank in the Pawn's forward direction
+     */
+    private boolean isPromotionTile(final int targetPosition) {
+        return this.pieceAlliance.isWhite() ?
+               targetPosition < NUM_TILES_PER_ROW :
+               targetPosition >= NUM_TILES - NUM_TILES_PER_ROW;
+    }
+
+    /**
+     * @param board          what the Pawn will be moving on
+     * @param targetPosition the empty tile on the Pawn's forward diagonal
+     * @return whether the tile is right behind an enemy Pawn that just made a two-tile jump
+     */
+    private boolean isEnPassantTarget(final Board board, final int targetPosition) {
+        final Pawn enPassantPawn = board.getEnPassantPawn();
+        return enPassantPawn != null &&
+               enPassantPawn.getPieceAlliance() != this.pieceAlliance &&
+               enPassantPawn.getPiecePosition() == targetPosition - (this.pieceAlliance.getDirection() * 8);
     }
 
     /**
@@ -22,13 +22,16 @@ public abstract class Piece {
      * Constructor for a piece.
      * @param pieceAlliance the piece's alliance
      * @param piecePosition the piece's position on the chess board
+     * @param isFirstMove   whether the piece has yet to move
      */
-    protected Piece(final PieceType pieceType, final Alliance pieceAlliance, final int piecePosition) {
+    protected Piece(final PieceType pieceType,
+                    final Alliance pieceAlliance,
+                    final int piecePosition,
+                    final boolean isFirstMove) {
         this.pieceType = pieceType;
         this.pieceAlliance = pieceAlliance;
         this.piecePosition = piecePosition;
-        // TODO: more work to do
-        this.firstMove = false;
+        this.firstMove = isFirstMove;
         this.cachedHashCode = computeHashCode();
     }
     //********************************************************
@@ -123,8 +126,16 @@ public abstract class Piece {
     //***********************PieceType************************
     //********************************************************
     public enum PieceType {
-        PAWN("P") {},
-        ROOK("R") {
+        PAWN("P", 100) {
+            /**
+             * @return whether the piece is a Pawn
+             */
+            @Override
+            public boolean isPawn() {
+                return true;
+            }
+        },
+        ROOK("R", 500) {
             /**
              * @return whether the piece is a Rook
              */
@@ -133,10 +144,10 @@ public abstract class Piece {
                 return true;
             }
         },
-        KNIGHT("N") {},
-        BISHOP("B") {},
-        QUEEN("Q") {},
-        KING("K") {
+        KNIGHT("N", 320) {},
+        BISHOP("B", 330) {},
+        QUEEN("Q", 900) {},
+        KING("K", 10000) {
             /**
              * @return whether the piece is a King
              */
@@ -147,19 +158,36 @@ public abstract class Piece {
         };
 
         private final String pieceName;
+        private final int pieceValue;
         //********************************************************
         //**********************Constructor***********************
         //********************************************************
         /**
          * Constructor for the piece type.
-         * @param pieceName what the piece is designated as
+         * @param pieceName  what the piece is designated as
+         * @param pieceValue what the piece is worth in centipawns
          */
-        PieceType(final String pieceName) {
+        PieceType(final String pieceName, final int pieceValue) {
             this.pieceName = pieceName;
+            this.pieceValue = pieceValue;
         }
         //********************************************************
         //**********************Main Methods**********************
         //********************************************************
+        /**
+         * @return what the piece is worth in centipawns
+         */
+        public int getPieceValue() {
+            return this.pieceValue;
+        }
+
+        /**
+         * @return whether the piece is a Pawn
+         */
+        public boolean isPawn() {
+            return false;
+        }
+
         /**
          * @return whether the piece is a King
          */
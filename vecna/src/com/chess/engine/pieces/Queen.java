@@ -3,19 +3,13 @@ package com.chess.engine.pieces;
 import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.move.*;
-import com.chess.engine.board.move.misc.MajorMove;
-import com.chess.engine.board.tile.Tile;
-import com.google.common.collect.ImmutableList;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
-import static com.chess.engine.board.BoardUtils.IsValidTilePosition;
+import static com.chess.engine.board.bitboard.BitBoardUtils.QueenAttacks;
 import static com.chess.engine.pieces.Piece.PieceType.QUEEN;
-import static com.chess.engine.pieces.utils.PieceMoveOffsets.QUEEN_KING_MOVE_OFFSETS;
 import static com.chess.engine.pieces.utils.PieceUtils.CalculateSlidingLegalMoves;
-import static com.chess.engine.pieces.utils.PieceUtils.MoveWithOccupiedTile;
+import static com.chess.engine.pieces.utils.PieceCache.GetPiece;
 
 public class Queen extends Piece {
     //********************************************************
@@ -28,7 +22,18 @@ public class Queen extends Piece {
      * @param piecePosition the Queen's position on the chess board
      */
     public Queen(final Alliance pieceAlliance, final int piecePosition) {
-        super(QUEEN, pieceAlliance, piecePosition);
+        this(pieceAlliance, piecePosition, true);
+    }
+
+    /**
+     * Constructor for a Queen.
+     *
+     * @param pieceAlliance the Queen's alliance
+     * @param piecePosition the Queen's position on the chess board
+     * @param isFirstMove   whether the Queen has yet to move
+     */
+    public Queen(final Alliance pieceAlliance, final int piecePosition, final boolean isFirstMove) {
+        super(QUEEN, pieceAlliance, piecePosition, isFirstMove);
     }
     //********************************************************
     //*********************Main Methods***********************
@@ -40,64 +45,17 @@ public class Queen extends Piece {
      */
     @Override
     public Collection<Move> calculateLegalMoves(final Board board) {
-        // In class version
-//        calculateQueenLegalMoves(board);
-        // Sliding piece version
-        List<Move> legalMoves = CalculateSlidingLegalMoves(
-                board,
-                this,
-                this.piecePosition,
-                QUEEN_KING_MOVE_OFFSETS,
-                this.pieceAlliance);
-        return ImmutableList.copyOf(legalMoves);
+        final long attackedTiles = QueenAttacks(this.piecePosition, board.getBitBoard().getOccupancy());
+        return CalculateSlidingLegalMoves(board, this, attackedTiles);
     }
 
     /**
      * @param move what the Queen is trying to do
-     * @return the same Queen (but new object) but with an updated position
+     * @return the shared Queen on the target tile, marked as having moved
      */
     @Override
     public Queen movePiece(final Move move) {
-        return new Queen(move.getMovedPiece().getPieceAlliance(), move.getTargetPosition());
-    }
-
-    /**
-     * Determines all the Queen's legal moves currently on the chess board.
-     * @param board what the Queen will be moving on
-     * @return a collection of all the Queen's legal moves on the current chess board
-     */
-    private Collection<Move> calculateQueenLegalMoves(final Board board) {
-        List<Move> legalMoves = new ArrayList<>();
-        // Iterate through all the piece's offsets to find valid moves
-        for (final int currentOffset : QUEEN_KING_MOVE_OFFSETS) {
-            int possibleTargetPosition = this.piecePosition;
-            // Determine if the tile is on the chess board
-            while (IsValidTilePosition(possibleTargetPosition)) {
-                // Determine if the piece is on an edge
-                if (Math.abs(((this.piecePosition % 8)) - ((possibleTargetPosition % 8))) > 1) {
-                    break;
-                }
-                final Tile possibleTargetTile = board.getTile(possibleTargetPosition);
-                // Determine if the tile is empty or occupied
-                if (!possibleTargetTile.isTileOccupied()) {
-                    // The piece can move to the empty tile.
-                    legalMoves.add(new MajorMove(board, this, possibleTargetPosition));
-                } else {
-                    MoveWithOccupiedTile(this,
-                            board,
-                            possibleTargetPosition,
-                            this.getPieceAlliance(),
-                            possibleTargetTile,
-                            legalMoves);
-                    // Cannot move since the tile is occupied, regardless of the target's alliance
-                    break;
-                }
-                // Find the next target's position
-                possibleTargetPosition += currentOffset;
-            }
-        }
-
-        return ImmutableList.copyOf(legalMoves);
+        return (Queen) GetPiece(QUEEN, move.getMovedPiece().getPieceAlliance(), move.getTargetPosition(), false);
     }
 
     /**
@@ -0,0 +1,112 @@
+package com.chess.engine.pieces.utils;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.*;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import static com.chess.engine.board.BoardUtils.NUM_TILES;
+import static com.chess.engine.board.bitboard.BitBoardUtils.NUM_PIECE_INDEXES;
+import static com.chess.engine.board.bitboard.BitBoardUtils.PieceIndex;
+
+/**
+ * This class holds one immutable instance of every piece that can stand on the chess board: each piece type
+ * and alliance on each tile, both before and after its first move.
+ * Pieces carry no other state, so moves and boards share these instead of creating new ones.
+ */
+public final class PieceCache {
+    public static final int CACHE_SIZE = NUM_PIECE_INDEXES * NUM_TILES * 2;
+    private static final Piece[] PIECE_CACHE = CreateAllPieces();
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    private PieceCache() {}
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * @param pieceType     what kind of piece it is
+     * @param pieceAlliance White/Black
+     * @param piecePosition where the piece is
+     * @param isFirstMove   whether the piece has yet to move
+     * @return the shared instance of the piece
+     */
+    public static Piece GetPiece(final PieceType pieceType,
+                                 final Alliance pieceAlliance,
+                                 final int piecePosition,
+                                 final boolean isFirstMove) {
+        return PIECE_CACHE[CacheIndex(pieceType, pieceAlliance, piecePosition, isFirstMove)];
+    }
+
+    /**
+     * @param cacheIndex where the piece is in the cache (see CacheIndex)
+     * @return the shared instance of the piece
+     */
+    public static Piece GetPiece(final int cacheIndex) {
+        return PIECE_CACHE[cacheIndex];
+    }
+
+    /**
+     * @param piece any piece, shared or not
+     * @return where the piece's shared instance is in the cache
+     */
+    public static int CacheIndex(final Piece piece) {
+        return CacheIndex(piece.getPieceType(), piece.getPieceAlliance(), piece.getPiecePosition(),
+                          piece.isFirstMove());
+    }
+    //********************************************************
+    //********************Helper Methods**********************
+    //********************************************************
+    /**
+     * @param pieceType     what kind of piece it is
+     * @param pieceAlliance White/Black
+     * @param piecePosition where the piece is
+     * @param isFirstMove   whether the piece has yet to move
+     * @return where the piece is in the cache
+     */
+    private static int CacheIndex(final PieceType pieceType,
+                                  final Alliance pieceAlliance,
+                                  final int piecePosition,
+                                  final boolean isFirstMove) {
+        return ((PieceIndex(pieceType, pieceAlliance) * NUM_TILES + piecePosition) << 1) | (isFirstMove ? 1 : 0);
+    }
+
+    /**
+     * @return every piece, in cache index order
+     */
+    private static Piece[] CreateAllPieces() {
+        final Piece[] pieces = new Piece[CACHE_SIZE];
+        for (final Alliance alliance : Alliance.values()) {
+            for (final PieceType pieceType : PieceType.values()) {
+                for (int i = 0; i < NUM_TILES; i++) {
+                    for (final boolean isFirstMove : new boolean[] { false, true }) {
+                        pieces[CacheIndex(pieceType, alliance, i, isFirstMove)] =
+                                CreatePiece(pieceType, alliance, i, isFirstMove);
+                    }
+                }
+            }
+        }
+
+        return pieces;
+    }
+
+    /**
+     * @param pieceType     what kind of piece it is
+     * @param pieceAlliance White/Black
+     * @param piecePosition where the piece is
+     * @param isFirstMove   whether the piece has yet to move
+     * @return a new instance of the piece
+     */
+    private static Piece CreatePiece(final PieceType pieceType,
+                                     final Alliance pieceAlliance,
+                                     final int piecePosition,
+                                     final boolean isFirstMove) {
+        return switch (pieceType) {
+            case PAWN -> new Pawn(pieceAlliance, piecePosition, isFirstMove);
+            case ROOK -> new Rook(pieceAlliance, piecePosition, isFirstMove);
+            case KNIGHT -> new Knight(pieceAlliance, piecePosition, isFirstMove);
+            case BISHOP -> new Bishop(pieceAlliance, piecePosition, isFirstMove);
+            case QUEEN -> new Queen(pieceAlliance, piecePosition, isFirstMove);
+            case KING -> new King(pieceAlliance, piecePosition, isFirstMove);
+        };
+    }
+}
@@ -2,53 +2,47 @@ package com.chess.engine.players;
 
 import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
+import com.chess.engine.board.BoardUtils;
+import com.chess.engine.board.bitboard.KingSafety;
 import com.chess.engine.board.move.MoveStatus;
 import com.chess.engine.board.move.MoveTransition;
 import com.chess.engine.board.move.Move;
+import com.chess.engine.board.move.pawn.PawnEnPassantAttackMove;
 import com.chess.engine.pieces.King;
 import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterables;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
 public abstract class Player {
     protected final Board board;
     protected final King playerKing;
-    protected final Collection<Move> legalMoves;
+    private final Supplier<KingSafety> kingSafety;
+    private final Supplier<Collection<Move>> legalMoves;
     private final boolean inCheck;
     //********************************************************
     //**********************Constructor***********************
     //********************************************************
     /**
      * Constructor for a player.
-     * @param board             where the game takes place
-     * @param legalMoves   the first collection of legal moves
-     * @param opponentMoves  the second collection of legal moves
+     * The player's legal moves (and the checks and pins they are filtered by) are not calculated until they are
+     * first asked for, and then only once.
+     * @param board where the game takes place
      */
-    public Player(final Board board,
-                  final Collection<Move> legalMoves,
-                  final Collection<Move> opponentMoves) {
+    public Player(final Board board) {
         this.board = board;
         this.playerKing = establishKing();
-        this.legalMoves = ImmutableList.copyOf(Iterables.concat(legalMoves, calculateCastles(legalMoves,
-                                                                                             opponentMoves)));
-        this.inCheck = !CalculateAttacksOnTile(this.playerKing.getPiecePosition(), opponentMoves).isEmpty();
+        this.inCheck = this.board.isTileAttacked(this.playerKing.getPiecePosition(),
+                                                 getPlayerAlliance().getOpposingAlliance());
+        this.kingSafety = Suppliers.memoize(() -> new KingSafety(this.board.getBitBoard(), getPlayerAlliance(),
+                                                                 this.board.getAttackedTiles(
+                                                                         getPlayerAlliance().getOpposingAlliance())));
+        this.legalMoves = Suppliers.memoize(this::calculateLegalMoves);
     }
 
-    protected static Collection<Move> CalculateAttacksOnTile(final int piecePosition,
-                                                             final Collection<Move> moves) {
-        final List<Move> attackMoves = new ArrayList<>();
-        for (final Move move : moves) {
-            if (piecePosition == move.getTargetPosition()) {
-                attackMoves.add(move);
-            }
-        }
-
-        return ImmutableList.copyOf(attackMoves);
-    }
     //********************************************************
     //**********************Main Methods**********************
     //********************************************************
@@ -68,24 +62,59 @@ public abstract class Player {
     public abstract Player getOpponent();
 
     /**
-     * @param opponentLegalMoves the opponent's legal moves
      * @return a list of legal castles
      */
-    protected abstract Collection<Move> calculateCastles(final Collection<Move> playerLegalMoves,
-                                                         final Collection<Move> opponentLegalMoves);
+    protected abstract Collection<Move> calculateCastles();
 
     /**
      * Ensures that the player has one King for the game.
      * @return a King that the player should always have
      */
     private King establishKing() {
-        for (final Piece piece : getActivePieces()) {
-            if (piece.getPieceType().isKing()) {
-                return (King) piece;
+        final King king = this.board.getKing(getPlayerAlliance());
+        if (king == null) {
+            throw new RuntimeException("The player does not have a King!!!");
+        }
+
+        return king;
+    }
+
+    /**
+     * The pieces' moves are only pseudo-legal, so the ones that would leave the King attacked are filtered out
+     * here with the player's checks and pins.
+     * @return the player's standard moves plus any castles
+     */
+    private Collection<Move> calculateLegalMoves() {
+        final ImmutableList.Builder<Move> legalMoves = ImmutableList.builder();
+        for (final Move move : BoardUtils.CalculateLegalMoves(getActivePieces(), this.board)) {
+            if (isKingSafeAfter(move)) {
+                legalMoves.add(move);
             }
         }
 
-        throw new RuntimeException("The player does not have a King!!!");
+        // Castles already avoid every attacked tile the King passes through or lands on
+        return legalMoves.addAll(calculateCastles()).build();
+    }
+
+    /**
+     * @param move what the piece is trying to do
+     * @return whether the move is one of the player's pieces' own moves, whatever it does to the King
+     */
+    private boolean isPseudoLegal(final Move move) {
+        final Piece movedPiece = move.getMovedPiece();
+        return movedPiece != null && movedPiece.getPieceAlliance() == getPlayerAlliance() &&
+               movedPiece.calculateLegalMoves(this.board).contains(move);
+    }
+
+    /**
+     * @param move a pseudo-legal move of the player
+     * @return whether the move leaves the player's King unattacked
+     */
+    private boolean isKingSafeAfter(final Move move) {
+        return this.kingSafety.get().isLegal(move.getCurrentPosition(),
+                                             move.getTargetPosition(),
+                                             move.getMovedPiece().getPieceType() == PieceType.KING,
+                                             move instanceof PawnEnPassantAttackMove);
     }
 
     /**
@@ -93,7 +122,7 @@ public abstract class Player {
      * @return whether the move is legal
      */
     public boolean isMoveLegal(final Move move) {
-        return this.legalMoves.contains(move);
+        return getLegalMoves().contains(move);
     }
 
     /**
@@ -107,28 +136,14 @@ public abstract class Player {
      * @return whether the King is in a checkmate
      */
     public boolean isInCheckmate() {
-        return this.inCheck && !hasEscapeMoves();
+        return this.inCheck && getLegalMoves().isEmpty();
     }
 
     /**
      * @return whether the King is in a stalemate
      */
     public boolean isInStalemate() {
-        return !this.inCheck && !hasEscapeMoves();
-    }
-
-    /**
-     * @return whether the King can escape from being in check
-     */
-    protected boolean hasEscapeMoves() {
-        for (final Move move : this.legalMoves) {
-            final MoveTransition moveTransition = makeMove(move);
-            if (moveTransition.getMoveStatus().isDone()) {
-                return true;
-            }
-        }
-
-        return false;
+        return !this.inCheck && getLegalMoves().isEmpty();
     }
 
     // TODO: implement castle
@@ -144,22 +159,14 @@ public abstract class Player {
      * @return a transition based on a move
      */
     public MoveTransition makeMove(final Move move) {
-        // Illegal move
+        // Illegal move, told apart from one the piece can make but that exposes the King
         if (!isMoveLegal(move)) {
-            return new MoveTransition(this.board, move, MoveStatus.ILLEGAL_MOVE);
-        }
-        // Legal move
-        final Board transitionBoard = move.execute();
-        final Player currentPlayer = transitionBoard.getCurrentPlayer();
-        final King opponentKing = currentPlayer.getOpponent().getPlayerKing();
-        final Collection<Move> attacksOnKing = CalculateAttacksOnTile(opponentKing.getPiecePosition(),
-                                                                    currentPlayer.getLegalMoves());
-        // In check
-        if (!attacksOnKing.isEmpty()) {
-            return new MoveTransition(this.board, move, MoveStatus.IN_CHECK);
+            return new MoveTransition(this.board, move, isPseudoLegal(move) && !isKingSafeAfter(move) ?
+                                                        MoveStatus.IN_CHECK : MoveStatus.ILLEGAL_MOVE);
         }
 
-        return new MoveTransition(transitionBoard, move, MoveStatus.DONE);
+        // Legal moves never expose the King, so no board is built just to check it
+        return new MoveTransition(move.execute(), move, MoveStatus.DONE);
     }
 
     /**
@@ -173,7 +180,7 @@ public abstract class Player {
      * @return the player's legal moves
      */
     public Collection<Move> getLegalMoves() {
-        return this.legalMoves;
+        return this.legalMoves.get();
     }
 
     /**
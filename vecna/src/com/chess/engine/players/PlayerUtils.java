@@ -1,5 +1,6 @@
 package com.chess.engine.players;
 
+import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.move.Move;
 import com.chess.engine.board.move.castle.KingsideCastleMove;
@@ -13,26 +14,34 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import static com.chess.engine.board.BoardUtils.BLACK_KING_START;
+import static com.chess.engine.board.BoardUtils.WHITE_KING_START;
+
 /**
  * This class performs various tasks for the Player (sub)classes.
  */
 public class PlayerUtils {
-    public static Collection<Move> CalculatePlayerCastles(final Player player,
-                                                          final Collection<Move> playerLegalMoves,
-                                                          final Collection<Move> opponentLegalMoves) {
+    /**
+     * @param player the player who wants to castle
+     * @return a list of legal castles
+     */
+    public static Collection<Move> CalculatePlayerCastles(final Player player) {
         final List<Move> castles = new ArrayList<>();
         final Board board = player.getBoard();
         final King playerKing = player.getPlayerKing();
         final int playerKingPosition = playerKing.getPiecePosition();
-        // Determine whether the King can legally move on its first turn
-        if (playerKing.isFirstMove() && !player.isInCheck()) {
+        final Alliance opponentAlliance = player.getPlayerAlliance().getOpposingAlliance();
+        final int kingStart = player.getPlayerAlliance().isWhite() ? WHITE_KING_START : BLACK_KING_START;
+        // Determine whether the King can legally move on its first turn (from its starting tile)
+        if (playerKing.isFirstMove() && playerKingPosition == kingStart && !player.isInCheck()) {
             // Kingside castle
             if (KingsidePossible(board, playerKingPosition + 1, playerKingPosition + 2)) {
                 final Tile rookTile = board.getTile(playerKingPosition + 3);
-                if (IsRookFirstMove(rookTile)) {
-                    if (NoAttacksDuringKingsideCastle(playerKingPosition + 1,
-                                                              playerKingPosition + 2,
-                                                              opponentLegalMoves)) {
+                if (IsRookFirstMove(rookTile, player)) {
+                    if (NoAttacksDuringKingsideCastle(board,
+                                                      playerKingPosition + 1,
+                                                      playerKingPosition + 2,
+                                                      opponentAlliance)) {
                         // Kingside castling is possible
                         castles.add(new KingsideCastleMove(board,
                                                            playerKing,
@@ -48,11 +57,11 @@ public class PlayerUtils {
                                   playerKingPosition - 2,
                                   playerKingPosition - 3)) {
                 final Tile rookTile = board.getTile(player.getPlayerKing().getPiecePosition() - 4);
-                if (IsRookFirstMove(rookTile)) {
-                    if (NoAttacksDuringQueensideCastle(playerKingPosition - 1,
-                                                               playerKingPosition - 2,
-                                                               playerKingPosition - 3,
-                                                               opponentLegalMoves)) {
+                if (IsRookFirstMove(rookTile, player)) {
+                    if (NoAttacksDuringQueensideCastle(board,
+                                                       playerKingPosition - 1,
+                                                       playerKingPosition - 2,
+                                                       opponentAlliance)) {
                         // Queenside castling is possible
                         castles.add(new QueensideCastleMove(board,
                                                             playerKing,
@@ -76,8 +85,8 @@ public class PlayerUtils {
     private static boolean KingsidePossible(final Board board,
                                             final int firstPosition,
                                             final int secondPosition) {
-        return !board.getTile(firstPosition).isTileOccupied() &&
-               !board.getTile(secondPosition).isTileOccupied();
+        return !board.isTileOccupied(firstPosition) &&
+               !board.isTileOccupied(secondPosition);
     }
 
     /**
@@ -91,40 +100,43 @@ public class PlayerUtils {
                                              final int firstPosition,
                                              final int secondPosition,
                                              final int thirdPosition) {
-        return !board.getTile(firstPosition).isTileOccupied() &&
-               !board.getTile(secondPosition).isTileOccupied() &&
-               !board.getTile(thirdPosition).isTileOccupied();
+        return !board.isTileOccupied(firstPosition) &&
+               !board.isTileOccupied(secondPosition) &&
+               !board.isTileOccupied(thirdPosition);
     }
 
     /**
      * @param rookTile where the Rook should be
-     * @return whether the tile is occupied, the piece is a Rook, and it's the Rook's first move
+     * @param player   the player who wants to castle
+     * @return whether the tile is occupied, the piece is the player's Rook, and it's the Rook's first move
      */
-    private static boolean IsRookFirstMove(final Tile rookTile) {
+    private static boolean IsRookFirstMove(final Tile rookTile, final Player player) {
         return rookTile.isTileOccupied() &&
                rookTile.getPiece().getPieceType().isRook() &&
+               rookTile.getPiece().getPieceAlliance() == player.getPlayerAlliance() &&
                rookTile.getPiece().isFirstMove();
     }
 
     /**
-     * @return whether the opponent can attack when the player wants to castle kingside
+     * @return whether the opponent can attack the tiles the King passes over and lands on when castling kingside
      */
-    private static boolean NoAttacksDuringKingsideCastle(final int firstPosition,
+    private static boolean NoAttacksDuringKingsideCastle(final Board board,
+                                                         final int firstPosition,
                                                          final int secondPosition,
-                                                         final Collection<Move> opponentLegalMoves) {
-        return Player.CalculateAttacksOnTile(firstPosition, opponentLegalMoves).isEmpty() &&
-               Player.CalculateAttacksOnTile(secondPosition, opponentLegalMoves).isEmpty();
+                                                         final Alliance opponentAlliance) {
+        return !board.isTileAttacked(firstPosition, opponentAlliance) &&
+               !board.isTileAttacked(secondPosition, opponentAlliance);
     }
 
     /**
-     * @return whether the opponent can attack when the player wants to castle queenside
+     * Only the two tiles the King crosses matter; the third tile next to the Rook just has to be empty.
+     * @return whether the opponent can attack the tiles the King passes over and lands on when castling queenside
      */
-    private static boolean NoAttacksDuringQueensideCastle(final int firstPosition,
+    private static boolean NoAttacksDuringQueensideCastle(final Board board,
+                                                          final int firstPosition,
                                                           final int secondPosition,
-                                                          final int thirdPosition,
-                                                          final Collection<Move> opponentLegalMoves) {
-        return Player.CalculateAttacksOnTile(firstPosition, opponentLegalMoves).isEmpty() &&
-               Player.CalculateAttacksOnTile(secondPosition, opponentLegalMoves).isEmpty() &&
-               Player.CalculateAttacksOnTile(thirdPosition, opponentLegalMoves).isEmpty();
+                                                          final Alliance opponentAlliance) {
+        return !board.isTileAttacked(firstPosition, opponentAlliance) &&
+               !board.isTileAttacked(secondPosition, opponentAlliance);
     }
 }
@@ -16,15 +16,10 @@ public class WhitePlayer extends Player {
     //********************************************************
     /**
      * Constructor for White.
-     * @param board           where the game takes place
-     * @param whiteLegalMoves White's legal moves
-     * @param blackLegalMoves Black's legal moves
+     * @param board where the game takes place
      */
-    public WhitePlayer(final Board board,
-                       final Collection<Move> whiteLegalMoves,
-                       final Collection<Move> blackLegalMoves) {
-        // White's legal moves are the player's legal moves and Black's legal moves are the opponent's legal moves
-        super(board, whiteLegalMoves, blackLegalMoves);
+    public WhitePlayer(final Board board) {
+        super(board);
     }
     //********************************************************
     //**********************Main Methods**********************
@@ -54,14 +49,10 @@ public class WhitePlayer extends Player {
     }
 
     /**
-     * @param opponentLegalMoves the opponent's legal moves
      * @return a list of legal castles
      */
     @Override
-    protected Collection<Move> calculateCastles(final Collection<Move> playerLegalMoves,
-                                                final Collection<Move> opponentLegalMoves) {
-        return CalculatePlayerCastles(this,
-                                      playerLegalMoves,
-                                      opponentLegalMoves);
+    protected Collection<Move> calculateCastles() {
+        return CalculatePlayerCastles(this);
     }
 }
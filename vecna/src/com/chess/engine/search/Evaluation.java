@@ -0,0 +1,84 @@
+package com.chess.engine.search;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.bitboard.BitBoard;
+import com.chess.engine.board.evaluation.Accumulator;
+import com.chess.engine.board.evaluation.MaterialTable;
+import com.chess.engine.board.evaluation.PawnStructure;
+import com.chess.engine.board.position.Position;
+
+import static com.chess.engine.board.evaluation.PieceSquareTables.Taper;
+import static com.chess.engine.pieces.Piece.PieceType.PAWN;
+
+/**
+ * This class scores a position for the search.
+ * Scores are in centipawns from the point of view of the side to move.
+ * The material and piece-square score is kept up to date by every move (see PieceSquareTables), and the Pawn
+ * structure is looked up by the pawn key (see PawnTable), so scoring a position mostly blends its middlegame
+ * and endgame halves by the game phase.
+ * What the mix of pieces adds, and how much of a lead it can turn into a win, is looked up by the material key
+ * (see MaterialTable).
+ * A position with a network Accumulator is scored by the network instead, with the same material scaling.
+ */
+public final class Evaluation {
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    private Evaluation() {}
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * @param position  the position to score
+     * @param pawnTable where the search caches Pawn structures
+     * @return the score of the position for the side to move
+     */
+    public static int Evaluate(final Position position, final PawnTable pawnTable) {
+        final long materialKey = position.getMaterialKey();
+        final Accumulator accumulator = position.getAccumulator();
+        if (accumulator != null) {
+            final int networkScore = accumulator.evaluate(position.getSideToMove());
+            final int whiteScore = position.getSideToMove().isWhite() ? networkScore : -networkScore;
+            final int scaledScore = MaterialTable.Scale(materialKey, position.getBitBoard(), whiteScore);
+            return position.getSideToMove().isWhite() ? scaledScore : -scaledScore;
+        }
+        final int score = position.getPieceSquareScore() + MaterialTable.Imbalance(materialKey) +
+                          pawnTable.evaluate(position.getBitBoard(), position.getPawnKey());
+        final int whiteScore = MaterialTable.Scale(materialKey, position.getBitBoard(),
+                                                   Taper(score, position.getPhase()));
+        return position.getSideToMove().isWhite() ? whiteScore : -whiteScore;
+    }
+
+    /**
+     * Evaluates the Pawn structure from scratch, for a single board outside of a search.
+     * @param board the board to score
+     * @return the score of the board for the player to move
+     */
+    public static int Evaluate(final Board board) {
+        final long materialKey = board.getMaterialKey();
+        final int score = board.getPieceSquareScore() + MaterialTable.Imbalance(materialKey) +
+                          CalculatePawnScore(board.getBitBoard());
+        final int whiteScore = MaterialTable.Scale(materialKey, board.getBitBoard(), Taper(score, board.getPhase()));
+        return board.getCurrentPlayer().getPlayerAlliance().isWhite() ? whiteScore : -whiteScore;
+    }
+    //********************************************************
+    //********************Helper Methods**********************
+    //********************************************************
+    /**
+     * @param bitBoard the piece sets of the position
+     * @return the packed score of the Pawn structure, King shields, and passed Pawn King distances, from
+     *         White's side
+     */
+    private static int CalculatePawnScore(final BitBoard bitBoard) {
+        final long whitePawns = bitBoard.getPieceBoard(PAWN, Alliance.WHITE);
+        final long blackPawns = bitBoard.getPieceBoard(PAWN, Alliance.BLACK);
+        final long passedPawns = PawnStructure.CalculatePassedPawns(whitePawns, blackPawns);
+        final int whiteKingTile = bitBoard.getKingPosition(Alliance.WHITE);
+        final int blackKingTile = bitBoard.getKingPosition(Alliance.BLACK);
+        return PawnStructure.Evaluate(whitePawns, blackPawns, passedPawns) +
+               PawnStructure.EvaluateShields(whitePawns, blackPawns, whiteKingTile, blackKingTile) +
+               PawnStructure.EvaluatePassedPawnKings(whitePawns, blackPawns, passedPawns,
+                                                     whiteKingTile, blackKingTile);
+    }
+}
@@ -0,0 +1,165 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.position.MoveList;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import java.util.Arrays;
+
+import static com.chess.engine.board.BoardUtils.NUM_TILES;
+import static com.chess.engine.board.bitboard.BitBoardUtils.NUM_PIECE_INDEXES;
+import static com.chess.engine.board.bitboard.BitBoardUtils.NUM_PIECE_TYPES;
+import static com.chess.engine.board.position.EncodedMove.*;
+import static com.chess.engine.search.Search.MAX_PLY;
+
+/**
+ * This class remembers which moves were good earlier in a search, so later positions can try them first.
+ * Captures are ranked by what they take and with what (MVV-LVA), quiet moves by how often they caused a
+ * cutoff: the two latest cutoff moves of each ply (killers), the reply that refuted each previous move
+ * (countermoves), and a score per side, from-tile, and to-tile (history).
+ * Every Search thread keeps its own, so none of it is shared between threads.
+ */
+final class MoveOrdering {
+    static final int NUM_KILLERS = 2;
+    // History scores stay within +/- this, so that old cutoffs fade as new ones come in
+    private static final int MAX_HISTORY = 1 << 14;
+    private static final int[] PIECE_VALUES = CreatePieceValues();
+
+    private final int[][] killerMoves;
+    private final int[][] history;
+    private final int[][] counterMoves;
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    /**
+     * Constructor for an empty move ordering.
+     */
+    MoveOrdering() {
+        this.killerMoves = new int[MAX_PLY][NUM_KILLERS];
+        this.history = new int[2][NUM_TILES * NUM_TILES];
+        this.counterMoves = new int[NUM_PIECE_INDEXES][NUM_TILES];
+    }
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * Forgets the killers and countermoves of the last search and halves its history, which still says
+     * something about the new root position.
+     */
+    void newSearch() {
+        for (final int[] killers : this.killerMoves) {
+            Arrays.fill(killers, NO_MOVE);
+        }
+        for (final int[] counters : this.counterMoves) {
+            Arrays.fill(counters, NO_MOVE);
+        }
+        for (final int[] sideHistory : this.history) {
+            for (int i = 0; i < sideHistory.length; i++) {
+                sideHistory[i] /= 2;
+            }
+        }
+    }
+
+    /**
+     * Rewards a quiet move that caused a beta cutoff and punishes the quiet moves tried before it.
+     * @param move        the quiet move that caused the cutoff
+     * @param lastMove    the move that led to the position, or NO_MOVE
+     * @param ply         how many plies from the root the position is
+     * @param depth       how many plies were left to search
+     * @param triedQuiets the quiet moves searched before the cutoff move
+     */
+    void updateQuietCutoff(final int move,
+                           final int lastMove,
+                           final int ply,
+                           final int depth,
+                           final MoveList triedQuiets) {
+        final int shortMove = GetShortMove(move);
+        final int[] killers = this.killerMoves[ply];
+        if (killers[0] != shortMove) {
+            killers[1] = killers[0];
+            killers[0] = shortMove;
+        }
+        if (lastMove != NO_MOVE) {
+            this.counterMoves[GetMovedPiece(lastMove)][GetTargetPosition(lastMove)] = shortMove;
+        }
+        final int bonus = Math.min(depth * depth, MAX_HISTORY / 4);
+        updateHistory(move, bonus);
+        for (int i = 0; i < triedQuiets.size(); i++) {
+            updateHistory(triedQuiets.get(i), -bonus);
+        }
+    }
+
+    /**
+     * @param move a quiet move
+     * @return how well the move did in earlier cutoffs
+     */
+    int scoreQuiet(final int move) {
+        return this.history[GetMovedPiece(move) / NUM_PIECE_TYPES][HistoryIndex(move)];
+    }
+
+    /**
+     * @param ply   how many plies from the root the position is
+     * @param index which killer (0 is the most recent)
+     * @return the killer's short move, or NO_MOVE
+     */
+    int getKillerMove(final int ply, final int index) {
+        return this.killerMoves[ply][index];
+    }
+
+    /**
+     * @param lastMove the move that led to the position, or NO_MOVE
+     * @return the short move that last refuted it, or NO_MOVE
+     */
+    int getCounterMove(final int lastMove) {
+        return lastMove == NO_MOVE ? NO_MOVE :
+               this.counterMoves[GetMovedPiece(lastMove)][GetTargetPosition(lastMove)];
+    }
+
+    /**
+     * Most valuable victim, least valuable attacker: taking a Queen with a Pawn comes before taking it with a
+     * Rook, which comes before taking a Rook with anything. A promotion also counts the piece it turns into.
+     * @param move a capture or promotion
+     * @return how early the move should be tried
+     */
+    static int ScoreNoisy(final int move) {
+        final int capturedPiece = GetCapturedPiece(move);
+        int score = capturedPiece == NO_PIECE ? 0 : PIECE_VALUES[capturedPiece] * 10;
+        if (IsPromotion(move)) {
+            score += GetPromotionType(move).getPieceValue() * 10;
+        }
+
+        return score - PIECE_VALUES[GetMovedPiece(move)] / 100;
+    }
+    //********************************************************
+    //********************Helper Methods**********************
+    //********************************************************
+    /**
+     * Moves the history score towards MAX_HISTORY (or its negative) by less the closer it already is.
+     * @param move  a quiet move
+     * @param bonus how much to add (negative to punish)
+     */
+    private void updateHistory(final int move, final int bonus) {
+        final int[] sideHistory = this.history[GetMovedPiece(move) / NUM_PIECE_TYPES];
+        final int index = HistoryIndex(move);
+        sideHistory[index] += bonus - sideHistory[index] * Math.abs(bonus) / MAX_HISTORY;
+    }
+
+    /**
+     * @param move a packed move
+     * @return where the move's history score is for its side
+     */
+    private static int HistoryIndex(final int move) {
+        return GetCurrentPosition(move) * NUM_TILES + GetTargetPosition(move);
+    }
+
+    /**
+     * @return the value of every piece index (0-11)
+     */
+    private static int[] CreatePieceValues() {
+        final int[] pieceValues = new int[NUM_PIECE_INDEXES];
+        for (int i = 0; i < NUM_PIECE_INDEXES; i++) {
+            pieceValues[i] = PieceType.values()[i % NUM_PIECE_TYPES].getPieceValue();
+        }
+
+        return pieceValues;
+    }
+}
@@ -0,0 +1,247 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.bitboard.KingSafety;
+import com.chess.engine.board.position.MoveGenerator;
+import com.chess.engine.board.position.MoveList;
+import com.chess.engine.board.position.Position;
+import com.chess.engine.board.position.StaticExchange;
+
+import static com.chess.engine.board.position.EncodedMove.*;
+import static com.chess.engine.search.MoveOrdering.NUM_KILLERS;
+
+/**
+ * This class hands out a position's legal moves one at a time, best guess first, generating them in stages:
+ * the transposition table's move, then the captures and promotions by MVV-LVA, then the killers and
+ * countermove, then the remaining quiet moves by history, and last the captures that lose material once every
+ * recapture is played out (StaticExchange).
+ * A beta cutoff in an early stage means the later stages are never generated.
+ * For the quiescence search, only the captures and promotions that do not lose material are handed out.
+ * The search keeps one per ply and re-initializes it for every position, so picking moves allocates nothing.
+ */
+final class MovePicker {
+    // Stages, in the order moves are handed out
+    private static final int TABLE_MOVE = 0;
+    private static final int GENERATE_NOISY = 1;
+    private static final int GOOD_NOISY = 2;
+    private static final int KILLER_MOVES = 3;
+    private static final int COUNTER_MOVE = 4;
+    private static final int GENERATE_QUIETS = 5;
+    private static final int QUIETS = 6;
+    private static final int BAD_NOISY = 7;
+    private static final int DONE = 8;
+
+    private final MoveOrdering moveOrdering;
+    private final MoveList moves;
+    private final MoveList badNoisyMoves;
+    private final int[] scores;
+    private final int[] killerMoves;
+    private Position position;
+    private KingSafety kingSafety;
+    private int ply;
+    private int lastMove;
+    private int tableMove;
+    private int counterMove;
+    private int stage;
+    private int index;
+    private boolean isQuiescence;
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    /**
+     * Constructor for a move picker.
+     * @param moveOrdering the killers, countermoves, and history of the search
+     */
+    MovePicker(final MoveOrdering moveOrdering) {
+        this.moveOrdering = moveOrdering;
+        this.moves = new MoveList();
+        this.badNoisyMoves = new MoveList();
+        this.scores = new int[MoveList.MAX_MOVES];
+        this.killerMoves = new int[NUM_KILLERS];
+    }
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * Starts picking the moves of a position.
+     * @param position       where the moves are made
+     * @param tableShortMove the best move stored for the position (its short form), or NO_MOVE
+     * @param ply            how many plies from the root the position is
+     */
+    void init(final Position position, final int tableShortMove, final int ply) {
+        this.position = position;
+        this.kingSafety = position.calculateKingSafety();
+        this.ply = ply;
+        this.lastMove = position.getLastMove();
+        this.tableMove = MoveGenerator.FindLegalMove(position, this.kingSafety, tableShortMove);
+        this.counterMove = NO_MOVE;
+        this.stage = TABLE_MOVE;
+        this.index = 0;
+        this.isQuiescence = false;
+    }
+
+    /**
+     * Starts picking the captures and promotions of a position for the quiescence search, leaving out every
+     * one that loses material once the recaptures are played out (SEE pruning).
+     * @param position where the moves are made
+     */
+    void initQuiescence(final Position position) {
+        this.position = position;
+        this.kingSafety = position.calculateKingSafety();
+        this.tableMove = NO_MOVE;
+        this.stage = GENERATE_NOISY;
+        this.index = 0;
+        this.isQuiescence = true;
+    }
+
+    /**
+     * Each stage that runs out of moves sets up the next one and falls through to it.
+     * @return the next legal move to try, or NO_MOVE when every move has been handed out
+     */
+    @SuppressWarnings("fallthrough")
+    int next() {
+        switch (this.stage) {
+            case TABLE_MOVE:
+                this.stage = GENERATE_NOISY;
+                if (this.tableMove != NO_MOVE) {
+                    return this.tableMove;
+                }
+            // Falls through to the next stage
+            case GENERATE_NOISY:
+                MoveGenerator.GenerateNoisyMoves(this.position, this.kingSafety, this.moves);
+                for (int i = 0; i < this.moves.size(); i++) {
+                    this.scores[i] = MoveOrdering.ScoreNoisy(this.moves.get(i));
+                }
+                this.badNoisyMoves.clear();
+                this.index = 0;
+                this.stage = GOOD_NOISY;
+            // Falls through to the next stage
+            case GOOD_NOISY:
+                while (this.index < this.moves.size()) {
+                    final int move = pickBest();
+                    if (move == this.tableMove) {
+                        continue;
+                    }
+                    if (!StaticExchange.IsAtLeast(this.position.getBitBoard(), move, 0)) {
+                        if (!this.isQuiescence) {
+                            this.badNoisyMoves.add(move);
+                        }
+                        continue;
+                    }
+                    return move;
+                }
+                if (this.isQuiescence) {
+                    this.stage = DONE;
+                    return NO_MOVE;
+                }
+                this.index = 0;
+                this.stage = KILLER_MOVES;
+            // Falls through to the next stage
+            case KILLER_MOVES:
+                while (this.index < NUM_KILLERS) {
+                    final int killerMove = findQuietMove(this.moveOrdering.getKillerMove(this.ply, this.index));
+                    this.killerMoves[this.index++] = killerMove;
+                    if (killerMove != NO_MOVE && killerMove != this.tableMove && isNewKiller(killerMove)) {
+                        return killerMove;
+                    }
+                }
+                this.stage = COUNTER_MOVE;
+            // Falls through to the next stage
+            case COUNTER_MOVE:
+                this.stage = GENERATE_QUIETS;
+                this.counterMove = findQuietMove(this.moveOrdering.getCounterMove(this.lastMove));
+                if (this.counterMove != NO_MOVE && !isPickedEarly(this.counterMove, false)) {
+                    return this.counterMove;
+                }
+                this.counterMove = NO_MOVE;
+            // Falls through to the next stage
+            case GENERATE_QUIETS:
+                MoveGenerator.GenerateQuietMoves(this.position, this.kingSafety, this.moves);
+                for (int i = 0; i < this.moves.size(); i++) {
+                    this.scores[i] = this.moveOrdering.scoreQuiet(this.moves.get(i));
+                }
+                this.index = 0;
+                this.stage = QUIETS;
+            // Falls through to the next stage
+            case QUIETS:
+                while (this.index < this.moves.size()) {
+                    final int move = pickBest();
+                    if (!isPickedEarly(move, true)) {
+                        return move;
+                    }
+                }
+                this.index = 0;
+                this.stage = BAD_NOISY;
+            // Falls through to the next stage
+            case BAD_NOISY:
+                if (this.index < this.badNoisyMoves.size()) {
+                    return this.badNoisyMoves.get(this.index++);
+                }
+                this.stage = DONE;
+            // Falls through to the next stage
+            default:
+                return NO_MOVE;
+        }
+    }
+    //********************************************************
+    //********************Helper Methods**********************
+    //********************************************************
+    /**
+     * Selection sort one step at a time, since a cutoff usually comes long before the list is sorted.
+     * @return the best scored move not yet handed out of the current list
+     */
+    private int pickBest() {
+        int bestIndex = this.index;
+        for (int i = this.index + 1; i < this.moves.size(); i++) {
+            if (this.scores[i] > this.scores[bestIndex]) {
+                bestIndex = i;
+            }
+        }
+        final int move = this.moves.get(bestIndex);
+        this.moves.swap(this.index, bestIndex);
+        this.scores[bestIndex] = this.scores[this.index];
+        this.index++;
+
+        return move;
+    }
+
+    /**
+     * @param shortMove a killer or countermove remembered from another position
+     * @return the full packed move if it is a legal quiet move in the position, or NO_MOVE
+     */
+    private int findQuietMove(final int shortMove) {
+        final int move = MoveGenerator.FindLegalMove(this.position, this.kingSafety, shortMove);
+        return move == NO_MOVE || IsCapture(move) || IsPromotion(move) ? NO_MOVE : move;
+    }
+
+    /**
+     * @param killerMove the killer just found legal
+     * @return whether an earlier killer of the ply is a different move
+     */
+    private boolean isNewKiller(final int killerMove) {
+        for (int i = 0; i < this.index - 1; i++) {
+            if (this.killerMoves[i] == killerMove) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @param move             a quiet move
+     * @param checkCounterMove whether the countermove was already handed out as well
+     * @return whether the move was already handed out as the table move, a killer, or the countermove
+     */
+    private boolean isPickedEarly(final int move, final boolean checkCounterMove) {
+        if (move == this.tableMove || (checkCounterMove && move == this.counterMove)) {
+            return true;
+        }
+        for (final int killerMove : this.killerMoves) {
+            if (move == killerMove) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
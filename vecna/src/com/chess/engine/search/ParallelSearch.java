@@ -0,0 +1,152 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.Board;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This class runs a Lazy SMP search: every thread searches the same root position with its own Search and
+ * Position, and they only cooperate through the shared transposition table.
+ * Helper threads skip some iterations so that they work at staggered depths and fill the table with results
+ * the main thread can use. The main thread's result is returned once it is done, and the helpers are stopped.
+ */
+public final class ParallelSearch {
+    private final TranspositionTable transpositionTable;
+    private final Search[] searches;
+    private final ExecutorService helperPool;
+    private final long[] threadNodes;
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    /**
+     * Constructor for a parallel search with every selective search feature on.
+     * @param transpositionTable where searched positions are cached (shared by every thread)
+     * @param threadCount        how many threads search, including the calling thread
+     */
+    public ParallelSearch(final TranspositionTable transpositionTable, final int threadCount) {
+        this(transpositionTable, threadCount, SearchOptions.CreateDefaultOptions());
+    }
+
+    /**
+     * Constructor for a parallel search.
+     * @param transpositionTable where searched positions are cached (shared by every thread)
+     * @param threadCount        how many threads search, including the calling thread
+     * @param options            which selective search features every thread uses, and how
+     */
+    public ParallelSearch(final TranspositionTable transpositionTable,
+                          final int threadCount,
+                          final SearchOptions options) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("A search needs at least one thread, got " + threadCount);
+        }
+        this.transpositionTable = transpositionTable;
+        this.searches = new Search[threadCount];
+        for (int i = 0; i < threadCount; i++) {
+            this.searches[i] = new Search(transpositionTable, i, options);
+        }
+        this.helperPool = threadCount == 1 ? null : Executors.newFixedThreadPool(threadCount - 1, runnable -> {
+            final Thread thread = new Thread(runnable, "search-helper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.threadNodes = new long[threadCount];
+    }
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * Searches the board on every thread until the main thread reaches a limit.
+     * The node limit is split evenly between the threads.
+     * @param board  the board to choose a move for
+     * @param limits when the search has to stop
+     * @return the main thread's best move and principal variation, with the node count of every thread
+     */
+    public SearchResult search(final Board board, final SearchLimits limits) {
+        final long startTime = System.nanoTime();
+        final int threadCount = this.searches.length;
+        final SearchLimits threadLimits = new SearchLimits.Builder()
+                .setDepth(limits.getDepth())
+                .setNodes(limits.getNodes() == Long.MAX_VALUE ? Long.MAX_VALUE : limits.getNodes() / threadCount)
+                .setTimeMillis(limits.getTimeMillis())
+                .build();
+        this.transpositionTable.newSearch();
+        for (final Search search : this.searches) {
+            search.clearStop();
+        }
+        // Start the helpers, then search on the calling thread
+        final List<Future<SearchResult>> helperResults = new ArrayList<>();
+        for (int i = 1; i < threadCount; i++) {
+            final Search helper = this.searches[i];
+            helperResults.add(this.helperPool.submit(() -> helper.iterate(board, threadLimits)));
+        }
+        final SearchResult mainResult = this.searches[0].iterate(board, threadLimits);
+        for (int i = 1; i < threadCount; i++) {
+            this.searches[i].stop();
+        }
+        for (final Future<SearchResult> helperResult : helperResults) {
+            waitFor(helperResult);
+        }
+        // Every thread is done, so its node counter can be read
+        long totalNodes = 0;
+        for (int i = 0; i < threadCount; i++) {
+            this.threadNodes[i] = this.searches[i].getNodes();
+            totalNodes += this.threadNodes[i];
+        }
+        final long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        return new SearchResult(mainResult.getPrincipalVariation(), mainResult.getScore(), mainResult.getDepth(),
+                                totalNodes, elapsedMillis);
+    }
+
+    /**
+     * Asks every thread of a running search to stop as soon as possible.
+     */
+    public void stop() {
+        for (final Search search : this.searches) {
+            search.stop();
+        }
+    }
+
+    /**
+     * Stops the helper threads for good; the search cannot be used afterwards.
+     */
+    public void shutdown() {
+        if (this.helperPool != null) {
+            this.helperPool.shutdownNow();
+        }
+    }
+
+    /**
+     * @return how many threads search, including the calling thread
+     */
+    public int getThreadCount() {
+        return this.searches.length;
+    }
+
+    /**
+     * @return how many nodes each thread visited in the last search (the main thread first)
+     */
+    public long[] getThreadNodes() {
+        return this.threadNodes.clone();
+    }
+    //********************************************************
+    //********************Helper Methods**********************
+    //********************************************************
+    /**
+     * @param helperResult the result of a helper thread's search
+     */
+    private static void waitFor(final Future<SearchResult> helperResult) {
+        try {
+            helperResult.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException e) {
+            throw new IllegalStateException("A search helper thread failed", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.chess.engine.search;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.bitboard.BitBoard;
+import com.chess.engine.board.evaluation.PawnStructure;
+
+import java.util.Arrays;
+
+import static com.chess.engine.pieces.Piece.PieceType.PAWN;
+
+/**
+ * This class caches the Pawn structure of positions by their pawn key (see PawnStructure).
+ * Pawns move far less often than pieces, so nearly every probe finds the structure of an earlier position.
+ * Each entry keeps the structure score, the passed Pawns, and the King score (shields and passed Pawn
+ * distances) for the King tiles it was last asked about, since the Kings only rarely move between probes of one
+ * Pawn structure either.
+ * Every Search thread keeps its own, so entries are plain arrays without any locking; a new entry simply
+ * overwrites the old one at its index.
+ */
+public final class PawnTable {
+    public static final int DEFAULT_ENTRIES = 1 << 14;
+    private static final int NO_KING_TILES = -1;
+
+    private final long[] pawnKeys;
+    private final int[] scores;
+    private final long[] passedPawns;
+    private final int[] kingTiles;
+    private final int[] kingScores;
+    private final int indexMask;
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    /**
+     * Constructor for a pawn table with the default number of entries.
+     */
+    public PawnTable() {
+        this(DEFAULT_ENTRIES);
+    }
+
+    /**
+     * Constructor for a pawn table.
+     * @param entries how many Pawn structures the table holds (rounded down to a power of two)
+     */
+    public PawnTable(final int entries) {
+        if (entries < 1) {
+            throw new IllegalArgumentException("Pawn table needs at least 1 entry, got " + entries);
+        }
+        final int size = Integer.highestOneBit(entries);
+        this.pawnKeys = new long[size];
+        this.scores = new int[size];
+        this.passedPawns = new long[size];
+        this.kingTiles = new int[size];
+        this.kingScores = new int[size];
+        this.indexMask = size - 1;
+        // A zeroed entry already holds the (empty) structure of the key 0, but not its King score
+        Arrays.fill(this.kingTiles, NO_KING_TILES);
+    }
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * @param bitBoard the piece sets of the position
+     * @param pawnKey  the position's pawn key
+     * @return the packed score of the position's Pawn structure, King shields, and passed Pawn King distances,
+     *         from White's side
+     */
+    public int evaluate(final BitBoard bitBoard, final long pawnKey) {
+        final int index = findEntry(bitBoard, pawnKey);
+        final int whiteKingTile = bitBoard.getKingPosition(Alliance.WHITE);
+        final int blackKingTile = bitBoard.getKingPosition(Alliance.BLACK);
+        final int kingTiles = whiteKingTile << 8 | blackKingTile;
+        if (this.kingTiles[index] != kingTiles) {
+            final long whitePawns = bitBoard.getPieceBoard(PAWN, Alliance.WHITE);
+            final long blackPawns = bitBoard.getPieceBoard(PAWN, Alliance.BLACK);
+            this.kingTiles[index] = kingTiles;
+            this.kingScores[index] = PawnStructure.EvaluateShields(whitePawns, blackPawns,
+                                                                   whiteKingTile, blackKingTile) +
+                                     PawnStructure.EvaluatePassedPawnKings(whitePawns, blackPawns,
+                                                                           this.passedPawns[index],
+                                                                           whiteKingTile, blackKingTile);
+        }
+
+        return this.scores[index] + this.kingScores[index];
+    }
+    //********************************************************
+    //********************Helper Methods**********************
+    //********************************************************
+    /**
+     * Evaluates the Pawn structure into its entry if the entry holds another one.
+     * @param bitBoard the piece sets of the position
+     * @param pawnKey  the position's pawn key
+     * @return the index of the entry holding the position's Pawn structure
+     */
+    private int findEntry(final BitBoard bitBoard, final long pawnKey) {
+        final int index = (int) pawnKey & this.indexMask;
+        if (this.pawnKeys[index] == pawnKey) {
+            return index;
+        }
+        final long whitePawns = bitBoard.getPieceBoard(PAWN, Alliance.WHITE);
+        final long blackPawns = bitBoard.getPieceBoard(PAWN, Alliance.BLACK);
+        final long passedPawns = PawnStructure.CalculatePassedPawns(whitePawns, blackPawns);
+        this.pawnKeys[index] = pawnKey;
+        this.scores[index] = PawnStructure.Evaluate(whitePawns, blackPawns, passedPawns);
+        this.passedPawns[index] = passedPawns;
+        this.kingTiles[index] = NO_KING_TILES;
+
+        return index;
+    }
+}
@@ -0,0 +1,580 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.evaluation.Accumulator;
+import com.chess.engine.board.evaluation.MaterialTable;
+import com.chess.engine.board.move.Move;
+import com.chess.engine.board.position.EncodedMove;
+import com.chess.engine.board.position.MoveList;
+import com.chess.engine.board.position.Position;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.chess.engine.board.bitboard.BitBoardUtils.NUM_PIECE_TYPES;
+import static com.chess.engine.board.position.EncodedMove.*;
+import static com.chess.engine.pieces.Piece.PieceType.PAWN;
+import static com.chess.engine.search.TranspositionTable.*;
+
+/**
+ * This class chooses a move for a board with a negamax alpha-beta search and iterative deepening.
+ * The search runs on a mutable Position made from the board, so it never builds boards of its own; only the
+ * best move and principal variation are turned back into the board's Move objects at the end.
+ * Past the last ply, a quiescence search plays out the captures and promotions, so that the position is
+ * never scored in the middle of an exchange.
+ * Each iteration's results go into the transposition table, which orders the moves of the next one, along with
+ * the killers, countermoves, and history the search collects as it goes (MoveOrdering).
+ */
+public final class Search {
+    public static final int INFINITY = 32000;
+    public static final int MATE_SCORE = 31000;
+    public static final int MAX_PLY = 128;
+    // How often (in nodes) the clock is read
+    private static final int TIME_CHECK_MASK = 2047;
+    // Mate scores closer to MATE_SCORE than this count plies to the mate
+    private static final int MATE_BOUND = MATE_SCORE - MAX_PLY;
+    // Returned by pruneNode when the node has to be searched
+    private static final int NOT_PRUNED = Integer.MIN_VALUE;
+    // A quiet move is reduced one ply less for every this much history score (and one more for as much below 0)
+    private static final int HISTORY_PER_REDUCTION = 4096;
+    // A capture is skipped in quiescence if winning its piece and this much more still cannot reach alpha
+    private static final int DELTA_MARGIN = 200;
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+    // Lazy SMP helpers skip iterations so that they spread over different depths
+    private static final int[] SKIP_SIZE = { 1, 1, 2, 2, 2, 2, 3, 3, 3, 3, 3, 3, 4, 4, 4, 4, 4, 4, 4, 4 };
+    private static final int[] SKIP_PHASE = { 0, 1, 0, 1, 2, 3, 0, 1, 2, 3, 4, 5, 0, 1, 2, 3, 4, 5, 6, 7 };
+
+    private final TranspositionTable transpositionTable;
+    private final int threadIndex;
+    private final SearchOptions options;
+    private final int[][] reductions;
+    private final MoveOrdering moveOrdering;
+    private final PawnTable pawnTable;
+    private final MovePicker[] movePickers;
+    private final MoveList[] triedQuietMoves;
+    private final int[][] principalVariation;
+    private final int[] principalVariationLength;
+    private Position position;
+    private long nodes;
+    private long nodeLimit;
+    private long deadline;
+    private int nullMoveMinPly;
+    // The score of the root's principal variation, kept even when an iteration is stopped partway
+    private int rootScore;
+    private volatile boolean stopped;
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    /**
+     * Constructor for a single-threaded search with every selective search feature on.
+     * @param transpositionTable where searched positions are cached (kept between searches)
+     */
+    public Search(final TranspositionTable transpositionTable) {
+        this(transpositionTable, SearchOptions.CreateDefaultOptions());
+    }
+
+    /**
+     * Constructor for a single-threaded search.
+     * @param transpositionTable where searched positions are cached (kept between searches)
+     * @param options            which selective search features are used, and how
+     */
+    public Search(final TranspositionTable transpositionTable, final SearchOptions options) {
+        this(transpositionTable, 0, options);
+    }
+
+    /**
+     * Constructor for one thread of a parallel search.
+     * @param transpositionTable where searched positions are cached (shared by every thread)
+     * @param threadIndex        0 for the main thread, which searches every depth; helpers skip some
+     * @param options            which selective search features are used, and how
+     */
+    Search(final TranspositionTable transpositionTable, final int threadIndex, final SearchOptions options) {
+        this.transpositionTable = transpositionTable;
+        this.threadIndex = threadIndex;
+        this.options = options;
+        this.reductions = CreateReductionTable(options.getReductionDivisor());
+        this.moveOrdering = new MoveOrdering();
+        this.pawnTable = new PawnTable();
+        this.movePickers = new MovePicker[MAX_PLY];
+        this.triedQuietMoves = new MoveList[MAX_PLY];
+        for (int i = 0; i < MAX_PLY; i++) {
+            this.movePickers[i] = new MovePicker(this.moveOrdering);
+            this.triedQuietMoves[i] = new MoveList();
+        }
+        this.principalVariation = new int[MAX_PLY][MAX_PLY];
+        this.principalVariationLength = new int[MAX_PLY];
+    }
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * Searches one iteration deeper at a time until a limit is reached.
+     * @param board  the board to choose a move for
+     * @param limits when the search has to stop
+     * @return the best move and principal variation of the deepest finished iteration
+     */
+    public SearchResult search(final Board board, final SearchLimits limits) {
+        this.stopped = false;
+        this.transpositionTable.newSearch();
+
+        return iterate(board, limits);
+    }
+
+    /**
+     * Asks a running search to stop as soon as possible.
+     */
+    public void stop() {
+        this.stopped = true;
+    }
+
+    /**
+     * Clears an earlier stop request before the search is started again.
+     */
+    void clearStop() {
+        this.stopped = false;
+    }
+
+    /**
+     * @return how many nodes the current (or last) search has visited
+     */
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    /**
+     * The iterative deepening loop without aging the transposition table or clearing a stop request, so
+     * threads sharing a table can each run it.
+     * @param board  the board to choose a move for
+     * @param limits when the search has to stop
+     * @return the best move and principal variation of the deepest finished iteration
+     */
+    SearchResult iterate(final Board board, final SearchLimits limits) {
+        final long startTime = System.nanoTime();
+        this.position = new Position(board);
+        if (this.options.getNetwork() != null) {
+            this.position.setAccumulator(new Accumulator(this.options.getNetwork()));
+        }
+        this.nodes = 0;
+        this.nullMoveMinPly = 0;
+        this.moveOrdering.newSearch();
+        this.nodeLimit = limits.getNodes();
+        this.deadline = limits.getTimeMillis() >= Long.MAX_VALUE / 1_000_000 ? Long.MAX_VALUE :
+                        startTime + limits.getTimeMillis() * 1_000_000;
+
+        int[] bestLine = new int[0];
+        int bestScore = 0;
+        int completedDepth = 0;
+        for (int depth = 1; depth <= limits.getDepth(); depth++) {
+            if (isSkippedDepth(depth)) {
+                continue;
+            }
+            final int score = negamax(depth, -INFINITY, INFINITY, 0);
+            // An unfinished iteration is only used if none has finished yet
+            if (this.stopped && completedDepth > 0) {
+                break;
+            }
+            if (this.principalVariationLength[0] > 0) {
+                bestLine = Arrays.copyOf(this.principalVariation[0], this.principalVariationLength[0]);
+                // A stopped root returns 0, so only the moves it finished searching have a score
+                bestScore = this.stopped ? this.rootScore : score;
+            }
+            if (this.stopped) {
+                break;
+            }
+            completedDepth = depth;
+            // A forced mate found within the depth will not change
+            if (Math.abs(score) >= MATE_BOUND && MATE_SCORE - Math.abs(score) <= depth) {
+                break;
+            }
+        }
+        // Stopped before the first move was searched: any legal move beats none
+        if (bestLine.length == 0) {
+            final MoveList rootMoves = new MoveList();
+            bestLine = this.position.generateLegalMoves(rootMoves) == 0 ? new int[0] : new int[] { rootMoves.get(0) };
+        }
+        final long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+        return new SearchResult(CreateBoardMoves(board, bestLine), bestScore, completedDepth,
+                                this.nodes, elapsedMillis);
+    }
+    //********************************************************
+    //*********************Alpha-Beta*************************
+    //********************************************************
+    /**
+     * Scores the position by searching its moves, skipping any move that cannot change the result.
+     * @param depth how many plies are left to search
+     * @param alpha the score the side to move is already guaranteed
+     * @param beta  the score the opponent is already guaranteed (the side to move cannot get more)
+     * @param ply   how many plies from the root the position is
+     * @return the score of the position for the side to move
+     */
+    private int negamax(final int depth, int alpha, final int beta, final int ply) {
+        if (depth <= 0) {
+            return quiescence(alpha, beta, ply);
+        }
+        this.principalVariationLength[ply] = 0;
+        if (countNode()) {
+            return 0;
+        }
+        final Position position = this.position;
+        if (ply > 0 && (position.getHalfmoveClock() >= 100 || position.isRepetition() ||
+                        MaterialTable.IsDrawn(position.getMaterialKey()))) {
+            return 0;
+        }
+        if (ply >= MAX_PLY - 1) {
+            return Evaluation.Evaluate(position, this.pawnTable);
+        }
+        // A deep enough cached result may already answer the question
+        final long zobristKey = position.getZobristKey();
+        final long entry = this.transpositionTable.probe(zobristKey);
+        int tableMove = NO_MOVE;
+        if (entry != NO_ENTRY) {
+            tableMove = GetMove(entry);
+            if (ply > 0 && GetDepth(entry) >= depth) {
+                final int tableScore = ScoreFromTable(GetScore(entry), ply);
+                final int bound = GetBound(entry);
+                if (bound == EXACT ||
+                    (bound == LOWER_BOUND && tableScore >= beta) ||
+                    (bound == UPPER_BOUND && tableScore <= alpha)) {
+                    return tableScore;
+                }
+            }
+        }
+        final boolean isPrincipalVariation = beta - alpha > 1;
+        final boolean isInCheck = position.isInCheck();
+        final int staticEvaluation = isInCheck ? -INFINITY : Evaluation.Evaluate(position, this.pawnTable);
+        if (!isPrincipalVariation && !isInCheck) {
+            final int prunedScore = pruneNode(depth, alpha, beta, ply, staticEvaluation);
+            if (prunedScore != NOT_PRUNED) {
+                return prunedScore;
+            }
+        }
+        // Near the leaves, quiet moves cannot make up for an evaluation this far below alpha
+        final SearchOptions options = this.options;
+        final boolean isFutile = options.isFutilityPruning() && !isPrincipalVariation && !isInCheck &&
+                                 depth <= options.getFutilityMaxDepth() && Math.abs(alpha) < MATE_BOUND &&
+                                 staticEvaluation + options.getFutilityMargin() * depth <= alpha;
+        final MovePicker movePicker = this.movePickers[ply];
+        movePicker.init(position, tableMove, ply);
+        final MoveList triedQuiets = this.triedQuietMoves[ply];
+        triedQuiets.clear();
+
+        int bestScore = -INFINITY;
+        int bestMove = NO_MOVE;
+        int moveCount = 0;
+        int move;
+        while ((move = movePicker.next()) != NO_MOVE) {
+            moveCount++;
+            final boolean isQuiet = !IsCapture(move) && !IsPromotion(move);
+            position.doMove(move);
+            final boolean givesCheck = position.isInCheck();
+            if (isFutile && isQuiet && !givesCheck && moveCount > 1) {
+                position.undoMove();
+                continue;
+            }
+            final int newDepth = depth - 1 + (options.isCheckExtensions() && givesCheck ? 1 : 0);
+            int score;
+            if (moveCount == 1) {
+                score = -negamax(newDepth, -beta, -alpha, ply + 1);
+            } else {
+                // Later moves only have to be shown no better than alpha, at first by a shallower search
+                final int reduction = isQuiet && !isInCheck && !givesCheck ?
+                                      calculateReduction(move, depth, moveCount, isPrincipalVariation) : 0;
+                score = -negamax(newDepth - reduction, -alpha - 1, -alpha, ply + 1);
+                if (score > alpha && reduction > 0) {
+                    score = -negamax(newDepth, -alpha - 1, -alpha, ply + 1);
+                }
+                if (score > alpha && score < beta) {
+                    score = -negamax(newDepth, -beta, -alpha, ply + 1);
+                }
+            }
+            position.undoMove();
+            if (this.stopped) {
+                return 0;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                if (score > alpha) {
+                    alpha = score;
+                    bestMove = move;
+                    updatePrincipalVariation(ply, bestMove);
+                    if (ply == 0) {
+                        this.rootScore = score;
+                    }
+                    if (alpha >= beta) {
+                        if (isQuiet) {
+                            this.moveOrdering.updateQuietCutoff(move, position.getLastMove(), ply, depth, triedQuiets);
+                        }
+                        break;
+                    }
+                }
+            }
+            if (isQuiet) {
+                triedQuiets.add(move);
+            }
+        }
+        if (moveCount == 0) {
+            return isInCheck ? -MATE_SCORE + ply : 0;
+        }
+        final int bound = bestScore >= beta ? LOWER_BOUND : bestMove != NO_MOVE ? EXACT : UPPER_BOUND;
+        this.transpositionTable.store(zobristKey, bestMove, ScoreToTable(bestScore, ply), depth, bound);
+
+        return bestScore;
+    }
+
+    /**
+     * Tries to cut off a node that is not on the principal variation before any of its moves are searched:
+     * razoring drops a position far below alpha into the quiescence search, and null-move pruning passes the
+     * turn and cuts off if the opponent still cannot get below beta with a shallower search.
+     * @param depth            how many plies are left to search
+     * @param alpha            the score the side to move is already guaranteed
+     * @param beta             the score the opponent is already guaranteed
+     * @param ply              how many plies from the root the position is
+     * @param staticEvaluation the evaluation of the position (the side to move is not in check)
+     * @return the score the node is cut off with, or NOT_PRUNED
+     */
+    private int pruneNode(final int depth, final int alpha, final int beta, final int ply, final int staticEvaluation) {
+        final SearchOptions options = this.options;
+        final Position position = this.position;
+        if (options.isRazoring() && depth <= options.getRazoringMaxDepth() &&
+            staticEvaluation + options.getRazoringMargin() * depth <= alpha) {
+            final int score = quiescence(alpha, beta, ply);
+            if (score <= alpha) {
+                return score;
+            }
+        }
+        // Zugzwang guards: never two passes in a row, never with only Pawns, and verify the cutoff when deep
+        if (options.isNullMovePruning() && depth >= options.getNullMoveMinDepth() && ply >= this.nullMoveMinPly &&
+            staticEvaluation >= beta && Math.abs(beta) < MATE_BOUND && position.getLastMove() != NO_MOVE &&
+            position.hasNonPawnMaterial()) {
+            final int reduction = options.getNullMoveReduction() + depth / 6;
+            position.doNullMove();
+            final int score = -negamax(depth - 1 - reduction, -beta, -beta + 1, ply + 1);
+            position.undoNullMove();
+            if (this.stopped) {
+                return 0;
+            }
+            if (score >= beta) {
+                if (depth < options.getNullMoveVerificationDepth()) {
+                    return score >= MATE_BOUND ? beta : score;
+                }
+                // Search the same position without passing for the next few plies
+                final int nullMoveMinPly = this.nullMoveMinPly;
+                this.nullMoveMinPly = ply + 3 * (depth - reduction) / 4;
+                final int verifiedScore = negamax(depth - reduction, beta - 1, beta, ply);
+                this.nullMoveMinPly = nullMoveMinPly;
+                if (verifiedScore >= beta) {
+                    return verifiedScore >= MATE_BOUND ? beta : verifiedScore;
+                }
+            }
+        }
+
+        return NOT_PRUNED;
+    }
+
+    /**
+     * Late moves are reduced by ln(depth) * ln(move number), less for quiet moves that caused cutoffs before and
+     * on the principal variation, more for those that did not.
+     * @param move                 a quiet move that does not give check
+     * @param depth                how many plies are left to search
+     * @param moveCount            how many moves have been tried, including this one
+     * @param isPrincipalVariation whether the node is on the principal variation
+     * @return how many plies shallower the move is first searched
+     */
+    private int calculateReduction(final int move,
+                                   final int depth,
+                                   final int moveCount,
+                                   final boolean isPrincipalVariation) {
+        final SearchOptions options = this.options;
+        if (!options.isLateMoveReductions() || depth < options.getReductionMinDepth() ||
+            moveCount <= options.getReductionMinMoves()) {
+            return 0;
+        }
+        int reduction = this.reductions[Math.min(depth, MAX_PLY - 1)][Math.min(moveCount, MoveList.MAX_MOVES - 1)];
+        reduction -= this.moveOrdering.scoreQuiet(move) / HISTORY_PER_REDUCTION;
+        if (isPrincipalVariation) {
+            reduction--;
+        }
+
+        return Math.max(0, Math.min(reduction, depth - 2));
+    }
+
+    /**
+     * Searches only captures and promotions until the position is quiet.
+     * The side to move may always stop capturing (stand pat) and take the static evaluation instead, unless it
+     * is in check, where every evasion is searched. Captures that cannot reach alpha even with a margin to spare
+     * (delta pruning) or that lose material once recaptured (SEE pruning) are not searched.
+     * @param alpha the score the side to move is already guaranteed
+     * @param beta  the score the opponent is already guaranteed (the side to move cannot get more)
+     * @param ply   how many plies from the root the position is
+     * @return the score of the position for the side to move
+     */
+    private int quiescence(int alpha, final int beta, final int ply) {
+        this.principalVariationLength[ply] = 0;
+        if (countNode()) {
+            return 0;
+        }
+        final Position position = this.position;
+        if (position.getHalfmoveClock() >= 100 || position.isRepetition()) {
+            return 0;
+        }
+        final int standPat = Evaluation.Evaluate(position, this.pawnTable);
+        if (ply >= MAX_PLY - 1) {
+            return standPat;
+        }
+        final boolean isInCheck = position.isInCheck();
+        final MovePicker movePicker = this.movePickers[ply];
+        int bestScore = -INFINITY;
+        if (isInCheck) {
+            movePicker.init(position, NO_MOVE, ply);
+        } else {
+            if (standPat >= beta) {
+                return standPat;
+            }
+            alpha = Math.max(alpha, standPat);
+            bestScore = standPat;
+            movePicker.initQuiescence(position);
+        }
+
+        int move;
+        while ((move = movePicker.next()) != NO_MOVE) {
+            if (!isInCheck && standPat + CalculateMaterialGain(move) + DELTA_MARGIN <= alpha) {
+                continue;
+            }
+            position.doMove(move);
+            final int score = -quiescence(-beta, -alpha, ply + 1);
+            position.undoMove();
+            if (this.stopped) {
+                return 0;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                if (score > alpha) {
+                    alpha = score;
+                    updatePrincipalVariation(ply, move);
+                    if (alpha >= beta) {
+                        break;
+                    }
+                }
+            }
+        }
+        // Every evasion was searched, so none means checkmate
+        if (isInCheck && bestScore == -INFINITY) {
+            return -MATE_SCORE + ply;
+        }
+
+        return bestScore;
+    }
+    //********************************************************
+    //********************Helper Methods**********************
+    //********************************************************
+    /**
+     * Counts a visited node and stops the search once it runs out of nodes or time.
+     * @return whether the search has stopped
+     */
+    private boolean countNode() {
+        if (++this.nodes >= this.nodeLimit ||
+            ((this.nodes & TIME_CHECK_MASK) == 0 && System.nanoTime() >= this.deadline)) {
+            this.stopped = true;
+        }
+
+        return this.stopped;
+    }
+
+    /**
+     * @param depth the iteration about to start
+     * @return whether this thread leaves the iteration to the other threads
+     */
+    private boolean isSkippedDepth(final int depth) {
+        if (this.threadIndex == 0) {
+            return false;
+        }
+        final int skipIndex = (this.threadIndex - 1) % SKIP_SIZE.length;
+
+        return ((depth + SKIP_PHASE[skipIndex]) / SKIP_SIZE[skipIndex]) % 2 != 0;
+    }
+
+    /**
+     * Makes the move followed by the child's principal variation the principal variation of the ply.
+     * @param ply  how many plies from the root the position is
+     * @param move the new best move of the ply
+     */
+    private void updatePrincipalVariation(final int ply, final int move) {
+        final int[] line = this.principalVariation[ply];
+        final int childLength = this.principalVariationLength[ply + 1];
+        line[0] = move;
+        System.arraycopy(this.principalVariation[ply + 1], 0, line, 1, childLength);
+        this.principalVariationLength[ply] = childLength + 1;
+    }
+
+    /**
+     * @param divisor how much ln(depth) * ln(move number) is divided by
+     * @return the late move reduction of every depth and move number
+     */
+    private static int[][] CreateReductionTable(final double divisor) {
+        final int[][] reductions = new int[MAX_PLY][MoveList.MAX_MOVES];
+        for (int depth = 1; depth < MAX_PLY; depth++) {
+            for (int moveNumber = 1; moveNumber < MoveList.MAX_MOVES; moveNumber++) {
+                reductions[depth][moveNumber] = (int) (0.5 + Math.log(depth) * Math.log(moveNumber) / divisor);
+            }
+        }
+
+        return reductions;
+    }
+
+    /**
+     * @param move a capture or promotion
+     * @return the most material the move can win, if it is never recaptured
+     */
+    private static int CalculateMaterialGain(final int move) {
+        final int capturedPiece = GetCapturedPiece(move);
+        int gain = capturedPiece == NO_PIECE ? 0 : PIECE_TYPES[capturedPiece % NUM_PIECE_TYPES].getPieceValue();
+        if (IsPromotion(move)) {
+            gain += GetPromotionType(move).getPieceValue() - PAWN.getPieceValue();
+        }
+
+        return gain;
+    }
+
+    /**
+     * Mate scores are stored as distance from the stored position rather than from the root.
+     * @param score the score at the given ply
+     * @param ply   how many plies from the root the position is
+     * @return the score to store
+     */
+    private static int ScoreToTable(final int score, final int ply) {
+        return score >= MATE_BOUND ? score + ply : score <= -MATE_BOUND ? score - ply : score;
+    }
+
+    /**
+     * @param score the stored score
+     * @param ply   how many plies from the root the position is
+     * @return the score at the given ply
+     */
+    private static int ScoreFromTable(final int score, final int ply) {
+        return score >= MATE_BOUND ? score - ply : score <= -MATE_BOUND ? score + ply : score;
+    }
+
+    /**
+     * Turns packed moves back into the board's Move objects by playing them out on boards.
+     * @param board the board the line starts on
+     * @param line  the packed moves
+     * @return the line as Move objects (cut short at the first move that does not fit)
+     */
+    private static List<Move> CreateBoardMoves(final Board board, final int[] line) {
+        final List<Move> boardMoves = new ArrayList<>();
+        Board currentBoard = board;
+        for (final int packedMove : line) {
+            final Move move = EncodedMove.Decode(currentBoard, packedMove);
+            if (move == Move.NULL_MOVE) {
+                break;
+            }
+            boardMoves.add(move);
+            currentBoard = currentBoard.getCurrentPlayer().makeMove(move).getTransitionBoard();
+        }
+
+        return boardMoves;
+    }
+}
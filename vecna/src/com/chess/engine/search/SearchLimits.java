@@ -0,0 +1,105 @@
+package com.chess.engine.search;
+
+/**
+ * This class holds when a search has to stop: at a depth, after a number of nodes, or after an amount of time.
+ * Whichever limit is reached first ends the search; a limit that is not set never ends it.
+ */
+public final class SearchLimits {
+    public static final int MAX_DEPTH = 64;
+    private final int depth;
+    private final long nodes;
+    private final long timeMillis;
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    /**
+     * Constructor for the search limits.
+     * @param builder holds the limits that were set
+     */
+    private SearchLimits(final Builder builder) {
+        this.depth = builder.depth;
+        this.nodes = builder.nodes;
+        this.timeMillis = builder.timeMillis;
+    }
+    //********************************************************
+    //************************Getters*************************
+    //********************************************************
+    /**
+     * @return the deepest iteration to search
+     */
+    public int getDepth() {
+        return this.depth;
+    }
+
+    /**
+     * @return how many nodes the search may visit
+     */
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    /**
+     * @return how many milliseconds the search may take
+     */
+    public long getTimeMillis() {
+        return this.timeMillis;
+    }
+    //********************************************************
+    //********************Builder Pattern*********************
+    //********************************************************
+    /**
+     * This inner class will help build the limits of a search.
+     */
+    public static class Builder {
+        int depth;
+        long nodes;
+        long timeMillis;
+        //********************************************************
+        //**********************Constructor***********************
+        //********************************************************
+        /**
+         * Constructor for a Builder object with no limits set.
+         */
+        public Builder() {
+            this.depth = MAX_DEPTH;
+            this.nodes = Long.MAX_VALUE;
+            this.timeMillis = Long.MAX_VALUE;
+        }
+        //********************************************************
+        //**********************Main Methods**********************
+        //********************************************************
+        /**
+         * @param depth the deepest iteration to search (1 to MAX_DEPTH)
+         * @return an updated Builder
+         */
+        public Builder setDepth(final int depth) {
+            this.depth = Math.max(1, Math.min(depth, MAX_DEPTH));
+            return this;
+        }
+
+        /**
+         * @param nodes how many nodes the search may visit
+         * @return an updated Builder
+         */
+        public Builder setNodes(final long nodes) {
+            this.nodes = nodes;
+            return this;
+        }
+
+        /**
+         * @param timeMillis how many milliseconds the search may take
+         * @return an updated Builder
+         */
+        public Builder setTimeMillis(final long timeMillis) {
+            this.timeMillis = timeMillis;
+            return this;
+        }
+
+        /**
+         * @return the search limits
+         */
+        public SearchLimits build() {
+            return new SearchLimits(this);
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.evaluation.Network;
+
+/**
+ * This class holds which selective search features a search uses and how hard each one prunes, reduces, or
+ * extends. Every feature can be switched off on its own, so its worth can be measured against the others.
+ * Margins are in centipawns per ply of depth left.
+ * A search scores positions with the handcrafted Evaluation unless it is given a Network.
+ */
+public final class SearchOptions {
+    private final boolean nullMovePruning;
+    private final int nullMoveMinDepth;
+    private final int nullMoveReduction;
+    private final int nullMoveVerificationDepth;
+    private final boolean lateMoveReductions;
+    private final int reductionMinDepth;
+    private final int reductionMinMoves;
+    private final double reductionDivisor;
+    private final boolean futilityPruning;
+    private final int futilityMaxDepth;
+    private final int futilityMargin;
+    private final boolean razoring;
+    private final int razoringMaxDepth;
+    private final int razoringMargin;
+    private final boolean checkExtensions;
+    private final Network network;
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    /**
+     * Constructor for the search options.
+     * @param builder holds the options that were set
+     */
+    private SearchOptions(final Builder builder) {
+        this.nullMovePruning = builder.nullMovePruning;
+        this.nullMoveMinDepth = builder.nullMoveMinDepth;
+        this.nullMoveReduction = builder.nullMoveReduction;
+        this.nullMoveVerificationDepth = builder.nullMoveVerificationDepth;
+        this.lateMoveReductions = builder.lateMoveReductions;
+        this.reductionMinDepth = builder.reductionMinDepth;
+        this.reductionMinMoves = builder.reductionMinMoves;
+        this.reductionDivisor = builder.reductionDivisor;
+        this.futilityPruning = builder.futilityPruning;
+        this.futilityMaxDepth = builder.futilityMaxDepth;
+        this.futilityMargin = builder.futilityMargin;
+        this.razoring = builder.razoring;
+        this.razoringMaxDepth = builder.razoringMaxDepth;
+        this.razoringMargin = builder.razoringMargin;
+        this.checkExtensions = builder.checkExtensions;
+        this.network = builder.network;
+    }
+
+    /**
+     * @return the options with every feature switched on at its default setting
+     */
+    public static SearchOptions CreateDefaultOptions() {
+        return new Builder().build();
+    }
+    //********************************************************
+    //************************Getters*************************
+    //********************************************************
+    /**
+     * @return whether a position is cut off when passing the turn still scores above beta
+     */
+    public boolean isNullMovePruning() {
+        return this.nullMovePruning;
+    }
+
+    /**
+     * @return the least depth left at which a null move is tried
+     */
+    public int getNullMoveMinDepth() {
+        return this.nullMoveMinDepth;
+    }
+
+    /**
+     * @return how many plies shallower than usual the position after a null move is searched
+     */
+    public int getNullMoveReduction() {
+        return this.nullMoveReduction;
+    }
+
+    /**
+     * @return the least depth left at which a null move cutoff is checked by a search without null moves
+     */
+    public int getNullMoveVerificationDepth() {
+        return this.nullMoveVerificationDepth;
+    }
+
+    /**
+     * @return whether quiet moves late in the move order are searched less deeply
+     */
+    public boolean isLateMoveReductions() {
+        return this.lateMoveReductions;
+    }
+
+    /**
+     * @return the least depth left at which moves are reduced
+     */
+    public int getReductionMinDepth() {
+        return this.reductionMinDepth;
+    }
+
+    /**
+     * @return how many moves are searched at full depth before the rest are reduced
+     */
+    public int getReductionMinMoves() {
+        return this.reductionMinMoves;
+    }
+
+    /**
+     * @return how much the reduction ln(depth) * ln(move number) is divided by (larger reduces less)
+     */
+    public double getReductionDivisor() {
+        return this.reductionDivisor;
+    }
+
+    /**
+     * @return whether quiet moves are skipped near the leaves when the position is far below alpha
+     */
+    public boolean isFutilityPruning() {
+        return this.futilityPruning;
+    }
+
+    /**
+     * @return the most depth left at which moves are futility pruned
+     */
+    public int getFutilityMaxDepth() {
+        return this.futilityMaxDepth;
+    }
+
+    /**
+     * @return how far below alpha per ply the evaluation has to be for futility pruning
+     */
+    public int getFutilityMargin() {
+        return this.futilityMargin;
+    }
+
+    /**
+     * @return whether positions far below alpha near the leaves drop straight into the quiescence search
+     */
+    public boolean isRazoring() {
+        return this.razoring;
+    }
+
+    /**
+     * @return the most depth left at which razoring is tried
+     */
+    public int getRazoringMaxDepth() {
+        return this.razoringMaxDepth;
+    }
+
+    /**
+     * @return how far below alpha per ply the evaluation has to be for razoring
+     */
+    public int getRazoringMargin() {
+        return this.razoringMargin;
+    }
+
+    /**
+     * @return whether moves that give check are searched a ply deeper
+     */
+    public boolean isCheckExtensions() {
+        return this.checkExtensions;
+    }
+
+    /**
+     * @return the network positions are scored with, or null for the handcrafted evaluation
+     */
+    public Network getNetwork() {
+        return this.network;
+    }
+    //********************************************************
+    //********************Builder Pattern*********************
+    //********************************************************
+    /**
+     * This inner class will help build the options of a search.
+     */
+    public static class Builder {
+        boolean nullMovePruning;
+        int nullMoveMinDepth;
+        int nullMoveReduction;
+        int nullMoveVerificationDepth;
+        boolean lateMoveReductions;
+        int reductionMinDepth;
+        int reductionMinMoves;
+        double reductionDivisor;
+        boolean futilityPruning;
+        int futilityMaxDepth;
+        int futilityMargin;
+        boolean razoring;
+        int razoringMaxDepth;
+        int razoringMargin;
+        boolean checkExtensions;
+        Network network;
+        //********************************************************
+        //**********************Constructor***********************
+        //********************************************************
+        /**
+         * Constructor for a Builder object with every feature on at its default setting.
+         */
+        public Builder() {
+            this.nullMovePruning = true;
+            this.nullMoveMinDepth = 3;
+            this.nullMoveReduction = 3;
+            this.nullMoveVerificationDepth = 10;
+            this.lateMoveReductions = true;
+            this.reductionMinDepth = 3;
+            this.reductionMinMoves = 3;
+            this.reductionDivisor = 2.25;
+            this.futilityPruning = true;
+            this.futilityMaxDepth = 3;
+            this.futilityMargin = 120;
+            this.razoring = true;
+            this.razoringMaxDepth = 2;
+            this.razoringMargin = 300;
+            this.checkExtensions = true;
+        }
+        //********************************************************
+        //**********************Main Methods**********************
+        //********************************************************
+        /**
+         * @param nullMovePruning whether a position is cut off when passing the turn still scores above beta
+         * @return an updated Builder
+         */
+        public Builder setNullMovePruning(final boolean nullMovePruning) {
+            this.nullMovePruning = nullMovePruning;
+            return this;
+        }
+
+        /**
+         * @param nullMoveMinDepth the least depth left at which a null move is tried
+         * @return an updated Builder
+         */
+        public Builder setNullMoveMinDepth(final int nullMoveMinDepth) {
+            this.nullMoveMinDepth = nullMoveMinDepth;
+            return this;
+        }
+
+        /**
+         * @param nullMoveReduction how many plies shallower than usual the position after a null move is searched
+         * @return an updated Builder
+         */
+        public Builder setNullMoveReduction(final int nullMoveReduction) {
+            this.nullMoveReduction = nullMoveReduction;
+            return this;
+        }
+
+        /**
+         * @param nullMoveVerificationDepth the least depth left at which a null move cutoff is verified
+         * @return an updated Builder
+         */
+        public Builder setNullMoveVerificationDepth(final int nullMoveVerificationDepth) {
+            this.nullMoveVerificationDepth = nullMoveVerificationDepth;
+            return this;
+        }
+
+        /**
+         * @param lateMoveReductions whether quiet moves late in the move order are searched less deeply
+         * @return an updated Builder
+         */
+        public Builder setLateMoveReductions(final boolean lateMoveReductions) {
+            this.lateMoveReductions = lateMoveReductions;
+            return this;
+        }
+
+        /**
+         * @param reductionMinDepth the least depth left at which moves are reduced
+         * @return an updated Builder
+         */
+        public Builder setReductionMinDepth(final int reductionMinDepth) {
+            this.reductionMinDepth = reductionMinDepth;
+            return this;
+        }
+
+        /**
+         * @param reductionMinMoves how many moves are searched at full depth before the rest are reduced
+         * @return an updated Builder
+         */
+        public Builder setReductionMinMoves(final int reductionMinMoves) {
+            this.reductionMinMoves = reductionMinMoves;
+            return this;
+        }
+
+        /**
+         * @param reductionDivisor how much ln(depth) * ln(move number) is divided by (must be positive)
+         * @return an updated Builder
+         */
+        public Builder setReductionDivisor(final double reductionDivisor) {
+            if (reductionDivisor <= 0) {
+                throw new IllegalArgumentException("The reduction divisor must be positive, got " + reductionDivisor);
+            }
+            this.reductionDivisor = reductionDivisor;
+            return this;
+        }
+
+        /**
+         * @param futilityPruning whether quiet moves are skipped near the leaves when far below alpha
+         * @return an updated Builder
+         */
+        public Builder setFutilityPruning(final boolean futilityPruning) {
+            this.futilityPruning = futilityPruning;
+            return this;
+        }
+
+        /**
+         * @param futilityMaxDepth the most depth left at which moves are futility pruned
+         * @return an updated Builder
+         */
+        public Builder setFutilityMaxDepth(final int futilityMaxDepth) {
+            this.futilityMaxDepth = futilityMaxDepth;
+            return this;
+        }
+
+        /**
+         * @param futilityMargin how far below alpha per ply the evaluation has to be for futility pruning
+         * @return an updated Builder
+         */
+        public Builder setFutilityMargin(final int futilityMargin) {
+            this.futilityMargin = futilityMargin;
+            return this;
+        }
+
+        /**
+         * @param razoring whether positions far below alpha near the leaves drop into the quiescence search
+         * @return an updated Builder
+         */
+        public Builder setRazoring(final boolean razoring) {
+            this.razoring = razoring;
+            return this;
+        }
+
+        /**
+         * @param razoringMaxDepth the most depth left at which razoring is tried
+         * @return an updated Builder
+         */
+        public Builder setRazoringMaxDepth(final int razoringMaxDepth) {
+            this.razoringMaxDepth = razoringMaxDepth;
+            return this;
+        }
+
+        /**
+         * @param razoringMargin how far below alpha per ply the evaluation has to be for razoring
+         * @return an updated Builder
+         */
+        public Builder setRazoringMargin(final int razoringMargin) {
+            this.razoringMargin = razoringMargin;
+            return this;
+        }
+
+        /**
+         * @param checkExtensions whether moves that give check are searched a ply deeper
+         * @return an updated Builder
+         */
+        public Builder setCheckExtensions(final boolean checkExtensions) {
+            this.checkExtensions = checkExtensions;
+            return this;
+        }
+
+        /**
+         * @param network the network positions are scored with (shared by every thread), or null for the
+         *                handcrafted evaluation
+         * @return an updated Builder
+         */
+        public Builder setNetwork(final Network network) {
+            this.network = network;
+            return this;
+        }
+
+        /**
+         * @return the search options
+         */
+        public SearchOptions build() {
+            return new SearchOptions(this);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.chess.engine.search;
+
+import com.chess.engine.board.move.Move;
+import com.chess.engine.board.position.EncodedMove;
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+/**
+ * This class holds what a search found: the best move, its score, the line the engine expects, and how fast
+ * the search went.
+ */
+public final class SearchResult {
+    private final Move bestMove;
+    private final int score;
+    private final int depth;
+    private final List<Move> principalVariation;
+    private final long nodes;
+    private final long elapsedMillis;
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    /**
+     * Constructor for a search result.
+     * @param principalVariation the line the engine expects, starting with the best move
+     * @param score              the score of the best move for the side to move, in centipawns (0 if the search was
+     *                           stopped before any move was fully searched)
+     * @param depth              the deepest iteration that was finished
+     * @param nodes              how many nodes were visited
+     * @param elapsedMillis      how long the search took
+     */
+    public SearchResult(final List<Move> principalVariation,
+                        final int score,
+                        final int depth,
+                        final long nodes,
+                        final long elapsedMillis) {
+        this.principalVariation = ImmutableList.copyOf(principalVariation);
+        this.bestMove = principalVariation.isEmpty() ? Move.NULL_MOVE : principalVariation.get(0);
+        this.score = score;
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedMillis = elapsedMillis;
+    }
+    //********************************************************
+    //************************Getters*************************
+    //********************************************************
+    /**
+     * @return the move the engine chose (the null move if there are no legal moves)
+     */
+    public Move getBestMove() {
+        return this.bestMove;
+    }
+
+    /**
+     * @return the score of the best move for the side to move, in centipawns (0 if the search was stopped before
+     *         any move was fully searched, when the best move is simply the first legal move)
+     */
+    public int getScore() {
+        return this.score;
+    }
+
+    /**
+     * @return the deepest iteration that was finished
+     */
+    public int getDepth() {
+        return this.depth;
+    }
+
+    /**
+     * @return the line the engine expects, starting with the best move
+     */
+    public List<Move> getPrincipalVariation() {
+        return this.principalVariation;
+    }
+
+    /**
+     * @return how many nodes were visited
+     */
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    /**
+     * @return how long the search took in milliseconds
+     */
+    public long getElapsedMillis() {
+        return this.elapsedMillis;
+    }
+
+    /**
+     * @return how many nodes were visited per second
+     */
+    public long getNodesPerSecond() {
+        return this.nodes * 1000 / Math.max(1, this.elapsedMillis);
+    }
+    //********************************************************
+    //******************Special Overrides*********************
+    //********************************************************
+    /**
+     * @return a one-line summary of the search (depth, score, nodes, speed, and line)
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("depth ").append(this.depth)
+               .append(" score ").append(this.score)
+               .append(" nodes ").append(this.nodes)
+               .append(" time ").append(this.elapsedMillis)
+               .append(" nps ").append(getNodesPerSecond())
+               .append(" pv");
+        for (final Move move : this.principalVariation) {
+            builder.append(' ').append(EncodedMove.ToString(EncodedMove.Encode(move)));
+        }
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,229 @@
+package com.chess.engine.search;
+
+import java.util.Arrays;
+
+/**
+ * This class represents the search's transposition table: a fixed-size cache of searched positions keyed by
+ * their Zobrist key.
+ * Every entry is two longs in one long[]: the packed data and the key XORed with that data.
+ * A probe only trusts an entry whose two halves XOR back to the key, so search threads can probe and store
+ * at the same time without locks and a half-written entry just reads as a miss.
+ * Entries sit in buckets of four (one 64-byte cache line); a store replaces the shallowest, oldest entry.
+ */
+public final class TranspositionTable {
+    // Bound types (an exact score is both an upper and a lower bound)
+    public static final int UPPER_BOUND = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int EXACT = 3;
+    // An empty entry has no bound, so a miss is returned as 0
+    public static final long NO_ENTRY = 0;
+    public static final int DEFAULT_SIZE_MB = 16;
+    private static final int ENTRIES_PER_BUCKET = 4;
+    private static final int LONGS_PER_ENTRY = 2;
+    private static final int BYTES_PER_BUCKET = ENTRIES_PER_BUCKET * LONGS_PER_ENTRY * Long.BYTES;
+    // Data layout: move (16 bits), score (16), depth (8), bound (2), age (6)
+    private static final int SCORE_SHIFT = 16;
+    private static final int DEPTH_SHIFT = 32;
+    private static final int BOUND_SHIFT = 40;
+    private static final int AGE_SHIFT = 42;
+    private static final int AGE_MASK = 0x3F;
+
+    private long[] table;
+    private int bucketMask;
+    private int age;
+    //********************************************************
+    //**********************Constructor***********************
+    //********************************************************
+    /**
+     * Constructor for a transposition table.
+     * @param sizeMB how many megabytes the table may use (rounded down to a power of two number of buckets)
+     */
+    public TranspositionTable(final int sizeMB) {
+        resize(sizeMB);
+    }
+    //********************************************************
+    //*********************Main Methods***********************
+    //********************************************************
+    /**
+     * Throws away every entry and reallocates the table.
+     * @param sizeMB how many megabytes the table may use
+     */
+    public void resize(final int sizeMB) {
+        if (sizeMB < 1) {
+            throw new IllegalArgumentException("Transposition table needs at least 1 MB, got " + sizeMB);
+        }
+        final long buckets = Long.highestOneBit((long) sizeMB * 1024 * 1024 / BYTES_PER_BUCKET);
+        // Java arrays are int-indexed
+        final long maxBuckets = Integer.highestOneBit(Integer.MAX_VALUE / (ENTRIES_PER_BUCKET * LONGS_PER_ENTRY));
+        final int bucketCount = (int) Math.min(buckets, maxBuckets);
+        this.table = new long[bucketCount * ENTRIES_PER_BUCKET * LONGS_PER_ENTRY];
+        this.bucketMask = bucketCount - 1;
+        this.age = 0;
+    }
+
+    /**
+     * Empties the table without reallocating it.
+     */
+    public void clear() {
+        Arrays.fill(this.table, 0L);
+        this.age = 0;
+    }
+
+    /**
+     * Ages every stored entry by one search so that new entries win replacement against them.
+     */
+    public void newSearch() {
+        this.age = (this.age + 1) & AGE_MASK;
+    }
+
+    /**
+     * @param zobristKey the Zobrist key of the position
+     * @return the packed entry for the position, or NO_ENTRY if it is not in the table
+     */
+    public long probe(final long zobristKey) {
+        final long[] table = this.table;
+        final int bucket = bucketIndex(zobristKey);
+        for (int i = bucket; i < bucket + ENTRIES_PER_BUCKET * LONGS_PER_ENTRY; i += LONGS_PER_ENTRY) {
+            final long data = table[i + 1];
+            if ((table[i] ^ data) == zobristKey && data != NO_ENTRY) {
+                return data;
+            }
+        }
+
+        return NO_ENTRY;
+    }
+
+    /**
+     * Stores a search result, replacing the least useful entry in the position's bucket.
+     * @param zobristKey the Zobrist key of the position
+     * @param move       the best move found (only its low 16 bits are kept), or 0 if there is none
+     * @param score      the score of the position (must fit in 16 bits)
+     * @param depth      how deep the position was searched
+     * @param bound      UPPER_BOUND, LOWER_BOUND, or EXACT
+     */
+    public void store(final long zobristKey, final int move, final int score, final int depth, final int bound) {
+        final long[] table = this.table;
+        final int bucket = bucketIndex(zobristKey);
+        int replaced = bucket;
+        int worstValue = Integer.MAX_VALUE;
+        for (int i = bucket; i < bucket + ENTRIES_PER_BUCKET * LONGS_PER_ENTRY; i += LONGS_PER_ENTRY) {
+            final long data = table[i + 1];
+            // Same position: overwrite it, but keep its best move if the new result has none
+            if ((table[i] ^ data) == zobristKey || data == NO_ENTRY) {
+                replaced = i;
+                if (move == 0 && data != NO_ENTRY) {
+                    storeEntry(table, i, zobristKey, GetMove(data), score, depth, bound);
+                    return;
+                }
+                break;
+            }
+            // Otherwise replace the entry searched least deeply, counting each search since it was stored
+            final int value = GetDepth(data) - 8 * ((this.age - GetAge(data)) & AGE_MASK);
+            if (value < worstValue) {
+                worstValue = value;
+                replaced = i;
+            }
+        }
+        storeEntry(table, replaced, zobristKey, move, score, depth, bound);
+    }
+
+    /**
+     * @return how full the table is in permille, sampled from the first thousand entries of this search
+     */
+    public int getHashFull() {
+        final int sampled = Math.min(1000, this.table.length / LONGS_PER_ENTRY);
+        int used = 0;
+        for (int i = 0; i < sampled; i++) {
+            final long data = this.table[i * LONGS_PER_ENTRY + 1];
+            if (data != NO_ENTRY && GetAge(data) == this.age) {
+                used++;
+            }
+        }
+
+        return used * 1000 / sampled;
+    }
+
+    /**
+     * @return how many entries the table holds
+     */
+    public int getCapacity() {
+        return this.table.length / LONGS_PER_ENTRY;
+    }
+
+    /**
+     * @param entry the packed entry
+     * @return the best move stored (its from, to, and flag bits), or 0 if there is none
+     */
+    public static int GetMove(final long entry) {
+        return (int) (entry & 0xFFFF);
+    }
+
+    /**
+     * @param entry the packed entry
+     * @return the score stored
+     */
+    public static int GetScore(final long entry) {
+        return (short) (entry >>> SCORE_SHIFT);
+    }
+
+    /**
+     * @param entry the packed entry
+     * @return how deep the position was searched
+     */
+    public static int GetDepth(final long entry) {
+        return (int) ((entry >>> DEPTH_SHIFT) & 0xFF);
+    }
+
+    /**
+     * @param entry the packed entry
+     * @return UPPER_BOUND, LOWER_BOUND, or EXACT
+     */
+    public static int GetBound(final long entry) {
+        return (int) ((entry >>> BOUND_SHIFT) & 0x3);
+    }
+    //********************************************************
+    //*******************Helper Methods***********************
+    //********************************************************
+    /**
+     * @param zobristKey the Zobrist key of the position
+     * @return the index of the first long of the position's bucket
+     */
+    private int bucketIndex(final long zobristKey) {
+        // The low bits pick the bucket; the full key is still checked on probe
+        return ((int) zobristKey & this.bucketMask) * ENTRIES_PER_BUCKET * LONGS_PER_ENTRY;
+    }
+
+    /**
+     * Writes an entry's data and XORed key.
+     * @param table      the table to write to
+     * @param index      the index of the entry's first long
+     * @param zobristKey the Zobrist key of the position
+     * @param move       the best move
+     * @param score      the score of the position
+     * @param depth      how deep the position was searched
+     * @param bound      UPPER_BOUND, LOWER_BOUND, or EXACT
+     */
+    private void storeEntry(final long[] table,
+                            final int index,
+                            final long zobristKey,
+                            final int move,
+                            final int score,
+                            final int depth,
+                            final int bound) {
+        final long data = (move & 0xFFFFL) |
+                          ((score & 0xFFFFL) << SCORE_SHIFT) |
+                          ((long) Math.min(Math.max(depth, 0), 0xFF) << DEPTH_SHIFT) |
+                          ((long) bound << BOUND_SHIFT) |
+                          ((long) this.age << AGE_SHIFT);
+        table[index] = zobristKey ^ data;
+        table[index + 1] = data;
+    }
+
+    /**
+     * @param entry the packed entry
+     * @return which search the entry was stored in
+     */
+    private static int GetAge(final long entry) {
+        return (int) ((entry >>> AGE_SHIFT) & AGE_MASK);
+    }
+}
@@ -2,8 +2,13 @@ package com.chess.tests;
 
 import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtils;
+import com.chess.engine.board.evaluation.PieceSquareTables;
+import com.chess.engine.board.move.Move;
+import com.chess.engine.board.move.Move.MoveFactory;
 import com.chess.engine.pieces.Piece;
 import com.chess.engine.players.Player;
+import com.google.common.collect.Iterables;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -25,6 +30,20 @@ class TestBoard {
         assertEquals("Black", board.getCurrentPlayer().getOpponent().getPlayerAlliance().toString());
     }
 
+    @Test
+    @DisplayName("Attacked Tiles of the Initial Chess Board")
+    void getAttackedTiles() {
+        final Board board = Board.CreateInitialBoard();
+        // Each side covers its own third rank but none of the middle
+        for (int i = 0; i < 8; i++) {
+            assertTrue(board.isTileAttacked(40 + i, Alliance.WHITE));
+            assertTrue(board.isTileAttacked(16 + i, Alliance.BLACK));
+            assertFalse(board.isTileAttacked(32 + i, Alliance.WHITE));
+            assertFalse(board.isTileAttacked(24 + i, Alliance.BLACK));
+        }
+        assertFalse(board.isTileAttacked(56, Alliance.WHITE));
+    }
+
     @Test
     @DisplayName("Retrieval of an Empty and Occupied Tile")
     void getTile() {
@@ -45,6 +64,21 @@ class TestBoard {
         // TODO: perform a move to change number of pieces
     }
 
+    @Test
+    @DisplayName("Pieces and Kings Carried Over by a Capture")
+    void getPiecesAfterCapture() {
+        // 1. e4 d5 2. exd5
+        Board board = Board.CreateInitialBoard();
+        board = MoveFactory.createMove(board, 52, 36).execute();
+        board = MoveFactory.createMove(board, 11, 27).execute();
+        board = MoveFactory.createMove(board, 36, 27).execute();
+        assertEquals(16, board.getPieces(Alliance.WHITE).size());
+        assertEquals(15, board.getPieces(Alliance.BLACK).size());
+        assertEquals(60, board.getKing(Alliance.WHITE).getPiecePosition());
+        assertEquals(4, board.getKing(Alliance.BLACK).getPiecePosition());
+        assertSame(board.getKing(Alliance.BLACK), board.getBlackPlayer().getPlayerKing());
+    }
+
     @Test
     @DisplayName("Retrieval of White")
     void getWhitePlayer() {
@@ -79,5 +113,41 @@ class TestBoard {
         // Initial
         assertEquals(20, board.getCurrentPlayer().getLegalMoves().size());
         assertEquals(20, board.getCurrentPlayer().getOpponent().getLegalMoves().size());
+        assertEquals(40, Iterables.size(board.getAllLegalMoves()));
+    }
+
+    @Test
+    @DisplayName("Legal Moves Are Calculated Once")
+    void memoizedLegalMoves() {
+        final Board board = Board.CreateInitialBoard();
+        final Player whitePlayer = board.getWhitePlayer();
+        assertSame(whitePlayer.getLegalMoves(), whitePlayer.getLegalMoves());
+    }
+
+    @Test
+    @DisplayName("Transpositions Share a Zobrist Key")
+    void zobristKey() {
+        final Board board = Board.CreateInitialBoard();
+        // Both Knights go out and come back, which is the starting position again
+        Board transitionBoard = board;
+        for (final int[] tiles : new int[][] {{62, 45}, {6, 21}, {45, 62}, {21, 6}}) {
+            final Move move = MoveFactory.createMove(transitionBoard, tiles[0], tiles[1]);
+            transitionBoard = transitionBoard.getCurrentPlayer().makeMove(move).getTransitionBoard();
+        }
+        assertEquals(board.getZobristKey(), transitionBoard.getZobristKey());
+    }
+
+    @Test
+    @DisplayName("Piece-Square Score Follows Every Kind of Move")
+    void pieceSquareScore() {
+        // Captures, castling, and promotions with and without a capture are all legal here
+        final Board board = FenUtils.CreateBoardFromFen("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8");
+        for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
+            final Board transitionBoard = move.execute();
+            assertEquals(PieceSquareTables.CalculateScore(transitionBoard.getBitBoard()),
+                         transitionBoard.getPieceSquareScore());
+            assertEquals(PieceSquareTables.CalculatePhase(transitionBoard.getBitBoard()), transitionBoard.getPhase());
+        }
+        assertEquals(PieceSquareTables.MAX_PHASE, Board.CreateInitialBoard().getPhase());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,65 @@
+package com.chess.tests;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.move.Move.MoveFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestFen {
+
+    @Test
+    @DisplayName("FEN Reads Back as Itself")
+    void roundTrip() {
+        final String[] fens = {
+                "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+                "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+                "rnbqkbnr/ppp1pppp/8/8/3pP3/8/PPPP1PPP/RNBQKBNR b Kq e3 0 3",
+                "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 b - - 17 42" };
+        for (final String fen : fens) {
+            assertEquals(fen, Board.CreateBoardFromFen(fen).getFen());
+        }
+        assertEquals(Board.CreateInitialBoard().getFen(), Board.CreateBoardFromFen(fens[0]).getFen());
+        assertEquals(Board.CreateInitialBoard().getZobristKey(), Board.CreateBoardFromFen(fens[0]).getZobristKey());
+    }
+
+    @Test
+    @DisplayName("Moves Carry the Move Clocks")
+    void moveClocks() {
+        Board board = Board.CreateInitialBoard();
+        board = MoveFactory.createMove(board, 62, 45).execute();
+        assertEquals("rnbqkbnr/pppppppp/8/8/8/5N2/PPPPPPPP/RNBQKB1R b KQkq - 1 1", board.getFen());
+        board = MoveFactory.createMove(board, 1, 18).execute();
+        assertEquals("r1bqkbnr/pppppppp/2n5/8/8/5N2/PPPPPPPP/RNBQKB1R w KQkq - 2 2", board.getFen());
+        board = MoveFactory.createMove(board, 52, 36).execute();
+        assertEquals("r1bqkbnr/pppppppp/2n5/8/4P3/5N2/PPPP1PPP/RNBQKB1R b KQkq e3 0 2", board.getFen());
+    }
+
+    @Test
+    @DisplayName("Malformed FEN Is Rejected")
+    void malformedFen() {
+        assertThrows(IllegalArgumentException.class, () -> Board.CreateBoardFromFen("8/8/8 w - -"));
+        assertThrows(IllegalArgumentException.class,
+                     () -> Board.CreateBoardFromFen("4k3/8/8/8/8/8/8/4K3 x - - 0 1"));
+        assertThrows(IllegalArgumentException.class,
+                     () -> Board.CreateBoardFromFen("4k3/8/8/8/8/8/8/4K3 w - - 0 one"));
+        // Ranks that are too long or too short, even when the whole board adds up to 64 tiles
+        assertThrows(IllegalArgumentException.class,
+                     () -> Board.CreateBoardFromFen("4k4/7/8/8/8/8/8/4K3 w - - 0 1"));
+        assertThrows(IllegalArgumentException.class,
+                     () -> Board.CreateBoardFromFen("4k3/ppppppppp/7/8/8/8/8/4K3 w - - 0 1"));
+        assertThrows(IllegalArgumentException.class,
+                     () -> Board.CreateBoardFromFen("9/7/4k3/8/8/8/8/4K3 w - - 0 1"));
+        assertThrows(IllegalArgumentException.class,
+                     () -> Board.CreateBoardFromFen("4k3/8/8/8/8/8/8/8/4K3 w - - 0 1"));
+        // Missing and extra Kings
+        assertThrows(IllegalArgumentException.class,
+                     () -> Board.CreateBoardFromFen("8/8/8/8/8/8/8/4K3 w - - 0 1"));
+        assertThrows(IllegalArgumentException.class,
+                     () -> Board.CreateBoardFromFen("4k3/8/8/8/8/8/8/3KK3 w - - 0 1"));
+        // An En Passant tile no Pawn just jumped over
+        assertThrows(IllegalArgumentException.class,
+                     () -> Board.CreateBoardFromFen("4k3/8/8/8/8/8/4P3/4K3 b - e3 0 1"));
+    }
+}
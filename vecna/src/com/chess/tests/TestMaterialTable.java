@@ -0,0 +1,44 @@
+package com.chess.tests;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtils;
+import com.chess.engine.board.evaluation.MaterialTable;
+import com.chess.engine.search.Evaluation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.chess.engine.pieces.Piece.PieceType.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestMaterialTable {
+
+    @Test
+    @DisplayName("Material Key Counts Every Piece")
+    void materialKey() {
+        final long materialKey = Board.CreateInitialBoard().getMaterialKey();
+        assertEquals(8, MaterialTable.Count(materialKey, PAWN, Alliance.WHITE));
+        assertEquals(2, MaterialTable.Count(materialKey, KNIGHT, Alliance.BLACK));
+        assertEquals(1, MaterialTable.Count(materialKey, QUEEN, Alliance.BLACK));
+        assertFalse(MaterialTable.IsDrawn(materialKey));
+    }
+
+    @Test
+    @DisplayName("A Lone Minor Piece Cannot Mate")
+    void drawnMaterial() {
+        assertTrue(MaterialTable.IsDrawn(FenUtils.CreateBoardFromFen("4k3/8/8/8/8/8/8/4K3 w - - 0 1")
+                                                 .getMaterialKey()));
+        assertTrue(MaterialTable.IsDrawn(FenUtils.CreateBoardFromFen("4k3/8/8/8/8/8/8/2B1K3 w - - 0 1")
+                                                 .getMaterialKey()));
+        assertFalse(MaterialTable.IsDrawn(FenUtils.CreateBoardFromFen("4k3/8/8/8/8/8/8/2BNK3 w - - 0 1")
+                                                  .getMaterialKey()));
+    }
+
+    @Test
+    @DisplayName("Wrong Bishop and Rook Pawn Is a Draw")
+    void wrongBishop() {
+        // The dark-squared Bishop cannot drive the King off a8, while a light-squared one could
+        assertEquals(0, Evaluation.Evaluate(FenUtils.CreateBoardFromFen("k7/8/8/P7/8/8/8/2B1K3 w - - 0 1")));
+        assertTrue(Evaluation.Evaluate(FenUtils.CreateBoardFromFen("k7/8/8/P7/8/8/8/3BK3 w - - 0 1")) > 0);
+    }
+}
@@ -0,0 +1,95 @@
+package com.chess.tests;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.FenUtils;
+import com.chess.engine.board.evaluation.Accumulator;
+import com.chess.engine.board.evaluation.Network;
+import com.chess.engine.board.position.MoveList;
+import com.chess.engine.board.position.Position;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestNetwork {
+
+    @Test
+    @DisplayName("Accumulator Follows Moves and Takebacks")
+    void incrementalAccumulator() throws IOException {
+        final Network network = Network.Load(writeNetwork(16, 16 * (Network.NUM_FEATURES + 3) + 1));
+        assertEquals(16, network.getHiddenSize());
+        // Castles, captures, and promotions are all legal here
+        final Position position = new Position(FenUtils.CreateBoardFromFen(
+                "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1"));
+        position.setAccumulator(new Accumulator(network));
+        final Accumulator refreshed = new Accumulator(network);
+        final MoveList moves = new MoveList();
+        final int moveCount = position.generateLegalMoves(moves);
+        for (int i = 0; i < moveCount; i++) {
+            position.doMove(moves.get(i));
+            refreshed.refresh(position.getBitBoard());
+            assertSameValues(refreshed, position.getAccumulator());
+            assertEquals(refreshed.evaluate(Alliance.BLACK), position.getAccumulator().evaluate(Alliance.BLACK));
+            position.undoMove();
+        }
+        refreshed.refresh(position.getBitBoard());
+        assertSameValues(refreshed, position.getAccumulator());
+    }
+
+    @Test
+    @DisplayName("Truncated Network File Is Rejected")
+    void truncatedNetwork() throws IOException {
+        final Path path = writeNetwork(16, 16 * (Network.NUM_FEATURES + 3));
+        assertThrows(IOException.class, () -> Network.Load(path));
+    }
+
+    @Test
+    @DisplayName("Large Network Scores Stay Clear of Mate Scores")
+    void largeNetworkScore() throws IOException {
+        // Every weight at its largest: the hidden layer alone adds up past what an int holds
+        final int hiddenSize = 512;
+        final ByteBuffer buffer = ByteBuffer.allocate((hiddenSize * (Network.NUM_FEATURES + 3) + 1) * Short.BYTES)
+                                            .order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            buffer.putShort(Short.MAX_VALUE);
+        }
+        final Path path = Files.createTempFile("network", ".bin");
+        path.toFile().deleteOnExit();
+        Files.write(path, buffer.array());
+        final Network network = Network.Load(path);
+        final short[] accumulator = new short[hiddenSize];
+        Arrays.fill(accumulator, Short.MAX_VALUE);
+        assertEquals(Network.MAX_SCORE, network.evaluate(accumulator, accumulator));
+    }
+
+    private static void assertSameValues(final Accumulator expected, final Accumulator actual) {
+        assertTrue(Arrays.equals(expected.getValues(Alliance.WHITE), actual.getValues(Alliance.WHITE)));
+        assertTrue(Arrays.equals(expected.getValues(Alliance.BLACK), actual.getValues(Alliance.BLACK)));
+    }
+
+    /**
+     * @param maxWeight   the largest weight to write (random weights fall between its negative and it)
+     * @param weightCount how many weights to write
+     * @return a temporary network file of random weights, deleted when the tests exit
+     */
+    private static Path writeNetwork(final int maxWeight, final int weightCount) throws IOException {
+        final SplittableRandom random = new SplittableRandom(1);
+        final ByteBuffer buffer = ByteBuffer.allocate(weightCount * Short.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < weightCount; i++) {
+            buffer.putShort((short) random.nextInt(-maxWeight, maxWeight + 1));
+        }
+        final Path path = Files.createTempFile("network", ".bin");
+        path.toFile().deleteOnExit();
+        Files.write(path, buffer.array());
+
+        return path;
+    }
+}
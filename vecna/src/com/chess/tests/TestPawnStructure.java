@@ -0,0 +1,62 @@
+package com.chess.tests;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtils;
+import com.chess.engine.board.bitboard.BitBoard;
+import com.chess.engine.board.evaluation.PawnStructure;
+import com.chess.engine.search.PawnTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.chess.engine.board.bitboard.BitBoardUtils.TileMask;
+import static com.chess.engine.board.evaluation.PieceSquareTables.EndgameScore;
+import static com.chess.engine.pieces.Piece.PieceType.PAWN;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestPawnStructure {
+
+    @Test
+    @DisplayName("Passed Pawns Have No Enemy Pawn in Their Way")
+    void passedPawns() {
+        // The c6 and d5 Pawns stop each other, nothing stops the a2 Pawn
+        final BitBoard bitBoard = FenUtils.CreateBoardFromFen("4k3/8/2p5/3P4/8/8/P7/4K3 w - - 0 1").getBitBoard();
+        assertEquals(TileMask(48), PawnStructure.CalculatePassedPawns(bitBoard.getPieceBoard(PAWN, Alliance.WHITE),
+                                                                      bitBoard.getPieceBoard(PAWN, Alliance.BLACK)));
+    }
+
+    @Test
+    @DisplayName("Doubled Isolated Pawns Score Below Connected Pawns")
+    void doubledPawns() {
+        final long blackPawns = TileMask(10) | TileMask(11);
+        final long doubledPawns = TileMask(50) | TileMask(42);
+        final long connectedPawns = TileMask(50) | TileMask(43);
+        assertTrue(PawnStructure.Evaluate(doubledPawns, blackPawns, 0L) <
+                   PawnStructure.Evaluate(connectedPawns, blackPawns, 0L));
+    }
+
+    @Test
+    @DisplayName("Pawn Table Returns the Structure It Cached")
+    void pawnTable() {
+        final Board board = Board.CreateInitialBoard();
+        final PawnTable pawnTable = new PawnTable();
+        final int score = pawnTable.evaluate(board.getBitBoard(), board.getPawnKey());
+        assertEquals(score, pawnTable.evaluate(board.getBitBoard(), board.getPawnKey()));
+        // Both sides have the same Pawns and shields in the initial position
+        assertEquals(0, score);
+    }
+
+    @Test
+    @DisplayName("Passed Pawns Score More With the Enemy King Far Away")
+    void passedPawnKings() {
+        // The same a6 passer, with Black's King in front of it and then across the board
+        final Board nearKing = FenUtils.CreateBoardFromFen("1k6/8/P7/8/8/8/8/4K3 w - - 0 1");
+        final Board farKing = FenUtils.CreateBoardFromFen("7k/8/P7/8/8/8/8/4K3 w - - 0 1");
+        final PawnTable pawnTable = new PawnTable();
+        final int nearScore = pawnTable.evaluate(nearKing.getBitBoard(), nearKing.getPawnKey());
+        final int farScore = pawnTable.evaluate(farKing.getBitBoard(), farKing.getPawnKey());
+        assertTrue(EndgameScore(farScore) > EndgameScore(nearScore));
+        // The cached King score follows the Kings of the position asked about
+        assertEquals(nearScore, pawnTable.evaluate(nearKing.getBitBoard(), nearKing.getPawnKey()));
+    }
+}
@@ -0,0 +1,45 @@
+package com.chess.tests;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.perft.Perft;
+import com.chess.engine.perft.PerftResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestPerft {
+
+    @Test
+    @DisplayName("Initial Board Leaf Counts")
+    void initialBoard() {
+        final Perft perft = new Perft(2, 1);
+        final PerftResult result = perft.run(Board.CreateInitialBoard(), 3);
+        assertEquals(8902, result.getLeafCount());
+        assertEquals(20, result.getDivide().size());
+        perft.shutdown();
+    }
+
+    @Test
+    @DisplayName("Castles, En Passant, and Promotions From FEN")
+    void fromFen() {
+        final Perft perft = new Perft(2, 1);
+        // "Kiwipete" and a promotion-heavy position, with their published counts
+        assertEquals(97862, perft.run("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1", 3)
+                                 .getLeafCount());
+        assertEquals(1486, perft.run("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8", 2)
+                                .getLeafCount());
+        perft.shutdown();
+    }
+
+    @Test
+    @DisplayName("Hashed Count Matches the Plain Count")
+    void hashTable() {
+        final Perft plainPerft = new Perft(1, 0);
+        final Perft hashedPerft = new Perft(2, 1);
+        final Board board = Board.CreateInitialBoard();
+        assertEquals(plainPerft.run(board, 4).getLeafCount(), hashedPerft.run(board, 4).getLeafCount());
+        plainPerft.shutdown();
+        hashedPerft.shutdown();
+    }
+}
@@ -2,6 +2,8 @@ package com.chess.tests;
 
 import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
+import com.chess.engine.board.move.Move;
+import com.chess.engine.board.move.Move.MoveFactory;
 import com.chess.engine.pieces.Piece;
 import com.chess.engine.pieces.Rook;
 import com.chess.engine.players.Player;
@@ -50,6 +52,13 @@ class TestPieces {
 
     @Test
     void movePiece() {
+        final Board board = Board.CreateInitialBoard();
+        final Move move = MoveFactory.createMove(board, 52, 36);
+        final Piece movedPawn = move.getMovedPiece().movePiece(move);
+        assertEquals(36, movedPawn.getPiecePosition());
+        assertFalse(movedPawn.isFirstMove());
+        // Pieces are shared, so the new board holds the very same Pawn
+        assertSame(movedPawn, move.execute().getTile(36).getPiece());
     }
 
     @Test
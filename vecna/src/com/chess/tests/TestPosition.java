@@ -0,0 +1,167 @@
+package com.chess.tests;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtils;
+import com.chess.engine.board.bitboard.KingSafety;
+import com.chess.engine.board.move.Move;
+import com.chess.engine.board.move.Move.MoveFactory;
+import com.chess.engine.board.move.MoveStatus;
+import com.chess.engine.board.move.MoveTransition;
+import com.chess.engine.board.move.misc.MajorMove;
+import com.chess.engine.board.position.EncodedMove;
+import com.chess.engine.board.position.MoveGenerator;
+import com.chess.engine.board.position.MoveList;
+import com.chess.engine.board.position.Position;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.players.Player;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestPosition {
+
+    @Test
+    @DisplayName("Initial Position Legal Moves")
+    void generateLegalMoves() {
+        final Position position = new Position(Board.CreateInitialBoard());
+        assertEquals(20, position.generateLegalMoves(new MoveList()));
+        assertFalse(position.isInCheck());
+    }
+
+    @Test
+    @DisplayName("Do Move Matches Move Execution")
+    void doMoveMatchesExecute() {
+        final Board board = Board.CreateInitialBoard();
+        for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
+            final MoveTransition transition = board.getCurrentPlayer().makeMove(move);
+            final Board transitionBoard = transition.getTransitionBoard();
+            // One ply deeper as well, so Black's replies are covered
+            for (final Move reply : transitionBoard.getCurrentPlayer().getLegalMoves()) {
+                final Board replyBoard = transitionBoard.getCurrentPlayer().makeMove(reply).getTransitionBoard();
+                final Position position = new Position(board);
+                position.doMove(EncodedMove.Encode(move));
+                position.doMove(EncodedMove.Encode(reply));
+                assertSamePosition(new Position(replyBoard), position);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Undo Move Restores the Position")
+    void undoMove() {
+        final Board board = Board.CreateInitialBoard();
+        final Position position = new Position(board);
+        final Position untouched = new Position(board);
+        final MoveList moves = new MoveList();
+        final int moveCount = position.generateLegalMoves(moves);
+        for (int i = 0; i < moveCount; i++) {
+            position.doMove(moves.get(i));
+            position.undoMove();
+            assertSamePosition(untouched, position);
+        }
+        assertEquals(board.getZobristKey(), position.getZobristKey());
+        assertEquals(0, position.getPly());
+    }
+
+    @Test
+    @DisplayName("Null Move Passes the Turn")
+    void doNullMove() {
+        // 1. e4 leaves an En Passant tile, which passing the turn gives up
+        final Board board = MoveFactory.createMove(Board.CreateInitialBoard(), 52, 36).execute();
+        final Position position = new Position(board);
+        final Position untouched = new Position(board);
+        position.doNullMove();
+        assertEquals(Alliance.WHITE, position.getSideToMove());
+        assertEquals(Position.NO_EN_PASSANT, position.getEnPassantTile());
+        assertEquals(EncodedMove.NO_MOVE, position.getLastMove());
+        assertNotEquals(board.getZobristKey(), position.getZobristKey());
+        position.undoNullMove();
+        assertSamePosition(untouched, position);
+        assertEquals(board.getZobristKey(), position.getZobristKey());
+    }
+
+    @Test
+    @DisplayName("Leaf Count Three Plies Deep")
+    void perft() {
+        assertEquals(8902, countLeaves(new Position(Board.CreateInitialBoard()), 3));
+    }
+
+    @Test
+    @DisplayName("En Passant Cannot Uncover the King")
+    void pinnedEnPassant() {
+        // Taking c5 En Passant would clear the fifth rank between the King and the Rook
+        final Board board = FenUtils.CreateBoardFromFen("8/8/8/K1pP3r/8/8/8/7k w - c6 0 1");
+        final MoveList moves = new MoveList();
+        final int moveCount = new Position(board).generateLegalMoves(moves);
+        for (int i = 0; i < moveCount; i++) {
+            assertNotEquals(EncodedMove.EN_PASSANT, EncodedMove.GetFlag(moves.get(i)));
+        }
+        assertEquals(board.getCurrentPlayer().getLegalMoves().size(), moveCount);
+    }
+
+    @Test
+    @DisplayName("Pinned Piece Moves Expose the King, Impossible Ones Are Illegal")
+    void pinnedPieceMoves() {
+        // The e2 Bishop is pinned to its King by the e8 Rook
+        final Board board = FenUtils.CreateBoardFromFen("k3r3/8/8/8/8/8/4B3/4K3 w - - 0 1");
+        final Piece bishop = board.getTile(52).getPiece();
+        final Player whitePlayer = board.getCurrentPlayer();
+        assertEquals(MoveStatus.IN_CHECK, whitePlayer.makeMove(new MajorMove(board, bishop, 43)).getMoveStatus());
+        // A Bishop cannot reach d4 from e2 at all
+        assertEquals(MoveStatus.ILLEGAL_MOVE,
+                     whitePlayer.makeMove(new MajorMove(board, bishop, 35)).getMoveStatus());
+    }
+
+    @Test
+    @DisplayName("Captures and Promotions Apart from Quiet Moves")
+    void generateStagedMoves() {
+        // The b7 Pawn promotes four ways and the e3 Pawn can take d4, which is everything noisy
+        final Position position = new Position(FenUtils.CreateBoardFromFen("4k3/1P6/8/8/3p4/4P3/8/4K3 w - - 0 1"));
+        final KingSafety kingSafety = position.calculateKingSafety();
+        final MoveList noisyMoves = new MoveList();
+        final MoveList quietMoves = new MoveList();
+        final MoveList legalMoves = new MoveList();
+        MoveGenerator.GenerateNoisyMoves(position, kingSafety, noisyMoves);
+        MoveGenerator.GenerateQuietMoves(position, kingSafety, quietMoves);
+        assertEquals(5, noisyMoves.size());
+        assertEquals(position.generateLegalMoves(legalMoves), noisyMoves.size() + quietMoves.size());
+        // Every legal move is found again from its short form, as a transposition table would store it
+        for (int i = 0; i < legalMoves.size(); i++) {
+            final int move = legalMoves.get(i);
+            assertEquals(move, MoveGenerator.FindLegalMove(position, kingSafety, EncodedMove.GetShortMove(move)));
+        }
+        assertEquals(EncodedMove.NO_MOVE, MoveGenerator.FindLegalMove(position, kingSafety, EncodedMove.GetShortMove(
+                EncodedMove.Create(60, 44, EncodedMove.QUIET, 5, EncodedMove.NO_PIECE))));
+    }
+
+    private static long countLeaves(final Position position, final int depth) {
+        final MoveList moves = new MoveList();
+        final int moveCount = position.generateLegalMoves(moves);
+        if (depth == 1) {
+            return moveCount;
+        }
+        long leaves = 0;
+        for (int i = 0; i < moveCount; i++) {
+            position.doMove(moves.get(i));
+            leaves += countLeaves(position, depth - 1);
+            position.undoMove();
+        }
+        return leaves;
+    }
+
+    private static void assertSamePosition(final Position expected, final Position actual) {
+        for (int i = 0; i < 64; i++) {
+            assertEquals(expected.getPieceIndex(i), actual.getPieceIndex(i));
+        }
+        assertEquals(expected.getBitBoard().getOccupancy(), actual.getBitBoard().getOccupancy());
+        assertEquals(expected.getSideToMove(), actual.getSideToMove());
+        assertEquals(expected.getCastlingRights(), actual.getCastlingRights());
+        assertEquals(expected.getEnPassantTile(), actual.getEnPassantTile());
+        assertEquals(expected.getZobristKey(), actual.getZobristKey());
+        assertEquals(expected.getPawnKey(), actual.getPawnKey());
+        assertEquals(expected.getPieceSquareScore(), actual.getPieceSquareScore());
+        assertEquals(expected.getPhase(), actual.getPhase());
+    }
+}
@@ -0,0 +1,81 @@
+package com.chess.tests;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtils;
+import com.chess.engine.pieces.King;
+import com.chess.engine.pieces.Pawn;
+import com.chess.engine.pieces.Rook;
+import com.chess.engine.search.ParallelSearch;
+import com.chess.engine.search.Search;
+import com.chess.engine.search.SearchLimits;
+import com.chess.engine.search.SearchResult;
+import com.chess.engine.search.TranspositionTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestSearch {
+
+    @Test
+    @DisplayName("Find a Back Rank Mate")
+    void mateInOne() {
+        final Board.Builder builder = new Board.Builder();
+        builder.setPiece(new King(Alliance.WHITE, 62));
+        builder.setPiece(new Rook(Alliance.WHITE, 56));
+        builder.setPiece(new King(Alliance.BLACK, 6));
+        builder.setPiece(new Pawn(Alliance.BLACK, 13));
+        builder.setPiece(new Pawn(Alliance.BLACK, 14));
+        builder.setPiece(new Pawn(Alliance.BLACK, 15));
+        builder.setMoveMaker(Alliance.WHITE);
+        final Board board = builder.build();
+
+        final SearchResult result = new Search(new TranspositionTable(1))
+                .search(board, new SearchLimits.Builder().setDepth(4).build());
+        assertEquals(0, result.getBestMove().getTargetPosition());
+        assertEquals(Search.MATE_SCORE - 1, result.getScore());
+    }
+
+    @Test
+    @DisplayName("Search Stops at the Node Limit")
+    void nodeLimit() {
+        final Board board = Board.CreateInitialBoard();
+        final SearchResult result = new Search(new TranspositionTable(1))
+                .search(board, new SearchLimits.Builder().setNodes(5000).build());
+        assertTrue(board.getCurrentPlayer().getLegalMoves().contains(result.getBestMove()));
+        assertTrue(result.getNodes() <= 5000);
+        assertFalse(result.getPrincipalVariation().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Search Stopped in Its First Iteration Keeps the Finished Move's Score")
+    void stoppedFirstIteration() {
+        // Rxd5 is searched first and wins the Queen; the node limit stops the search before the other moves
+        final Board board = FenUtils.CreateBoardFromFen("4k3/8/8/3q4/8/8/8/3RK3 w - - 0 1");
+        final SearchResult stoppedResult = new Search(new TranspositionTable(1))
+                .search(board, new SearchLimits.Builder().setNodes(5).build());
+        final SearchResult finishedResult = new Search(new TranspositionTable(1))
+                .search(board, new SearchLimits.Builder().setDepth(1).build());
+        assertEquals(0, stoppedResult.getDepth());
+        assertEquals(finishedResult.getBestMove(), stoppedResult.getBestMove());
+        assertEquals(finishedResult.getScore(), stoppedResult.getScore());
+    }
+
+    @Test
+    @DisplayName("Parallel Search Counts Every Thread's Nodes")
+    void parallelSearch() {
+        final Board board = Board.CreateInitialBoard();
+        final ParallelSearch search = new ParallelSearch(new TranspositionTable(1), 2);
+        try {
+            final SearchResult result = search.search(board, new SearchLimits.Builder().setDepth(4).build());
+            assertEquals(4, result.getDepth());
+            assertTrue(board.getCurrentPlayer().getLegalMoves().contains(result.getBestMove()));
+            final long[] threadNodes = search.getThreadNodes();
+            assertEquals(2, threadNodes.length);
+            assertEquals(threadNodes[0] + threadNodes[1], result.getNodes());
+        } finally {
+            search.shutdown();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.chess.tests;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.FenUtils;
+import com.chess.engine.board.move.Move.MoveFactory;
+import com.chess.engine.board.move.misc.AttackMove;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestStaticExchange {
+
+    @Test
+    @DisplayName("Undefended Piece Is Won Outright")
+    void undefendedCapture() {
+        final Board board = FenUtils.CreateBoardFromFen("4k3/8/8/3p4/4P3/8/8/4K3 w - - 0 1");
+        assertEquals(100, exchangeValue(board, 36, 27));
+    }
+
+    @Test
+    @DisplayName("Defended Pawn Costs the Rook")
+    void losingCapture() {
+        final Board board = FenUtils.CreateBoardFromFen("4k3/8/2p5/3p4/8/8/8/3RK3 w - - 0 1");
+        assertEquals(100 - 500, exchangeValue(board, 59, 27));
+    }
+
+    @Test
+    @DisplayName("Rook Behind a Rook Joins the Exchange")
+    void xRayCapture() {
+        // Without the d1 Rook recapturing through d2, Rxd5 Rxd5 would lose the exchange
+        final Board board = FenUtils.CreateBoardFromFen("3rk3/8/8/3p4/8/8/3R4/3RK3 w - - 0 1");
+        assertEquals(100, exchangeValue(board, 51, 27));
+    }
+
+    @Test
+    @DisplayName("King Cannot Recapture Into a Rook Behind It")
+    void kingRecaptureXRay() {
+        // Kxe2 would step onto the e-file the e8 Rook covers once the King has left e3
+        final Board board = FenUtils.CreateBoardFromFen("4R3/8/8/8/8/4k3/4n3/3Q2K1 w - - 0 1");
+        assertEquals(320, exchangeValue(board, 59, 52));
+    }
+
+    /**
+     * @param board           the board the capture is made on
+     * @param currentPosition where the capturing piece is
+     * @param targetPosition  where the captured piece is
+     * @return the static exchange value of the capture
+     */
+    private static int exchangeValue(final Board board, final int currentPosition, final int targetPosition) {
+        return ((AttackMove) MoveFactory.createMove(board, currentPosition, targetPosition)).calculateExchangeValue();
+    }
+}
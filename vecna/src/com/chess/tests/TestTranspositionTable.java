@@ -0,0 +1,53 @@
+package com.chess.tests;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.search.TranspositionTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.chess.engine.search.TranspositionTable.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestTranspositionTable {
+
+    @Test
+    @DisplayName("Store and Probe an Entry")
+    void storeAndProbe() {
+        final TranspositionTable table = new TranspositionTable(1);
+        final long key = Board.CreateInitialBoard().getZobristKey();
+        table.store(key, 0x1234, -250, 7, LOWER_BOUND);
+        final long entry = table.probe(key);
+        assertEquals(0x1234, GetMove(entry));
+        assertEquals(-250, GetScore(entry));
+        assertEquals(7, GetDepth(entry));
+        assertEquals(LOWER_BOUND, GetBound(entry));
+        assertEquals(NO_ENTRY, table.probe(key ^ 1L));
+    }
+
+    @Test
+    @DisplayName("Keep the Best Move of a Position")
+    void keepBestMove() {
+        final TranspositionTable table = new TranspositionTable(1);
+        final long key = Board.CreateInitialBoard().getZobristKey();
+        table.store(key, 0x1234, 30, 5, EXACT);
+        table.store(key, 0, 10, 6, UPPER_BOUND);
+        final long entry = table.probe(key);
+        assertEquals(0x1234, GetMove(entry));
+        assertEquals(6, GetDepth(entry));
+    }
+
+    @Test
+    @DisplayName("Replace the Shallowest Entry of a Full Bucket")
+    void replacement() {
+        final TranspositionTable table = new TranspositionTable(1);
+        // Keys that differ only above the bucket bits share a bucket
+        final long bucketStep = 1L << 40;
+        for (int i = 0; i < 4; i++) {
+            table.store(i * bucketStep, 1, 0, 10 - i, EXACT);
+        }
+        table.store(4 * bucketStep, 1, 0, 20, EXACT);
+        assertNotEquals(NO_ENTRY, table.probe(4 * bucketStep));
+        assertEquals(NO_ENTRY, table.probe(3 * bucketStep));
+        assertNotEquals(NO_ENTRY, table.probe(0));
+    }
+}